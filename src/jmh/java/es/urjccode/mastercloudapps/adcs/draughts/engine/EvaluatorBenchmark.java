@@ -0,0 +1,56 @@
+package es.urjccode.mastercloudapps.adcs.draughts.engine;
+
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import es.urjccode.mastercloudapps.adcs.draughts.models.Game;
+import es.urjccode.mastercloudapps.adcs.draughts.models.GameBuilder;
+
+// Leaf evaluation on its own, outside of any search: the incremental score against a full recount of the board.
+@Warmup(iterations = 3)
+@Measurement(iterations = 5)
+@Fork(1)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@State(Scope.Thread)
+public class EvaluatorBenchmark {
+
+    private Evaluator evaluator;
+
+    @Setup
+    public void setUp() {
+        Game game = new GameBuilder().seed(0).rows(
+            "        ",
+            " n n n n",
+            "n n n n ",
+            "   n    ",
+            "  b b   ",
+            "     b b",
+            " b b b b",
+            "b b b b ").build();
+        this.evaluator = new Evaluator(game, Weights.getDefault());
+        this.evaluator.attach();
+    }
+
+    @Benchmark
+    public int evaluate() {
+        return this.evaluator.evaluate();
+    }
+
+    @Benchmark
+    public int evaluateFromScratch() {
+        this.evaluator.attach();
+        return this.evaluator.evaluate();
+    }
+
+}
@@ -0,0 +1,73 @@
+package es.urjccode.mastercloudapps.adcs.draughts.engine;
+
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.AuxCounters;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+import es.urjccode.mastercloudapps.adcs.draughts.models.Game;
+
+// Each operation is a 200 ms search from the initial position; the auxiliary counter reports playouts per second.
+@Warmup(iterations = 2)
+@Measurement(iterations = 5)
+@Fork(1)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@State(Scope.Benchmark)
+public class MonteCarloBenchmark {
+
+    private static final int CAPACITY = 1 << 20;
+    private static final long MILLIS = 200;
+
+    @Param({ "1", "2", "4" })
+    private int threads;
+
+    @Param({ "true", "false" })
+    private boolean guided;
+
+    private MonteCarloSearch search;
+
+    @AuxCounters(AuxCounters.Type.OPERATIONS)
+    @State(Scope.Thread)
+    public static class Playouts {
+
+        public long playouts;
+
+        @Setup(Level.Iteration)
+        public void reset() {
+            this.playouts = 0;
+        }
+
+    }
+
+    @Setup
+    public void setUp() {
+        this.search = new MonteCarloSearch(new Game(0), MonteCarloBenchmark.CAPACITY, this.threads);
+        this.search.setGuided(this.guided);
+    }
+
+    @TearDown
+    public void tearDown() {
+        this.search.close();
+    }
+
+    @Benchmark
+    public int search(Playouts playouts) {
+        final MonteCarloResult result = this.search.search(Limits.millis(MonteCarloBenchmark.MILLIS));
+        playouts.playouts += result.getPlayouts();
+        return result.getMove();
+    }
+
+}
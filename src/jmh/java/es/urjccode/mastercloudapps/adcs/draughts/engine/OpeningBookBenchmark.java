@@ -0,0 +1,74 @@
+package es.urjccode.mastercloudapps.adcs.draughts.engine;
+
+import java.io.File;
+import java.io.IOException;
+import java.util.SplittableRandom;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+@Warmup(iterations = 3)
+@Measurement(iterations = 5)
+@Fork(1)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@State(Scope.Thread)
+public class OpeningBookBenchmark {
+
+    private static final int MOVES = 4;
+
+    @Param({ "1000", "1000000" })
+    private int positions;
+
+    private File file;
+    private OpeningBook openingBook;
+    private long[] keys;
+    private SplittableRandom random;
+    private int next;
+
+    @Setup
+    public void setUp() throws IOException {
+        OpeningBookBuilder builder = new OpeningBookBuilder(1);
+        SplittableRandom random = new SplittableRandom(0);
+        this.keys = new long[this.positions];
+        for (int i = 0; i < this.keys.length; i++) {
+            this.keys[i] = random.nextLong();
+            for (int move = 1; move <= OpeningBookBenchmark.MOVES; move++)
+                builder.add(this.keys[i], move, 1 + random.nextInt(100));
+        }
+        this.file = File.createTempFile("book", ".bin");
+        builder.write(this.file);
+        this.openingBook = new OpeningBook(this.file);
+        this.random = new SplittableRandom(1);
+        this.next = 0;
+    }
+
+    @TearDown
+    public void tearDown() {
+        this.file.delete();
+    }
+
+    @Benchmark
+    public int getMove() {
+        this.next = (this.next + 1) % this.keys.length;
+        return this.openingBook.getMove(this.keys[this.next], this.random);
+    }
+
+    @Benchmark
+    public int getMissingMove() {
+        this.next = (this.next + 1) % this.keys.length;
+        return this.openingBook.getMove(this.keys[this.next] + 1, this.random);
+    }
+
+}
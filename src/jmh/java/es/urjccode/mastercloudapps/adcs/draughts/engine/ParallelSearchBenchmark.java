@@ -0,0 +1,109 @@
+package es.urjccode.mastercloudapps.adcs.draughts.engine;
+
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.AuxCounters;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+import es.urjccode.mastercloudapps.adcs.draughts.models.Color;
+import es.urjccode.mastercloudapps.adcs.draughts.models.Game;
+import es.urjccode.mastercloudapps.adcs.draughts.models.GameBuilder;
+
+@Warmup(iterations = 2)
+@Measurement(iterations = 5)
+@Fork(1)
+@State(Scope.Benchmark)
+public class ParallelSearchBenchmark {
+
+    private static final int TABLE_MEGABYTES = 8;
+    private static final int DEPTH = 10;
+    private static final long MILLIS = 200;
+
+    private static final String[][] POSITIONS = {
+        {},
+        {
+            "        ",
+            " n n n n",
+            "n n n n ",
+            "   n    ",
+            "  b b   ",
+            "     b b",
+            " b b b b",
+            "b b b b " },
+        {
+            "        ",
+            "   n   n",
+            "  n n   ",
+            " b   n  ",
+            "    b   ",
+            "   b   b",
+            "  b     ",
+            "        " } };
+
+    @Param({ "1", "2", "4", "8", "16" })
+    private int threads;
+
+    @Param({ "0", "1", "2" })
+    private int position;
+
+    private TranspositionTable table;
+    private ParallelSearch parallelSearch;
+
+    @AuxCounters(AuxCounters.Type.OPERATIONS)
+    @State(Scope.Thread)
+    public static class Nodes {
+
+        public long nodes;
+
+        @Setup(Level.Iteration)
+        public void reset() {
+            this.nodes = 0;
+        }
+
+    }
+
+    @Setup
+    public void setup() {
+        Game game = new GameBuilder().color(Color.WHITE)
+            .rows(ParallelSearchBenchmark.POSITIONS[this.position]).build();
+        this.table = new TranspositionTable(ParallelSearchBenchmark.TABLE_MEGABYTES);
+        this.parallelSearch = new ParallelSearch(game, this.table, this.threads);
+    }
+
+    @TearDown
+    public void tearDown() {
+        this.parallelSearch.close();
+    }
+
+    @Benchmark
+    @BenchmarkMode(Mode.AverageTime)
+    @OutputTimeUnit(TimeUnit.MILLISECONDS)
+    public SearchResult timeToDepth(Nodes nodes) {
+        this.table.clear();
+        SearchResult result = this.parallelSearch.search(Limits.depth(ParallelSearchBenchmark.DEPTH));
+        nodes.nodes += result.getNodes();
+        return result;
+    }
+
+    @Benchmark
+    @BenchmarkMode(Mode.Throughput)
+    @OutputTimeUnit(TimeUnit.SECONDS)
+    public SearchResult nodesPerSecond(Nodes nodes) {
+        SearchResult result = this.parallelSearch.search(Limits.millis(ParallelSearchBenchmark.MILLIS));
+        nodes.nodes += result.getNodes();
+        return result;
+    }
+
+}
@@ -0,0 +1,79 @@
+package es.urjccode.mastercloudapps.adcs.draughts.journal;
+
+import java.io.File;
+import java.io.IOException;
+import java.nio.file.Files;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Threads;
+import org.openjdk.jmh.annotations.Warmup;
+
+import es.urjccode.mastercloudapps.adcs.draughts.models.Game;
+import es.urjccode.mastercloudapps.adcs.draughts.models.MoveBuffer;
+
+// Every iteration writes to a new journal, so the files of earlier ones do not pile up on disk.
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@State(Scope.Benchmark)
+public class JournalBenchmark {
+
+    private File directory;
+    private Journal journal;
+    private int move;
+
+    @Setup(Level.Iteration)
+    public void setUp() throws IOException {
+        this.directory = Files.createTempDirectory("journal").toFile();
+        this.journal = new Journal(this.directory);
+        MoveBuffer moves = new MoveBuffer();
+        new Game(0).generateMoves(moves);
+        this.move = moves.get(0);
+    }
+
+    @TearDown(Level.Iteration)
+    public void tearDown() {
+        this.journal.close();
+        JournalBenchmark.delete(this.directory);
+    }
+
+    static void delete(File directory) {
+        for (File file : directory.listFiles())
+            file.delete();
+        directory.delete();
+    }
+
+    @Benchmark
+    @Threads(1)
+    public long append() {
+        return this.journal.append(0, JournalSegment.MOVE, this.move, Game.NO_HUFF);
+    }
+
+    @Benchmark
+    @Threads(1)
+    public long appendAndSync() {
+        final long sequence = this.journal.append(0, JournalSegment.MOVE, this.move, Game.NO_HUFF);
+        this.journal.sync(sequence);
+        return sequence;
+    }
+
+    @Benchmark
+    @Threads(8)
+    public long appendAndSyncConcurrently() {
+        return this.appendAndSync();
+    }
+
+}
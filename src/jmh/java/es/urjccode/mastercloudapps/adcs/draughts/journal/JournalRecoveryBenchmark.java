@@ -0,0 +1,77 @@
+package es.urjccode.mastercloudapps.adcs.draughts.journal;
+
+import java.io.File;
+import java.io.IOException;
+import java.nio.file.Files;
+import java.util.Map;
+import java.util.SplittableRandom;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+import es.urjccode.mastercloudapps.adcs.draughts.models.Game;
+import es.urjccode.mastercloudapps.adcs.draughts.models.MoveBuffer;
+
+// Opens and plays back a journal of a million moves spread over a thousand games, as a restarting server would.
+@Warmup(iterations = 3)
+@Measurement(iterations = 5)
+@Fork(1)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@State(Scope.Thread)
+public class JournalRecoveryBenchmark {
+
+    private static final int MOVES = 1000000;
+    private static final int GAMES = 1000;
+
+    private File directory;
+
+    @Setup
+    public void setUp() throws IOException {
+        this.directory = Files.createTempDirectory("journal").toFile();
+        Journal journal = new Journal(this.directory);
+        SplittableRandom random = new SplittableRandom(0);
+        MoveBuffer moves = new MoveBuffer();
+        Game[] games = new Game[JournalRecoveryBenchmark.GAMES];
+        for (int i = 0; i < games.length; i++)
+            games[i] = new Game(i);
+        for (int i = 0; i < JournalRecoveryBenchmark.MOVES; i++) {
+            final int id = i % games.length;
+            final Game game = games[id];
+            game.generateMoves(moves);
+            final int move = moves.get(random.nextInt(moves.size()));
+            long huffs = game.getHuffs(move);
+            for (int j = Long.bitCount(huffs) == 0 ? 0 : random.nextInt(Long.bitCount(huffs)); j > 0; j--)
+                huffs &= huffs - 1;
+            final int huff = huffs == 0 ? Game.NO_HUFF : Long.numberOfTrailingZeros(huffs);
+            game.makeMove(move, huff);
+            journal.append(id, JournalSegment.MOVE, move, huff);
+            if (game.isBlocked()) {
+                game.reset();
+                journal.append(id, JournalSegment.RESET, 0, Game.NO_HUFF);
+            }
+        }
+        journal.close();
+    }
+
+    @TearDown
+    public void tearDown() {
+        JournalBenchmark.delete(this.directory);
+    }
+
+    @Benchmark
+    public Map<Integer, Game> recover() throws IOException {
+        return new Journal(this.directory).recover();
+    }
+
+}
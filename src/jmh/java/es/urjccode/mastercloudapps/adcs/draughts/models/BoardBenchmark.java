@@ -0,0 +1,55 @@
+package es.urjccode.mastercloudapps.adcs.draughts.models;
+
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Thread)
+public class BoardBenchmark {
+
+    private Board board;
+    private String format;
+    private int row;
+    private int column;
+
+    @Setup
+    public void setup() {
+        this.board = new Board();
+        for (int i = 0; i < Coordinate.getDimension(); i++)
+            for (int j = 0; j < Coordinate.getDimension(); j++)
+                this.board.put(Geometry.getSquare(i, j), Color.getInitialColor(Coordinate.getInstance(i, j)));
+        this.format = "65";
+        this.row = 5;
+        this.column = 4;
+    }
+
+    @Benchmark
+    public String boardToString() {
+        return this.board.toString();
+    }
+
+    @Benchmark
+    public Coordinate getInstanceFromFormat() {
+        return Coordinate.getInstance(this.format);
+    }
+
+    @Benchmark
+    public Coordinate getInstanceFromRowAndColumn() {
+        return Coordinate.getInstance(this.row, this.column);
+    }
+
+}
@@ -0,0 +1,114 @@
+package es.urjccode.mastercloudapps.adcs.draughts.models;
+
+import java.util.SplittableRandom;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Thread)
+public class GameBenchmark {
+
+    private static final long SEED = 0;
+
+    private static final Coordinate[] SIMPLE = {
+        Coordinate.getInstance(5, 0), Coordinate.getInstance(4, 1) };
+    private static final Coordinate[] REJECTED = {
+        Coordinate.getInstance(2, 1), Coordinate.getInstance(3, 0) };
+    private static final Coordinate[] CAPTURE = {
+        Coordinate.getInstance(5, 0), Coordinate.getInstance(3, 2) };
+    private static final Coordinate[] MULTI_JUMP = {
+        Coordinate.getInstance(5, 0), Coordinate.getInstance(3, 2), Coordinate.getInstance(1, 4) };
+
+    private Game initialGame;
+    private Game jumpsGame;
+
+    @Setup
+    public void setup() {
+        this.initialGame = new Game(GameBenchmark.SEED);
+        this.jumpsGame = GameBenchmark.getGame(
+            "        ",
+            "        ",
+            "   n    ",
+            "        ",
+            " n      ",
+            "b       ",
+            "        ",
+            "        ");
+    }
+
+    private static Game getGame(String... rows) {
+        Board board = new Board();
+        Game game = new Game(board, new SplittableRandom(GameBenchmark.SEED));
+        for (int i = 0; i < rows.length; i++)
+            for (int j = 0; j < rows[i].length(); j++)
+                if (rows[i].charAt(j) == 'b')
+                    board.put(Geometry.getSquare(i, j), Color.WHITE);
+                else if (rows[i].charAt(j) == 'n')
+                    board.put(Geometry.getSquare(i, j), Color.BLACK);
+        game.publish();
+        return game;
+    }
+
+    // Successful moves are undone in the same invocation so every call starts from the same position.
+
+    @Benchmark
+    public Error moveSimple() {
+        Error error = this.initialGame.move(GameBenchmark.SIMPLE);
+        this.initialGame.unmakeMove();
+        return error;
+    }
+
+    @Benchmark
+    public Error moveCapture() {
+        Error error = this.jumpsGame.move(GameBenchmark.CAPTURE);
+        this.jumpsGame.unmakeMove();
+        return error;
+    }
+
+    // A black piece moved on the turn of white, which is turned down before anything is played.
+    @Benchmark
+    public Error moveRejected() {
+        return this.initialGame.move(GameBenchmark.REJECTED);
+    }
+
+    @Benchmark
+    public Error moveMultiJump() {
+        Error error = this.jumpsGame.move(GameBenchmark.MULTI_JUMP);
+        this.jumpsGame.unmakeMove();
+        return error;
+    }
+
+    @Benchmark
+    public boolean isBlocked() {
+        return this.initialGame.isBlocked();
+    }
+
+    @Benchmark
+    public Game reset() {
+        this.initialGame.reset();
+        return this.initialGame;
+    }
+
+    // Cancelling empties one side, so the board is reset afterwards; subtract reset() to isolate it.
+    @Benchmark
+    public Game cancel() {
+        this.initialGame.cancel();
+        this.initialGame.reset();
+        return this.initialGame;
+    }
+
+}
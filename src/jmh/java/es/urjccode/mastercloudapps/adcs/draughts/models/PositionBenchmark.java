@@ -0,0 +1,84 @@
+package es.urjccode.mastercloudapps.adcs.draughts.models;
+
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Group;
+import org.openjdk.jmh.annotations.GroupThreads;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+// One thread plays while 64 spectators read the board, either from published snapshots or under the game's monitor.
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Group)
+public class PositionBenchmark {
+
+    private static final long SEED = 0;
+
+    private Game game;
+    private MoveBuffer moves;
+    private int plies;
+
+    @Setup
+    public void setup() {
+        this.game = new Game(PositionBenchmark.SEED);
+        this.moves = new MoveBuffer();
+        this.plies = 0;
+    }
+
+    private void play() {
+        this.game.generateMoves(this.moves);
+        if (this.moves.isEmpty())
+            this.game.reset();
+        else
+            this.game.move(Move.getCoordinates(this.moves.get(this.plies++ % this.moves.size())));
+    }
+
+    @Benchmark
+    @Group("snapshot")
+    @GroupThreads(1)
+    public Game snapshotWriter() {
+        this.play();
+        return this.game;
+    }
+
+    @Benchmark
+    @Group("snapshot")
+    @GroupThreads(64)
+    public long snapshotReader() {
+        final Position position = this.game.getPosition();
+        return position.getVersion() + position.getPieces(Color.WHITE) - position.getPieces(Color.BLACK);
+    }
+
+    @Benchmark
+    @Group("locked")
+    @GroupThreads(1)
+    public Game lockedWriter() {
+        synchronized (this.game) {
+            this.play();
+        }
+        return this.game;
+    }
+
+    @Benchmark
+    @Group("locked")
+    @GroupThreads(64)
+    public long lockedReader() {
+        synchronized (this.game) {
+            return this.game.positionKey() + Long.bitCount(this.game.getOccupancy(Color.WHITE))
+                - Long.bitCount(this.game.getOccupancy(Color.BLACK));
+        }
+    }
+
+}
@@ -0,0 +1,96 @@
+package es.urjccode.mastercloudapps.adcs.draughts.models;
+
+import java.nio.ByteBuffer;
+import java.util.SplittableRandom;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+
+// Compares the codec with the string form, the only other way a game is written out, over positions from random
+// play.
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Thread)
+public class PositionCodecBenchmark {
+
+    private static final int POSITIONS = 1024;
+
+    private Game[] games;
+    private Game[] decoded;
+    private ByteBuffer buffer;
+    private int next;
+
+    @Setup
+    public void setup() {
+        SplittableRandom random = new SplittableRandom(0);
+        MoveBuffer moves = new MoveBuffer();
+        Game game = new Game(0);
+        this.games = new Game[PositionCodecBenchmark.POSITIONS];
+        this.decoded = new Game[PositionCodecBenchmark.POSITIONS];
+        for (int i = 0; i < this.games.length; i++) {
+            game.generateMoves(moves);
+            if (moves.isEmpty())
+                game.reset();
+            else
+                game.makeMove(moves.get(random.nextInt(moves.size())));
+            this.games[i] = game.copy();
+            this.decoded[i] = new Game(0);
+        }
+        this.buffer = ByteBuffer.allocateDirect(PositionCodecBenchmark.POSITIONS * PositionCodec.BYTES);
+        PositionCodec.encode(this.games, this.buffer);
+        this.next = 0;
+    }
+
+    @Benchmark
+    public long encode() {
+        this.next = (this.next + 1) % this.games.length;
+        return PositionCodec.encode(this.games[this.next]);
+    }
+
+    @Benchmark
+    public Game decode() {
+        this.next = (this.next + 1) % this.games.length;
+        PositionCodec.decode(this.buffer.getLong(this.next * PositionCodec.BYTES), this.decoded[this.next]);
+        return this.decoded[this.next];
+    }
+
+    @Benchmark
+    public String toStringForm() {
+        this.next = (this.next + 1) % this.games.length;
+        return this.games[this.next].toString();
+    }
+
+    @Benchmark
+    public ByteBuffer encodeAll() {
+        this.buffer.clear();
+        PositionCodec.encode(this.games, this.buffer);
+        return this.buffer;
+    }
+
+    @Benchmark
+    public Game[] decodeAll() {
+        this.buffer.clear();
+        PositionCodec.decode(this.buffer, this.decoded);
+        return this.decoded;
+    }
+
+    @Benchmark
+    public void toStringFormAll(Blackhole blackhole) {
+        for (Game game : this.games)
+            blackhole.consume(game.toString());
+    }
+
+}
@@ -0,0 +1,82 @@
+package es.urjccode.mastercloudapps.adcs.draughts.views;
+
+import java.io.OutputStream;
+import java.io.PrintStream;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+import es.urjccode.mastercloudapps.adcs.draughts.controllers.PlayController;
+import es.urjccode.mastercloudapps.adcs.draughts.models.Coordinate;
+import es.urjccode.mastercloudapps.adcs.draughts.models.Game;
+import es.urjccode.mastercloudapps.adcs.draughts.utils.Console;
+
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Thread)
+public class ViewBenchmark {
+
+    private PrintStream out;
+    private GameView gameView;
+    private PlayController playController;
+    private String simpleMove;
+    private String multiJumpMove;
+
+    @Setup
+    public void setup() {
+        this.out = System.out;
+        System.setOut(new PrintStream(new OutputStream() {
+            @Override
+            public void write(int b) {
+            }
+
+            @Override
+            public void write(byte[] b, int off, int len) {
+            }
+        }));
+        this.gameView = new GameView(new Console());
+        this.playController = new PlayController(new Game(0),
+            new es.urjccode.mastercloudapps.adcs.draughts.models.State());
+        this.simpleMove = "65.54";
+        this.multiJumpMove = "61.43.25";
+    }
+
+    @TearDown
+    public void tearDown() {
+        System.setOut(this.out);
+    }
+
+    @Benchmark
+    public Coordinate[] parseSimpleMove() {
+        if (!MoveFormat.isMoveFormat(this.simpleMove))
+            return null;
+        return MoveFormat.getCoordinates(this.simpleMove);
+    }
+
+    @Benchmark
+    public Coordinate[] parseMultiJumpMove() {
+        if (!MoveFormat.isMoveFormat(this.multiJumpMove))
+            return null;
+        return MoveFormat.getCoordinates(this.multiJumpMove);
+    }
+
+    @Benchmark
+    public PlayController writeGame() {
+        this.gameView.write(this.playController);
+        return this.playController;
+    }
+
+}
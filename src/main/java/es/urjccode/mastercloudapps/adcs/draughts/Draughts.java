@@ -2,30 +2,40 @@ package es.urjccode.mastercloudapps.adcs.draughts;
 
 import es.urjccode.mastercloudapps.adcs.draughts.controllers.Logic;
 import es.urjccode.mastercloudapps.adcs.draughts.controllers.InteractorController;
+import es.urjccode.mastercloudapps.adcs.draughts.utils.Console;
 import es.urjccode.mastercloudapps.adcs.draughts.views.View;
 
-class Draughts {
+public class Draughts {
     
     private View view;
 
     private Logic logic;
 
-    private Draughts(){
-        this.view = new View();
-        this.logic = new Logic();
+    public Draughts(Console console, Logic logic){
+        assert logic != null;
+        this.view = new View(console);
+        this.logic = logic;
     }
 
-    private void play() {
+    public Draughts(Console console){
+        this(console, new Logic());
+    }
+
+    public void play() {
         InteractorController controller;
-		do {
-			controller = this.logic.getController();
-			if (controller != null)
-				this.view.interact(controller);
-		} while (controller != null); 
+		try {
+			do {
+				controller = this.logic.getController();
+				if (controller != null)
+					this.view.interact(controller);
+			} while (controller != null);
+		} finally {
+			this.logic.close();
+		}
     }
 
     public static void main(String[] args){
-        new Draughts().play();
+        new Draughts(new Console()).play();
     }
     
 }
\ No newline at end of file
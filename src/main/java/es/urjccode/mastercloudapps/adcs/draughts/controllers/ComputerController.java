@@ -0,0 +1,109 @@
+package es.urjccode.mastercloudapps.adcs.draughts.controllers;
+
+import java.util.SplittableRandom;
+
+import es.urjccode.mastercloudapps.adcs.draughts.engine.Limits;
+import es.urjccode.mastercloudapps.adcs.draughts.engine.MonteCarloResult;
+import es.urjccode.mastercloudapps.adcs.draughts.engine.MonteCarloSearch;
+import es.urjccode.mastercloudapps.adcs.draughts.engine.OpeningBook;
+import es.urjccode.mastercloudapps.adcs.draughts.engine.ParallelSearch;
+import es.urjccode.mastercloudapps.adcs.draughts.engine.SearchResult;
+import es.urjccode.mastercloudapps.adcs.draughts.engine.TranspositionTable;
+import es.urjccode.mastercloudapps.adcs.draughts.models.Coordinate;
+import es.urjccode.mastercloudapps.adcs.draughts.models.Game;
+import es.urjccode.mastercloudapps.adcs.draughts.models.Move;
+import es.urjccode.mastercloudapps.adcs.draughts.models.MoveBuffer;
+import es.urjccode.mastercloudapps.adcs.draughts.models.State;
+
+class ComputerController extends Controller {
+
+    private static final Limits LIMITS = Limits.millis(1000);
+    private static final int TABLE_MEGABYTES = 16;
+    private static final int MONTE_CARLO_NODES = 1 << 20;
+
+    private int threads;
+    private TranspositionTable table;
+    private ParallelSearch search;
+    private boolean monteCarlo;
+    private MonteCarloSearch monteCarloSearch;
+    private OpeningBook openingBook;
+    private SplittableRandom random;
+    private MoveBuffer moves;
+
+    protected ComputerController(Game game, State state) {
+        super(game, state);
+        this.threads = 1;
+        this.table = null;
+        this.search = null;
+        this.monteCarlo = false;
+        this.monteCarloSearch = null;
+        this.openingBook = null;
+        this.random = new SplittableRandom();
+        this.moves = new MoveBuffer();
+    }
+
+    public void setThreads(int threads) {
+        assert threads > 0;
+        this.close();
+        this.threads = threads;
+    }
+
+    // Stops the helper threads of the searches, which are built again if the computer is asked to move later.
+    public void close() {
+        if (this.search != null)
+            this.search.close();
+        this.search = null;
+        if (this.monteCarloSearch != null)
+            this.monteCarloSearch.close();
+        this.monteCarloSearch = null;
+    }
+
+    public void setMonteCarlo(boolean monteCarlo) {
+        this.monteCarlo = monteCarlo;
+    }
+
+    public void setOpeningBook(OpeningBook openingBook) {
+        this.openingBook = openingBook;
+    }
+
+    public SearchResult search(Limits limits) {
+        assert limits != null;
+        if (this.table == null)
+            this.table = new TranspositionTable(ComputerController.TABLE_MEGABYTES);
+        if (this.search == null)
+            this.search = new ParallelSearch(this.game, this.table, this.threads);
+        return this.search.search(limits);
+    }
+
+    public MonteCarloResult searchMonteCarlo(Limits limits) {
+        assert limits != null;
+        if (this.monteCarloSearch == null)
+            this.monteCarloSearch = new MonteCarloSearch(this.game, ComputerController.MONTE_CARLO_NODES, this.threads);
+        return this.monteCarloSearch.search(limits);
+    }
+
+    public Coordinate[] getMove() {
+        int move = this.getBookMove();
+        if (move == Move.NONE && this.monteCarlo)
+            move = this.searchMonteCarlo(ComputerController.LIMITS).getMove();
+        else if (move == Move.NONE)
+            move = this.search(ComputerController.LIMITS).getMove();
+        if (move == Move.NONE)
+            return null;
+        return Move.getCoordinates(move);
+    }
+
+    // Book moves are checked against the legal ones, as two positions could share a key.
+    private int getBookMove() {
+        if (this.openingBook == null)
+            return Move.NONE;
+        final int move = this.openingBook.getMove(this.game.positionKey(), this.random);
+        if (move == Move.NONE)
+            return Move.NONE;
+        this.game.generateMoves(this.moves);
+        if (!this.moves.contains(move))
+            return Move.NONE;
+        return move;
+    }
+
+}
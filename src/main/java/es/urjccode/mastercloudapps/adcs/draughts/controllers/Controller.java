@@ -3,6 +3,7 @@ package es.urjccode.mastercloudapps.adcs.draughts.controllers;
 import es.urjccode.mastercloudapps.adcs.draughts.models.Color;
 import es.urjccode.mastercloudapps.adcs.draughts.models.Coordinate;
 import es.urjccode.mastercloudapps.adcs.draughts.models.Game;
+import es.urjccode.mastercloudapps.adcs.draughts.models.Position;
 import es.urjccode.mastercloudapps.adcs.draughts.models.State;
 
 class Controller {
@@ -22,6 +23,14 @@ class Controller {
         return this.game.getColor(coordinate);
     }
 
+    public Position getPosition() {
+        return this.game.getPosition();
+    }
+
+    public Color getTurnColor() {
+        return this.game.getTurnColor();
+    }
+
     public int getDimension() {
         return this.game.getDimension();
     }
@@ -11,20 +11,32 @@ public class Logic {
 
 	private Game game;
 	private State state;
+	private PlayController playController;
 	private Map<StateValue, InteractorController> controllers;
 
-	public Logic() {
-		this.game = new Game();
+	public Logic(Game game) {
+		assert game != null;
+		this.game = game;
 		this.state = new State();
         this.controllers = new HashMap<StateValue, InteractorController>();
 		this.controllers.put(StateValue.INITIAL, new StartController(this.game, this.state));
-		this.controllers.put(StateValue.IN_GAME, new PlayController(this.game, this.state));
+		this.playController = new PlayController(this.game, this.state);
+		this.controllers.put(StateValue.IN_GAME, this.playController);
 		this.controllers.put(StateValue.FINAL, new ResumeController(this.game, this.state));
 		this.controllers.put(StateValue.EXIT, null);
 	}
 
+	public Logic() {
+		this(new Game());
+	}
+
 	public InteractorController getController() {
 		return this.controllers.get(this.state.getValueState());
     }
 
+	// Releases the threads the computer player may have started; the game itself needs no closing.
+	public void close() {
+		this.playController.close();
+	}
+
 }
@@ -1,5 +1,8 @@
 package es.urjccode.mastercloudapps.adcs.draughts.controllers;
 
+import es.urjccode.mastercloudapps.adcs.draughts.engine.Limits;
+import es.urjccode.mastercloudapps.adcs.draughts.engine.OpeningBook;
+import es.urjccode.mastercloudapps.adcs.draughts.engine.SearchResult;
 import es.urjccode.mastercloudapps.adcs.draughts.models.Color;
 import es.urjccode.mastercloudapps.adcs.draughts.models.Coordinate;
 import es.urjccode.mastercloudapps.adcs.draughts.models.State;
@@ -10,21 +13,47 @@ public class PlayController extends InteractorController {
 
 	private CancelController cancelController;
 	private MoveController moveController;
+	private ComputerController computerController;
 
 	public PlayController(Game game, State state) {
 		super(game, state);
 		this.cancelController = new CancelController(game, state);
 		this.moveController = new MoveController(game, state);
+		this.computerController = new ComputerController(game, state);
 	}
 
 	public Error move(Coordinate... coordinates) {
 		return this.moveController.move(coordinates);
 	}
 
+	public Coordinate[] getComputerMove() {
+		return this.computerController.getMove();
+	}
+
+	public SearchResult searchComputerMove(Limits limits) {
+		return this.computerController.search(limits);
+	}
+
+	public void setComputerThreads(int threads) {
+		this.computerController.setThreads(threads);
+	}
+
+	public void setComputerMonteCarlo(boolean monteCarlo) {
+		this.computerController.setMonteCarlo(monteCarlo);
+	}
+
+	public void setComputerOpeningBook(OpeningBook openingBook) {
+		this.computerController.setOpeningBook(openingBook);
+	}
+
 	public void cancel() {
 		this.cancelController.cancel();
 	}
 
+	public void close() {
+		this.computerController.close();
+	}
+
 	public Color getColor() {
 		return this.game.getTurnColor();
 	}
@@ -0,0 +1,14 @@
+package es.urjccode.mastercloudapps.adcs.draughts.engine;
+
+public enum Bound {
+    EXACT,
+    LOWER,
+    UPPER;
+
+    private static final Bound[] VALUES = Bound.values();
+
+    static Bound get(int ordinal) {
+        return Bound.VALUES[ordinal];
+    }
+
+}
@@ -0,0 +1,89 @@
+package es.urjccode.mastercloudapps.adcs.draughts.engine;
+
+import es.urjccode.mastercloudapps.adcs.draughts.models.BoardObserver;
+import es.urjccode.mastercloudapps.adcs.draughts.models.Color;
+import es.urjccode.mastercloudapps.adcs.draughts.models.Coordinate;
+import es.urjccode.mastercloudapps.adcs.draughts.models.Game;
+
+// Every term depends only on a piece's colour and square, so they are folded into one table per colour and the
+// score of each side is kept as a running sum that the board updates on every put.
+class Evaluator implements BoardObserver {
+
+    private static final Color[] COLORS = Color.values();
+    private static final int SQUARES = Coordinate.getDimension() * Coordinate.getDimension();
+    private static final int CENTRE_LOWER = 2;
+    private static final int CENTRE_UPPER = 5;
+
+    private Game game;
+    private int[][] tables;
+    private int[] sums;
+
+    Evaluator(Game game, Weights weights) {
+        assert game != null;
+        assert weights != null;
+        this.game = game;
+        this.tables = new int[Evaluator.COLORS.length][Evaluator.SQUARES];
+        for (Color color : Evaluator.COLORS)
+            for (int square = 0; square < Evaluator.SQUARES; square++)
+                this.tables[color.ordinal()][square] = Evaluator.getValue(weights, color, square);
+        this.sums = new int[Evaluator.COLORS.length];
+    }
+
+    private static int getValue(Weights weights, Color color, int square) {
+        final int row = square / Coordinate.getDimension();
+        final int column = square % Coordinate.getDimension();
+        int advance = row;
+        if (color == Color.WHITE)
+            advance = Coordinate.getDimension() - 1 - row;
+        int value = weights.getPiece() + advance * weights.getAdvance();
+        if (advance == 0)
+            value += weights.getBackRank();
+        if (Evaluator.isCentre(row) && Evaluator.isCentre(column))
+            value += weights.getCentre();
+        return value;
+    }
+
+    private static boolean isCentre(int index) {
+        return Evaluator.CENTRE_LOWER <= index && index <= Evaluator.CENTRE_UPPER;
+    }
+
+    void attach() {
+        this.game.setObserver(this);
+        for (Color color : Evaluator.COLORS) {
+            this.sums[color.ordinal()] = 0;
+            for (long occupancy = this.game.getOccupancy(color); occupancy != 0; occupancy &= occupancy - 1)
+                this.sums[color.ordinal()] += this.tables[color.ordinal()][Long.numberOfTrailingZeros(occupancy)];
+        }
+    }
+
+    void detach() {
+        this.game.setObserver(null);
+    }
+
+    @Override
+    public void update(int square, Color previous, Color color) {
+        if (previous != null)
+            this.sums[previous.ordinal()] -= this.tables[previous.ordinal()][square];
+        if (color != null)
+            this.sums[color.ordinal()] += this.tables[color.ordinal()][square];
+    }
+
+    // The mean value of the pieces of the side to move on the given squares, which is what a random huff among them
+    // costs it on average.
+    int getMeanValue(long squares) {
+        assert squares != 0;
+        final int[] table = this.tables[this.game.getTurnColor().ordinal()];
+        int sum = 0;
+        for (long remaining = squares; remaining != 0; remaining &= remaining - 1)
+            sum += table[Long.numberOfTrailingZeros(remaining)];
+        return sum / Long.bitCount(squares);
+    }
+
+    int evaluate() {
+        final int score = this.sums[Color.WHITE.ordinal()] - this.sums[Color.BLACK.ordinal()];
+        if (this.game.getTurnColor() == Color.WHITE)
+            return score;
+        return -score;
+    }
+
+}
@@ -0,0 +1,50 @@
+package es.urjccode.mastercloudapps.adcs.draughts.engine;
+
+public class Limits {
+
+    public static final int MAX_DEPTH = 64;
+    public static final long UNLIMITED = Long.MAX_VALUE;
+
+    private final int depth;
+    private final long millis;
+    private final long nodes;
+
+    public Limits(int depth, long millis, long nodes) {
+        assert 0 < depth && depth <= Limits.MAX_DEPTH;
+        assert millis > 0;
+        assert nodes > 0;
+        this.depth = depth;
+        this.millis = millis;
+        this.nodes = nodes;
+    }
+
+    public static Limits depth(int depth) {
+        return new Limits(depth, Limits.UNLIMITED, Limits.UNLIMITED);
+    }
+
+    public static Limits millis(long millis) {
+        return new Limits(Limits.MAX_DEPTH, millis, Limits.UNLIMITED);
+    }
+
+    public static Limits nodes(long nodes) {
+        return new Limits(Limits.MAX_DEPTH, Limits.UNLIMITED, nodes);
+    }
+
+    public int getDepth() {
+        return this.depth;
+    }
+
+    public long getMillis() {
+        return this.millis;
+    }
+
+    public long getNodes() {
+        return this.nodes;
+    }
+
+    boolean isExceeded(long nodes, long elapsedNanos) {
+        return nodes >= this.nodes
+            || (this.millis != Limits.UNLIMITED && elapsedNanos >= this.millis * 1000000L);
+    }
+
+}
@@ -0,0 +1,64 @@
+package es.urjccode.mastercloudapps.adcs.draughts.engine;
+
+import es.urjccode.mastercloudapps.adcs.draughts.models.Move;
+
+public class MonteCarloResult {
+
+    private final int move;
+    private final double winRate;
+    private final long playouts;
+    private final int nodes;
+    private final long elapsedNanos;
+
+    MonteCarloResult(int move, double winRate, long playouts, int nodes, long elapsedNanos) {
+        this.move = move;
+        this.winRate = winRate;
+        this.playouts = playouts;
+        this.nodes = nodes;
+        this.elapsedNanos = elapsedNanos;
+    }
+
+    public int getMove() {
+        return this.move;
+    }
+
+    public double getWinRate() {
+        return this.winRate;
+    }
+
+    public long getPlayouts() {
+        return this.playouts;
+    }
+
+    public int getNodes() {
+        return this.nodes;
+    }
+
+    public long getElapsedNanos() {
+        return this.elapsedNanos;
+    }
+
+    public long getPlayoutsPerSecond() {
+        if (this.elapsedNanos == 0)
+            return 0;
+        return this.playouts * 1000000000L / this.elapsedNanos;
+    }
+
+    public int getBytesPerNode() {
+        return MonteCarloSearch.BYTES_PER_NODE;
+    }
+
+    public long getMemory() {
+        return (long) this.nodes * MonteCarloSearch.BYTES_PER_NODE;
+    }
+
+    @Override
+    public String toString() {
+        String move = "none";
+        if (this.move != Move.NONE)
+            move = Move.toString(this.move);
+        return "move " + move + " winRate " + this.winRate + " playouts " + this.playouts + " nodes " + this.nodes
+            + " bytes/node " + MonteCarloSearch.BYTES_PER_NODE + " playouts/s " + this.getPlayoutsPerSecond();
+    }
+
+}
@@ -0,0 +1,280 @@
+package es.urjccode.mastercloudapps.adcs.draughts.engine;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.SplittableRandom;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.ThreadFactory;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicIntegerArray;
+import java.util.concurrent.atomic.AtomicLong;
+
+import es.urjccode.mastercloudapps.adcs.draughts.models.Color;
+import es.urjccode.mastercloudapps.adcs.draughts.models.Game;
+import es.urjccode.mastercloudapps.adcs.draughts.models.Move;
+import es.urjccode.mastercloudapps.adcs.draughts.models.MoveBuffer;
+
+// The tree lives in parallel arrays indexed by node, and the children of a node are consecutive. A huffing move has
+// one child per outcome: selection scores each move over all of its outcomes and then lets chance pick one, as the
+// game does. Threads share the tree; a visit is counted on the way down, so it weighs as a loss until its playout
+// comes back, which is the virtual loss that keeps threads apart.
+public class MonteCarloSearch {
+
+    public static final int BYTES_PER_NODE = Integer.BYTES + Byte.BYTES + Integer.BYTES + Short.BYTES + Integer.BYTES
+        + Integer.BYTES;
+
+    private static final int ROOT = 0;
+    private static final int UNEXPANDED = -1;
+    private static final int EXPANDING = -2;
+    private static final double EXPLORATION = 1.4;
+    private static final int MAX_PLIES = 512;
+
+    private Game game;
+    private int threads;
+    private boolean guided;
+    private int[] moves;
+    private byte[] huffs;
+    private AtomicIntegerArray firstChildren;
+    private short[] childCounts;
+    private AtomicIntegerArray visits;
+    private AtomicIntegerArray wins;
+    private AtomicInteger size;
+    private ExecutorService executorService;
+    private SplittableRandom random;
+
+    // With one thread, a seeded random and game make every search replayable.
+    public MonteCarloSearch(Game game, int capacity, int threads, SplittableRandom random) {
+        assert game != null;
+        assert capacity > 0;
+        assert threads > 0;
+        assert random != null;
+        this.game = game;
+        this.threads = threads;
+        this.guided = true;
+        this.moves = new int[capacity];
+        this.huffs = new byte[capacity];
+        this.firstChildren = new AtomicIntegerArray(capacity);
+        this.childCounts = new short[capacity];
+        this.visits = new AtomicIntegerArray(capacity);
+        this.wins = new AtomicIntegerArray(capacity);
+        this.size = new AtomicInteger();
+        this.random = random;
+        this.executorService = null;
+        if (threads > 1)
+            this.executorService = Executors.newFixedThreadPool(threads - 1, new ThreadFactory() {
+                @Override
+                public Thread newThread(Runnable runnable) {
+                    Thread thread = new Thread(runnable, "playout-helper");
+                    thread.setDaemon(true);
+                    return thread;
+                }
+            });
+    }
+
+    public MonteCarloSearch(Game game, int capacity, int threads) {
+        this(game, capacity, threads, new SplittableRandom());
+    }
+
+    // Guided playouts capture whenever they can; unguided ones pick any move at random.
+    public void setGuided(boolean guided) {
+        this.guided = guided;
+    }
+
+    public int getThreads() {
+        return this.threads;
+    }
+
+    public MonteCarloResult search(final Limits limits) {
+        assert limits != null;
+        final long start = System.nanoTime();
+        this.size.set(1);
+        this.moves[MonteCarloSearch.ROOT] = Move.NONE;
+        this.huffs[MonteCarloSearch.ROOT] = Game.NO_HUFF;
+        this.firstChildren.set(MonteCarloSearch.ROOT, MonteCarloSearch.UNEXPANDED);
+        this.visits.set(MonteCarloSearch.ROOT, 0);
+        this.wins.set(MonteCarloSearch.ROOT, 0);
+        final AtomicLong playouts = new AtomicLong();
+        List<Future<Void>> futures = new ArrayList<Future<Void>>();
+        for (int i = 1; i < this.threads; i++) {
+            final Game game = this.game.copy();
+            final SplittableRandom random = this.random.split();
+            futures.add(this.executorService.submit(new Callable<Void>() {
+                @Override
+                public Void call() {
+                    MonteCarloSearch.this.run(game, random, limits, playouts, start);
+                    return null;
+                }
+            }));
+        }
+        this.run(this.game, this.random, limits, playouts, start);
+        for (Future<Void> future : futures)
+            this.waitFor(future);
+        return this.getResult(playouts.get() - this.threads, System.nanoTime() - start);
+    }
+
+    private void waitFor(Future<Void> future) {
+        try {
+            future.get();
+        } catch (InterruptedException ex) {
+            Thread.currentThread().interrupt();
+        } catch (ExecutionException ex) {
+            throw new IllegalStateException(ex.getCause());
+        }
+    }
+
+    // Every thread leaves after one failed claim, so the counter ends one over per thread.
+    private void run(Game game, SplittableRandom random, Limits limits, AtomicLong playouts, long start) {
+        MoveBuffer moves = new MoveBuffer();
+        int[] path = new int[MonteCarloSearch.MAX_PLIES];
+        while (!limits.isExceeded(playouts.getAndIncrement(), System.nanoTime() - start))
+            this.iterate(game, random, moves, path);
+    }
+
+    private void iterate(Game game, SplittableRandom random, MoveBuffer moves, int[] path) {
+        final Color color = game.getTurnColor();
+        int node = MonteCarloSearch.ROOT;
+        int length = 0;
+        path[length++] = node;
+        this.visits.incrementAndGet(node);
+        while (true) {
+            int first = this.firstChildren.get(node);
+            if (first == MonteCarloSearch.UNEXPANDED)
+                first = this.expand(game, moves, node);
+            if (first < 0 || this.childCounts[node] == 0)
+                break;
+            node = this.select(random, node, first);
+            game.makeMove(this.moves[node], this.huffs[node]);
+            path[length++] = node;
+            this.visits.incrementAndGet(node);
+        }
+        final int plies = this.playout(game, random, moves);
+        final Color winner = game.getTurnColor().getOpposite();
+        for (int i = 0; i < plies + length - 1; i++)
+            game.unmakeMove();
+        for (int i = 1; i < length; i++)
+            if ((i % 2 == 1) == (color == winner))
+                this.wins.incrementAndGet(path[i]);
+    }
+
+    // Only one thread expands a node; the others play out from it meanwhile. A full pool leaves leaves unexpanded.
+    private int expand(Game game, MoveBuffer moves, int node) {
+        if (!this.firstChildren.compareAndSet(node, MonteCarloSearch.UNEXPANDED, MonteCarloSearch.EXPANDING))
+            return MonteCarloSearch.EXPANDING;
+        game.generateMoves(moves);
+        int count = 0;
+        for (int i = 0; i < moves.size(); i++)
+            count += Math.max(1, Long.bitCount(game.getHuffs(moves.get(i))));
+        final int first = this.size.getAndAdd(count);
+        if (first + count > this.moves.length) {
+            this.firstChildren.set(node, MonteCarloSearch.UNEXPANDED);
+            return MonteCarloSearch.UNEXPANDED;
+        }
+        int child = first;
+        for (int i = 0; i < moves.size(); i++) {
+            long outcomes = game.getHuffs(moves.get(i));
+            do {
+                this.moves[child] = moves.get(i);
+                this.huffs[child] = (byte) (outcomes == 0 ? Game.NO_HUFF : Long.numberOfTrailingZeros(outcomes));
+                this.firstChildren.set(child, MonteCarloSearch.UNEXPANDED);
+                this.childCounts[child] = 0;
+                this.visits.set(child, 0);
+                this.wins.set(child, 0);
+                child++;
+                outcomes &= outcomes - 1;
+            } while (outcomes != 0);
+        }
+        this.childCounts[node] = (short) count;
+        this.firstChildren.set(node, first);
+        return first;
+    }
+
+    private int select(SplittableRandom random, int node, int first) {
+        final double logVisits = Math.log(Math.max(1, this.visits.get(node)));
+        final int end = first + this.childCounts[node];
+        int best = first;
+        int bestEnd = first;
+        double bestScore = Double.NEGATIVE_INFINITY;
+        for (int i = first; i < end;) {
+            int j = i;
+            int visits = 0;
+            int wins = 0;
+            for (; j < end && this.moves[j] == this.moves[i]; j++) {
+                visits += this.visits.get(j);
+                wins += this.wins.get(j);
+            }
+            double score = Double.POSITIVE_INFINITY;
+            if (visits > 0)
+                score = (double) wins / visits + MonteCarloSearch.EXPLORATION * Math.sqrt(logVisits / visits);
+            if (score > bestScore) {
+                best = i;
+                bestEnd = j;
+                bestScore = score;
+            }
+            i = j;
+        }
+        return best + random.nextInt(bestEnd - best);
+    }
+
+    private int playout(Game game, SplittableRandom random, MoveBuffer moves) {
+        int plies = 0;
+        game.generateMoves(moves);
+        while (!moves.isEmpty()) {
+            game.makeMove(this.getPlayoutMove(game, random, moves));
+            plies++;
+            game.generateMoves(moves);
+        }
+        return plies;
+    }
+
+    private int getPlayoutMove(Game game, SplittableRandom random, MoveBuffer moves) {
+        if (this.guided && game.isCaptureAvailable()) {
+            int captures = 0;
+            for (int i = 0; i < moves.size(); i++)
+                if (Move.isCapture(moves.get(i)))
+                    captures++;
+            int chosen = random.nextInt(captures);
+            for (int i = 0; i < moves.size(); i++)
+                if (Move.isCapture(moves.get(i)) && chosen-- == 0)
+                    return moves.get(i);
+        }
+        return moves.get(random.nextInt(moves.size()));
+    }
+
+    private MonteCarloResult getResult(long playouts, long elapsedNanos) {
+        final int first = this.firstChildren.get(MonteCarloSearch.ROOT);
+        int bestMove = Move.NONE;
+        int bestVisits = -1;
+        int bestWins = 0;
+        if (first >= 0) {
+            final int end = first + this.childCounts[MonteCarloSearch.ROOT];
+            for (int i = first; i < end;) {
+                int j = i;
+                int visits = 0;
+                int wins = 0;
+                for (; j < end && this.moves[j] == this.moves[i]; j++) {
+                    visits += this.visits.get(j);
+                    wins += this.wins.get(j);
+                }
+                if (visits > bestVisits) {
+                    bestMove = this.moves[i];
+                    bestVisits = visits;
+                    bestWins = wins;
+                }
+                i = j;
+            }
+        }
+        final double winRate = bestVisits > 0 ? (double) bestWins / bestVisits : 0;
+        return new MonteCarloResult(bestMove, winRate, playouts, Math.min(this.size.get(), this.moves.length),
+            elapsedNanos);
+    }
+
+    public void close() {
+        if (this.executorService != null)
+            this.executorService.shutdownNow();
+    }
+
+}
@@ -0,0 +1,90 @@
+package es.urjccode.mastercloudapps.adcs.draughts.engine;
+
+import java.io.File;
+import java.io.IOException;
+import java.io.RandomAccessFile;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.util.SplittableRandom;
+
+import es.urjccode.mastercloudapps.adcs.draughts.models.Move;
+
+// Records of position key, move and weight, sorted by key and then move. Lookups binary search the mapping directly,
+// so they neither load the book onto the heap nor allocate.
+public class OpeningBook {
+
+    static final int RECORD_BYTES = 16;
+    static final int MOVE_OFFSET = 8;
+    static final int WEIGHT_OFFSET = 12;
+
+    private MappedByteBuffer buffer;
+    private int size;
+
+    public OpeningBook(File file) throws IOException {
+        assert file != null;
+        RandomAccessFile randomAccessFile = new RandomAccessFile(file, "r");
+        try {
+            final long length = randomAccessFile.length();
+            if (length % OpeningBook.RECORD_BYTES != 0 || length > Integer.MAX_VALUE)
+                throw new IOException("Bad opening book length " + file);
+            this.buffer = randomAccessFile.getChannel().map(FileChannel.MapMode.READ_ONLY, 0, length);
+            this.size = (int) (length / OpeningBook.RECORD_BYTES);
+        } finally {
+            randomAccessFile.close();
+        }
+    }
+
+    public int size() {
+        return this.size;
+    }
+
+    public int getMove(long key, SplittableRandom random) {
+        assert random != null;
+        final int first = this.getFirst(key);
+        long total = 0;
+        for (int i = first; i < this.size && this.getKey(i) == key; i++)
+            total += this.getWeight(i);
+        if (total == 0)
+            return Move.NONE;
+        long chosen = random.nextLong(total);
+        int i = first;
+        while (chosen >= this.getWeight(i)) {
+            chosen -= this.getWeight(i);
+            i++;
+        }
+        return this.getMove(i);
+    }
+
+    public long getWeight(long key, int move) {
+        for (int i = this.getFirst(key); i < this.size && this.getKey(i) == key; i++)
+            if (this.getMove(i) == move)
+                return this.getWeight(i);
+        return 0;
+    }
+
+    private int getFirst(long key) {
+        int low = 0;
+        int high = this.size;
+        while (low < high) {
+            final int middle = (low + high) >>> 1;
+            if (this.getKey(middle) < key)
+                low = middle + 1;
+            else
+                high = middle;
+        }
+        return low;
+    }
+
+    private long getKey(int record) {
+        return this.buffer.getLong(record * OpeningBook.RECORD_BYTES);
+    }
+
+    private int getMove(int record) {
+        return this.buffer.getInt(record * OpeningBook.RECORD_BYTES + OpeningBook.MOVE_OFFSET);
+    }
+
+    private int getWeight(int record) {
+        return this.buffer.getInt(record * OpeningBook.RECORD_BYTES + OpeningBook.WEIGHT_OFFSET);
+    }
+
+}
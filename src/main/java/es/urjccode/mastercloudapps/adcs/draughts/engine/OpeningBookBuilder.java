@@ -0,0 +1,102 @@
+package es.urjccode.mastercloudapps.adcs.draughts.engine;
+
+import java.io.BufferedOutputStream;
+import java.io.DataOutputStream;
+import java.io.File;
+import java.io.FileOutputStream;
+import java.io.IOException;
+import java.util.Map;
+import java.util.SplittableRandom;
+import java.util.TreeMap;
+
+import es.urjccode.mastercloudapps.adcs.draughts.models.Color;
+import es.urjccode.mastercloudapps.adcs.draughts.models.Game;
+import es.urjccode.mastercloudapps.adcs.draughts.models.MoveBuffer;
+
+// The weight of a book move is the number of games won by the side that played it. Self-play games open with a few
+// random plies, otherwise every game would follow the same line.
+public class OpeningBookBuilder {
+
+    private static final int RANDOM_PLIES = 2;
+    private static final int TABLE_MEGABYTES = 16;
+
+    private int plies;
+    private Map<Long, Map<Integer, Long>> weights;
+
+    public OpeningBookBuilder(int plies) {
+        assert plies > 0;
+        this.plies = plies;
+        this.weights = new TreeMap<Long, Map<Integer, Long>>();
+    }
+
+    public static void main(String[] args) throws IOException {
+        if (args.length < 4) {
+            System.err.println("Usage: OpeningBookBuilder <file> <games> <plies> <depth>");
+            return;
+        }
+        OpeningBookBuilder builder = new OpeningBookBuilder(Integer.parseInt(args[2]));
+        final Limits limits = Limits.depth(Integer.parseInt(args[3]));
+        for (int i = 0; i < Integer.parseInt(args[1]); i++)
+            builder.play(i, limits);
+        builder.write(new File(args[0]));
+    }
+
+    public void add(long key, int move, long weight) {
+        assert weight >= 0;
+        Map<Integer, Long> moves = this.weights.get(key);
+        if (moves == null) {
+            moves = new TreeMap<Integer, Long>();
+            this.weights.put(key, moves);
+        }
+        Long previous = moves.get(move);
+        if (previous == null)
+            previous = 0L;
+        moves.put(move, previous + weight);
+    }
+
+    public void play(long seed, Limits limits) {
+        assert limits != null;
+        Game game = new Game(seed);
+        SplittableRandom random = new SplittableRandom(seed);
+        Search search = new Search(game, new TranspositionTable(OpeningBookBuilder.TABLE_MEGABYTES));
+        MoveBuffer moves = new MoveBuffer();
+        long[] keys = new long[this.plies];
+        int[] bookMoves = new int[this.plies];
+        Color[] colors = new Color[this.plies];
+        int ply = 0;
+        game.generateMoves(moves);
+        while (!moves.isEmpty()) {
+            int move = moves.get(random.nextInt(moves.size()));
+            if (ply >= OpeningBookBuilder.RANDOM_PLIES)
+                move = search.search(limits).getMove();
+            if (ply < this.plies) {
+                keys[ply] = game.positionKey();
+                bookMoves[ply] = move;
+                colors[ply] = game.getTurnColor();
+            }
+            game.makeMove(move);
+            ply++;
+            game.generateMoves(moves);
+        }
+        final Color winner = game.getTurnColor().getOpposite();
+        for (int i = 0; i < Math.min(ply, this.plies); i++)
+            this.add(keys[i], bookMoves[i], colors[i] == winner ? 1 : 0);
+    }
+
+    public void write(File file) throws IOException {
+        assert file != null;
+        DataOutputStream outputStream = new DataOutputStream(new BufferedOutputStream(new FileOutputStream(file)));
+        try {
+            for (Map.Entry<Long, Map<Integer, Long>> position : this.weights.entrySet())
+                for (Map.Entry<Integer, Long> move : position.getValue().entrySet())
+                    if (move.getValue() > 0) {
+                        outputStream.writeLong(position.getKey());
+                        outputStream.writeInt(move.getKey());
+                        outputStream.writeInt((int) Math.min(move.getValue(), Integer.MAX_VALUE));
+                    }
+        } finally {
+            outputStream.close();
+        }
+    }
+
+}
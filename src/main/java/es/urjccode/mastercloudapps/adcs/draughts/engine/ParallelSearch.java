@@ -0,0 +1,124 @@
+package es.urjccode.mastercloudapps.adcs.draughts.engine;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.ThreadFactory;
+
+import es.urjccode.mastercloudapps.adcs.draughts.models.Color;
+import es.urjccode.mastercloudapps.adcs.draughts.models.Game;
+
+// Lazy SMP: helper threads search copies of the position without coordination, sharing only the table. Their
+// stored entries steer the main thread, whose result is the one returned; one thread searches on the caller. The
+// helpers and their games are kept from one search to the next, and only the position is copied before each.
+public class ParallelSearch {
+
+    private Game game;
+    private TranspositionTable table;
+    private int threads;
+    private Search search;
+    private Game[] helperGames;
+    private Search[] helpers;
+    private ExecutorService executorService;
+
+    public ParallelSearch(Game game, TranspositionTable table, int threads) {
+        assert game != null;
+        assert table != null;
+        assert threads > 0;
+        this.game = game;
+        this.table = table;
+        this.threads = threads;
+        this.search = new Search(game, table);
+        this.helperGames = new Game[threads - 1];
+        this.helpers = new Search[threads - 1];
+        for (int i = 0; i < this.helpers.length; i++) {
+            this.helperGames[i] = game.copy();
+            this.helpers[i] = new Search(this.helperGames[i], table);
+        }
+        this.executorService = null;
+        if (threads > 1)
+            this.executorService = Executors.newFixedThreadPool(threads - 1, new ThreadFactory() {
+                @Override
+                public Thread newThread(Runnable runnable) {
+                    Thread thread = new Thread(runnable, "search-helper");
+                    thread.setDaemon(true);
+                    return thread;
+                }
+            });
+    }
+
+    public SearchResult search(Limits limits) {
+        assert limits != null;
+        if (this.threads == 1)
+            return this.search.search(limits);
+        this.table.newSearch();
+        final long start = System.nanoTime();
+        final long whites = this.game.getOccupancy(Color.WHITE);
+        final long blacks = this.game.getOccupancy(Color.BLACK);
+        List<Future<SearchResult>> futures = new ArrayList<Future<SearchResult>>();
+        for (int i = 0; i < this.helpers.length; i++) {
+            this.helperGames[i].setPosition(whites, blacks, this.game.getTurnColor());
+            final Search helper = this.helpers[i];
+            helper.resume();
+            final Limits helperLimits = new Limits(limits.getDepth(), Limits.UNLIMITED, Limits.UNLIMITED);
+            final int firstDepth = Math.min(1 + (i + 1) % 2, limits.getDepth());
+            futures.add(this.executorService.submit(new Callable<SearchResult>() {
+                @Override
+                public SearchResult call() {
+                    return helper.search(helperLimits, firstDepth);
+                }
+            }));
+        }
+        SearchResult result = this.search.search(limits, 1);
+        for (Search helper : this.helpers)
+            helper.abort();
+        long nodes = result.getNodes();
+        long quiescenceNodes = result.getQuiescenceNodes();
+        for (Future<SearchResult> future : futures) {
+            final SearchResult helperResult = this.getResult(future);
+            if (helperResult != null) {
+                nodes += helperResult.getNodes();
+                quiescenceNodes += helperResult.getQuiescenceNodes();
+            }
+        }
+        return new SearchResult(result.getMove(), result.getScore(), result.getDepth(), nodes, quiescenceNodes,
+            System.nanoTime() - start);
+    }
+
+    private SearchResult getResult(Future<SearchResult> future) {
+        try {
+            return future.get();
+        } catch (InterruptedException ex) {
+            Thread.currentThread().interrupt();
+            return null;
+        } catch (ExecutionException ex) {
+            throw new IllegalStateException(ex.getCause());
+        }
+    }
+
+    public void setQuiescence(boolean quiescence) {
+        this.search.setQuiescence(quiescence);
+        for (Search helper : this.helpers)
+            helper.setQuiescence(quiescence);
+    }
+
+    public void setTablebase(Tablebase tablebase) {
+        this.search.setTablebase(tablebase);
+        for (Search helper : this.helpers)
+            helper.setTablebase(tablebase);
+    }
+
+    public int getThreads() {
+        return this.threads;
+    }
+
+    public void close() {
+        if (this.executorService != null)
+            this.executorService.shutdownNow();
+    }
+
+}
@@ -0,0 +1,230 @@
+package es.urjccode.mastercloudapps.adcs.draughts.engine;
+
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.RecursiveTask;
+
+import es.urjccode.mastercloudapps.adcs.draughts.models.Color;
+import es.urjccode.mastercloudapps.adcs.draughts.models.Coordinate;
+import es.urjccode.mastercloudapps.adcs.draughts.models.Game;
+import es.urjccode.mastercloudapps.adcs.draughts.models.Move;
+import es.urjccode.mastercloudapps.adcs.draughts.models.MoveBuffer;
+
+// Counts the leaves of the game tree to a fixed depth. Each outcome of a huffing move is a child of its own, as in
+// the search, so the counts check move generation, make and unmake together.
+public class Perft {
+
+    private static final String ROW_SEPARATOR = "/";
+    private static final String TURN_SEPARATOR = ":";
+
+    private Game game;
+    private PerftTable table;
+    private MoveBuffer[] moves;
+
+    public Perft(Game game) {
+        this(game, (PerftTable) null);
+    }
+
+    public Perft(Game game, int hashMegabytes) {
+        this(game, new PerftTable(hashMegabytes));
+    }
+
+    private Perft(Game game, PerftTable table) {
+        assert game != null;
+        this.game = game;
+        this.table = table;
+        this.moves = new MoveBuffer[0];
+    }
+
+    public static void main(String[] args) {
+        if (args.length < 1) {
+            System.err.println("Usage: Perft <depth> [--threads=N] [--hash=MB] [--divide] [--position=ROWS:COLOR]");
+            return;
+        }
+        final int depth = Integer.parseInt(args[0]);
+        int threads = 1;
+        int hashMegabytes = 0;
+        boolean divide = false;
+        Game game = new Game();
+        for (int i = 1; i < args.length; i++) {
+            if (args[i].startsWith("--threads="))
+                threads = Integer.parseInt(args[i].substring("--threads=".length()));
+            else if (args[i].startsWith("--hash="))
+                hashMegabytes = Integer.parseInt(args[i].substring("--hash=".length()));
+            else if (args[i].equals("--divide"))
+                divide = true;
+            else if (args[i].startsWith("--position="))
+                game = Perft.getGame(args[i].substring("--position=".length()));
+            else
+                throw new IllegalArgumentException("Unknown option " + args[i]);
+        }
+        Perft perft = hashMegabytes > 0 ? new Perft(game, hashMegabytes) : new Perft(game);
+        ForkJoinPool pool = new ForkJoinPool(threads);
+        try {
+            final int first = divide ? depth : 1;
+            for (int i = first; i <= depth; i++) {
+                final long start = System.nanoTime();
+                final Map<Integer, Long> counts = perft.divide(i, pool);
+                final long elapsedNanos = Math.max(System.nanoTime() - start, 1);
+                long nodes = 0;
+                for (Map.Entry<Integer, Long> count : counts.entrySet()) {
+                    if (divide)
+                        System.out.println(Move.toString(count.getKey()) + " " + count.getValue());
+                    nodes += count.getValue();
+                }
+                System.out.println("depth " + i + " nodes " + nodes + " time " + elapsedNanos / 1000000 + " ms nps "
+                    + nodes * 1000000000L / elapsedNanos);
+            }
+        } finally {
+            pool.shutdown();
+        }
+    }
+
+    // Eight rows from the top, separated by slashes, with b for white, n for black and any other character for an
+    // empty square, then a colon and b or n for the side to move.
+    public static Game getGame(String position) {
+        assert position != null;
+        final String[] parts = position.split(Perft.TURN_SEPARATOR);
+        final String[] rows = parts[0].split(Perft.ROW_SEPARATOR);
+        if (rows.length != Coordinate.getDimension())
+            throw new IllegalArgumentException("Bad position " + position);
+        long whites = 0;
+        long blacks = 0;
+        for (int row = 0; row < rows.length; row++) {
+            if (rows[row].length() != Coordinate.getDimension())
+                throw new IllegalArgumentException("Bad position " + position);
+            for (int column = 0; column < Coordinate.getDimension(); column++) {
+                final long mask = 1L << (row * Coordinate.getDimension() + column);
+                if (rows[row].charAt(column) == 'b')
+                    whites |= mask;
+                else if (rows[row].charAt(column) == 'n')
+                    blacks |= mask;
+            }
+        }
+        Color color = Color.WHITE;
+        if (parts.length > 1 && parts[1].equals("n"))
+            color = Color.BLACK;
+        Game game = new Game();
+        game.setPosition(whites, blacks, color);
+        return game;
+    }
+
+    public long perft(int depth) {
+        assert depth >= 0;
+        this.ensureCapacity(depth);
+        return this.count(depth, 0);
+    }
+
+    public long perft(int depth, ForkJoinPool pool) {
+        long nodes = 0;
+        for (long count : this.divide(depth, pool).values())
+            nodes += count;
+        return nodes;
+    }
+
+    public Map<Integer, Long> divide(int depth) {
+        assert depth > 0;
+        this.ensureCapacity(depth);
+        Map<Integer, Long> counts = new LinkedHashMap<Integer, Long>();
+        MoveBuffer moves = this.moves[0];
+        this.game.generateMoves(moves);
+        for (int i = 0; i < moves.size(); i++)
+            counts.put(moves.get(i), this.count(moves.get(i), depth, 0));
+        return counts;
+    }
+
+    // Root moves, and each outcome of a huffing one, are counted as separate tasks on copies of the game.
+    public Map<Integer, Long> divide(int depth, ForkJoinPool pool) {
+        assert depth > 0;
+        assert pool != null;
+        MoveBuffer moves = new MoveBuffer();
+        this.game.generateMoves(moves);
+        List<RecursiveTask<Long>> tasks = new ArrayList<RecursiveTask<Long>>();
+        for (int i = 0; i < moves.size(); i++) {
+            final long huffs = this.game.getHuffs(moves.get(i));
+            if (huffs == 0)
+                tasks.add(this.getTask(moves.get(i), Game.NO_HUFF, depth));
+            for (long outcomes = huffs; outcomes != 0; outcomes &= outcomes - 1)
+                tasks.add(this.getTask(moves.get(i), Long.numberOfTrailingZeros(outcomes), depth));
+        }
+        for (RecursiveTask<Long> task : tasks)
+            pool.execute(task);
+        Map<Integer, Long> counts = new LinkedHashMap<Integer, Long>();
+        int task = 0;
+        for (int i = 0; i < moves.size(); i++) {
+            long count = 0;
+            for (int outcomes = Math.max(1, Long.bitCount(this.game.getHuffs(moves.get(i)))); outcomes > 0;
+                outcomes--)
+                count += tasks.get(task++).join();
+            counts.put(moves.get(i), count);
+        }
+        return counts;
+    }
+
+    private RecursiveTask<Long> getTask(final int move, final int huff, final int depth) {
+        final Game game = this.game.copy();
+        final PerftTable table = this.table;
+        return new RecursiveTask<Long>() {
+
+            private static final long serialVersionUID = 1L;
+
+            @Override
+            protected Long compute() {
+                game.makeMove(move, huff);
+                return new Perft(game, table).perft(depth - 1);
+            }
+
+        };
+    }
+
+    private void ensureCapacity(int depth) {
+        if (this.moves.length > depth)
+            return;
+        this.moves = new MoveBuffer[depth + 1];
+        for (int i = 0; i < this.moves.length; i++)
+            this.moves[i] = new MoveBuffer();
+    }
+
+    private long count(int depth, int ply) {
+        if (depth == 0)
+            return 1;
+        final long key = this.game.positionKey();
+        if (this.table != null && depth > 1) {
+            final long count = this.table.probe(key, depth);
+            if (count != PerftTable.MISS)
+                return count;
+        }
+        MoveBuffer moves = this.moves[ply];
+        this.game.generateMoves(moves);
+        long nodes = 0;
+        for (int i = 0; i < moves.size(); i++)
+            nodes += this.count(moves.get(i), depth, ply);
+        if (this.table != null && depth > 1)
+            this.table.store(key, depth, nodes);
+        return nodes;
+    }
+
+    // At the last ply the children are counted without being made.
+    private long count(int move, int depth, int ply) {
+        long huffs = this.game.getHuffs(move);
+        if (depth == 1)
+            return Math.max(1, Long.bitCount(huffs));
+        if (huffs == 0) {
+            this.game.makeMove(move, Game.NO_HUFF);
+            final long nodes = this.count(depth - 1, ply + 1);
+            this.game.unmakeMove();
+            return nodes;
+        }
+        long nodes = 0;
+        for (; huffs != 0; huffs &= huffs - 1) {
+            this.game.makeMove(move, Long.numberOfTrailingZeros(huffs));
+            nodes += this.count(depth - 1, ply + 1);
+            this.game.unmakeMove();
+        }
+        return nodes;
+    }
+
+}
@@ -0,0 +1,42 @@
+package es.urjccode.mastercloudapps.adcs.draughts.engine;
+
+// Sub-tree counts by position key and depth. As in the transposition table, threads share it without locks and a
+// torn entry is caught because the key is stored xored with its data.
+class PerftTable {
+
+    static final long MISS = -1;
+
+    private static final int ENTRY_BYTES = 16;
+    private static final int DEPTH_BITS = 8;
+    private static final long DEPTH_MASK = (1L << PerftTable.DEPTH_BITS) - 1;
+
+    private long[] keys;
+    private long[] datas;
+    private int mask;
+
+    PerftTable(int megabytes) {
+        assert megabytes > 0;
+        final int entries = Integer.highestOneBit((int) Math.min(
+            (long) megabytes * 1024 * 1024 / PerftTable.ENTRY_BYTES, 1 << 30));
+        this.keys = new long[entries];
+        this.datas = new long[entries];
+        this.mask = entries - 1;
+    }
+
+    long probe(long key, int depth) {
+        final int index = (int) key & this.mask;
+        final long data = this.datas[index];
+        if ((this.keys[index] ^ data) != key || (data & PerftTable.DEPTH_MASK) != depth)
+            return PerftTable.MISS;
+        return data >>> PerftTable.DEPTH_BITS;
+    }
+
+    void store(long key, int depth, long count) {
+        assert 0 < depth && depth <= PerftTable.DEPTH_MASK;
+        final int index = (int) key & this.mask;
+        final long data = count << PerftTable.DEPTH_BITS | depth;
+        this.datas[index] = data;
+        this.keys[index] = key ^ data;
+    }
+
+}
@@ -0,0 +1,27 @@
+package es.urjccode.mastercloudapps.adcs.draughts.engine;
+
+public enum ReplacementPolicy {
+    ALWAYS,
+    DEPTH,
+    AGE_AND_DEPTH;
+
+    private static final int AGE_WEIGHT = 8;
+
+    int getPriority(int depth, int ageDistance) {
+        switch (this) {
+            case ALWAYS:
+                return 0;
+            case DEPTH:
+                return depth;
+            default:
+                return depth - ageDistance * ReplacementPolicy.AGE_WEIGHT;
+        }
+    }
+
+    boolean isReplaceable(int depth, int ageDistance, int newDepth) {
+        if (this == ReplacementPolicy.DEPTH)
+            return newDepth >= depth || ageDistance > 0;
+        return true;
+    }
+
+}
@@ -0,0 +1,345 @@
+package es.urjccode.mastercloudapps.adcs.draughts.engine;
+
+import es.urjccode.mastercloudapps.adcs.draughts.models.Game;
+import es.urjccode.mastercloudapps.adcs.draughts.models.Move;
+import es.urjccode.mastercloudapps.adcs.draughts.models.MoveBuffer;
+
+public class Search {
+
+    public static final int WIN = 1000000;
+
+    private static final int MAX_SCORE = Search.WIN;
+    private static final int CHECK_PERIOD = 1024;
+    private static final int FIRST_SCORE = Integer.MAX_VALUE;
+    private static final int CAPTURE_SCORE = Integer.MAX_VALUE / 2;
+    private static final int SQUARES = 64;
+    private static final int TABLE_MEGABYTES = 16;
+    private static final int QUIESCENCE_PLIES = 32;
+    private static final int MAX_PLY = Limits.MAX_DEPTH + Search.QUIESCENCE_PLIES;
+    private static final int TABLEBASE_SCORE = Search.WIN / 100;
+
+    private Game game;
+    private TranspositionTable table;
+    private Evaluator evaluator;
+    private Tablebase tablebase;
+    private MoveBuffer[] moves;
+    private int[] history;
+    private Limits limits;
+    private long start;
+    private long nodes;
+    private long quiescenceNodes;
+    private boolean quiescence;
+    private boolean stopped;
+    private volatile boolean aborted;
+
+    public Search(Game game, TranspositionTable table) {
+        assert game != null;
+        assert table != null;
+        this.game = game;
+        this.table = table;
+        this.evaluator = new Evaluator(game, Weights.getDefault());
+        this.moves = new MoveBuffer[Search.MAX_PLY + 1];
+        for (int i = 0; i < this.moves.length; i++)
+            this.moves[i] = new MoveBuffer();
+        this.history = new int[Search.SQUARES * Search.SQUARES];
+        this.quiescence = true;
+        this.tablebase = null;
+    }
+
+    public Search(Game game) {
+        this(game, new TranspositionTable(Search.TABLE_MEGABYTES));
+    }
+
+    public static boolean isWin(int score) {
+        return score >= Search.WIN - Search.MAX_PLY;
+    }
+
+    public static boolean isLoss(int score) {
+        return score <= -Search.WIN + Search.MAX_PLY;
+    }
+
+    public void setQuiescence(boolean quiescence) {
+        this.quiescence = quiescence;
+    }
+
+    public void setTablebase(Tablebase tablebase) {
+        this.tablebase = tablebase;
+    }
+
+    public SearchResult search(Limits limits) {
+        this.table.newSearch();
+        return this.search(limits, 1);
+    }
+
+    // The evaluator follows the board only while searching, so the moves played between searches do not pay for it.
+    SearchResult search(Limits limits, int firstDepth) {
+        assert limits != null;
+        assert 0 < firstDepth && firstDepth <= limits.getDepth();
+        this.evaluator.attach();
+        try {
+            return this.deepen(limits, firstDepth);
+        } finally {
+            this.evaluator.detach();
+        }
+    }
+
+    private SearchResult deepen(Limits limits, int firstDepth) {
+        this.limits = limits;
+        this.start = System.nanoTime();
+        this.nodes = 0;
+        this.quiescenceNodes = 0;
+        this.stopped = false;
+        for (int i = 0; i < this.history.length; i++)
+            this.history[i] /= 2;
+        MoveBuffer rootMoves = this.moves[0];
+        this.game.generateMoves(rootMoves);
+        if (rootMoves.isEmpty())
+            return new SearchResult(Move.NONE, -Search.WIN, 0, 0, 0, System.nanoTime() - this.start);
+        int bestMove = Move.NONE;
+        int bestScore = 0;
+        int completedDepth = 0;
+        for (int depth = firstDepth; depth <= limits.getDepth() && !this.stopped; depth++) {
+            this.sort(rootMoves, bestMove);
+            int alpha = -Search.MAX_SCORE;
+            int iterationMove = Move.NONE;
+            for (int i = 0; i < rootMoves.size() && !this.stopped; i++) {
+                final int move = rootMoves.get(i);
+                final int score = this.evaluate(move, depth, alpha, Search.MAX_SCORE, 0);
+                if (!this.stopped && (iterationMove == Move.NONE || score > alpha)) {
+                    alpha = score;
+                    iterationMove = move;
+                }
+            }
+            if (!this.stopped) {
+                bestMove = iterationMove;
+                bestScore = alpha;
+                completedDepth = depth;
+                if (Search.isWin(bestScore) || Search.isLoss(bestScore) || rootMoves.size() == 1)
+                    break;
+            }
+        }
+        if (bestMove == Move.NONE)
+            bestMove = rootMoves.get(0);
+        return new SearchResult(bestMove, bestScore, completedDepth, this.nodes, this.quiescenceNodes,
+            System.nanoTime() - this.start);
+    }
+
+    void abort() {
+        this.aborted = true;
+    }
+
+    // Cleared before a search is handed to another thread rather than when it starts, so an abort that comes
+    // before the thread does is not lost.
+    void resume() {
+        this.aborted = false;
+    }
+
+    private boolean isStopped() {
+        this.nodes++;
+        if (this.aborted || this.limits.isExceeded(this.nodes, 0)
+            || (this.nodes % Search.CHECK_PERIOD == 0
+                && this.limits.isExceeded(this.nodes, System.nanoTime() - this.start)))
+            this.stopped = true;
+        return this.stopped;
+    }
+
+    private int negamax(int depth, int alpha, int beta, int ply) {
+        if (this.isStopped())
+            return 0;
+        if (this.tablebase != null) {
+            final int value = this.tablebase.probe(this.game);
+            if (value != Tablebase.UNKNOWN)
+                return Search.fromTablebase(value, ply);
+        }
+        final long key = this.game.positionKey();
+        final long entry = this.table.probe(key);
+        int hashMove = Move.NONE;
+        if (entry != TranspositionTable.MISS) {
+            hashMove = TranspositionTable.getMove(entry);
+            if (TranspositionTable.getDepth(entry) >= depth) {
+                final int score = Search.fromTable(TranspositionTable.getScore(entry), ply);
+                final Bound bound = TranspositionTable.getBound(entry);
+                if (bound == Bound.EXACT)
+                    return score;
+                if (bound == Bound.LOWER && score >= beta)
+                    return beta;
+                if (bound == Bound.UPPER && score <= alpha)
+                    return alpha;
+            }
+        }
+        MoveBuffer moves = this.moves[ply];
+        this.game.generateMoves(moves);
+        if (moves.isEmpty())
+            return -Search.WIN + ply;
+        if (depth == 0) {
+            if (this.quiescence)
+                return this.quiesce(moves, alpha, beta, ply);
+            return this.evaluator.evaluate();
+        }
+        this.sort(moves, hashMove);
+        int bestMove = Move.NONE;
+        Bound bound = Bound.UPPER;
+        for (int i = 0; i < moves.size(); i++) {
+            final int move = moves.get(i);
+            final int score = this.evaluate(move, depth, alpha, beta, ply);
+            if (this.stopped)
+                return 0;
+            if (score >= beta) {
+                if (!Move.isCapture(move))
+                    this.history[this.getHistoryIndex(move)] += depth * depth;
+                this.table.store(key, move, Search.toTable(beta, ply), depth, Bound.LOWER);
+                return beta;
+            }
+            if (score > alpha) {
+                alpha = score;
+                bestMove = move;
+                bound = Bound.EXACT;
+            }
+        }
+        this.table.store(key, bestMove, Search.toTable(alpha, ply), depth, bound);
+        return alpha;
+    }
+
+    private int quiesce(int alpha, int beta, int ply) {
+        this.quiescenceNodes++;
+        if (this.isStopped())
+            return 0;
+        MoveBuffer moves = this.moves[ply];
+        this.game.generateMoves(moves);
+        if (moves.isEmpty())
+            return -Search.WIN + ply;
+        return this.quiesce(moves, alpha, beta, ply);
+    }
+
+    // Only captures are searched past the horizon, and the side to move may instead stand pat by playing a quiet
+    // move. While a capture is available a quiet move costs a random one of the other pieces that could have
+    // captured, so standing pat is worth the static evaluation less the least expected loss of a quiet move, and is
+    // not possible at all when every move captures. A capture never leaves a huffing outcome behind, so there are
+    // no chance nodes.
+    private int quiesce(MoveBuffer moves, int alpha, int beta, int ply) {
+        final int standPat = this.getStandPat(moves);
+        if (standPat >= beta)
+            return beta;
+        if (standPat > alpha)
+            alpha = standPat;
+        if (ply == Search.MAX_PLY)
+            return alpha;
+        for (int i = 0; i < moves.size(); i++) {
+            final int move = moves.get(i);
+            if (Move.isCapture(move)) {
+                this.game.makeMove(move, Game.NO_HUFF);
+                final int score = -this.quiesce(-beta, -alpha, ply + 1);
+                this.game.unmakeMove();
+                if (this.stopped)
+                    return 0;
+                if (score >= beta)
+                    return beta;
+                if (score > alpha)
+                    alpha = score;
+            }
+        }
+        return alpha;
+    }
+
+    private int getStandPat(MoveBuffer moves) {
+        final int score = this.evaluator.evaluate();
+        if (!this.game.isCaptureAvailable())
+            return score;
+        int loss = Search.MAX_SCORE;
+        for (int i = 0; i < moves.size() && loss > 0; i++) {
+            final int move = moves.get(i);
+            if (!Move.isCapture(move)) {
+                final long huffs = this.game.getHuffs(move);
+                loss = Math.min(loss, huffs == 0 ? 0 : this.evaluator.getMeanValue(huffs));
+            }
+        }
+        if (loss == Search.MAX_SCORE)
+            return -Search.MAX_SCORE;
+        return score - loss;
+    }
+
+    // Certain results keep their distance to the end of the game; expected ones are scaled below any win or loss.
+    private static int fromTablebase(int value, int ply) {
+        if (Tablebase.isWin(value))
+            return Search.WIN - ply - Tablebase.getDistance(value);
+        if (Tablebase.isLoss(value))
+            return -Search.WIN + ply + Tablebase.getDistance(value);
+        return (int) ((long) value * Search.TABLEBASE_SCORE / Tablebase.CERTAINTY);
+    }
+
+    // Win and loss scores count plies from the root, so the table keeps them relative to the stored position.
+    private static int toTable(int score, int ply) {
+        if (Search.isWin(score))
+            return score + ply;
+        if (Search.isLoss(score))
+            return score - ply;
+        return score;
+    }
+
+    private static int fromTable(int score, int ply) {
+        if (Search.isWin(score))
+            return score - ply;
+        if (Search.isLoss(score))
+            return score + ply;
+        return score;
+    }
+
+    // A move that could have captured is followed by the random removal of one of the pieces that could have
+    // captured, so its value is the average over those outcomes, pruned with the Star1 bounds.
+    private int evaluate(int move, int depth, int alpha, int beta, int ply) {
+        long huffs = this.game.getHuffs(move);
+        if (huffs == 0) {
+            this.game.makeMove(move, Game.NO_HUFF);
+            final int score = -this.negamax(depth - 1, -beta, -alpha, ply + 1);
+            this.game.unmakeMove();
+            return score;
+        }
+        final int outcomes = Long.bitCount(huffs);
+        int sum = 0;
+        for (int i = 0; huffs != 0; i++, huffs &= huffs - 1) {
+            final int remaining = outcomes - i - 1;
+            final int lower = outcomes * alpha - sum - Search.MAX_SCORE * remaining;
+            final int upper = outcomes * beta - sum + Search.MAX_SCORE * remaining;
+            this.game.makeMove(move, Long.numberOfTrailingZeros(huffs));
+            final int score = -this.negamax(depth - 1, -Math.min(upper, Search.MAX_SCORE),
+                -Math.max(lower, -Search.MAX_SCORE), ply + 1);
+            this.game.unmakeMove();
+            if (score <= lower)
+                return alpha;
+            if (score >= upper)
+                return beta;
+            sum += score;
+        }
+        return sum / outcomes;
+    }
+
+    private void sort(MoveBuffer moves, int first) {
+        for (int i = 0; i < moves.size() - 1; i++) {
+            int best = i;
+            int bestScore = this.getOrderScore(moves.get(i), first);
+            for (int j = i + 1; j < moves.size(); j++) {
+                final int score = this.getOrderScore(moves.get(j), first);
+                if (score > bestScore) {
+                    best = j;
+                    bestScore = score;
+                }
+            }
+            final int move = moves.get(i);
+            moves.set(i, moves.get(best));
+            moves.set(best, move);
+        }
+    }
+
+    private int getOrderScore(int move, int first) {
+        if (move == first)
+            return Search.FIRST_SCORE;
+        if (Move.isCapture(move))
+            return Search.CAPTURE_SCORE + Move.getLength(move);
+        return this.history[this.getHistoryIndex(move)];
+    }
+
+    private int getHistoryIndex(int move) {
+        return Move.getOrigin(move) * Search.SQUARES + Move.getTarget(move);
+    }
+
+}
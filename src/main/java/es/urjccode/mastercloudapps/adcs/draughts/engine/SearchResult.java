@@ -0,0 +1,62 @@
+package es.urjccode.mastercloudapps.adcs.draughts.engine;
+
+import es.urjccode.mastercloudapps.adcs.draughts.models.Move;
+
+public class SearchResult {
+
+    private final int move;
+    private final int score;
+    private final int depth;
+    private final long nodes;
+    private final long quiescenceNodes;
+    private final long elapsedNanos;
+
+    SearchResult(int move, int score, int depth, long nodes, long quiescenceNodes, long elapsedNanos) {
+        this.move = move;
+        this.score = score;
+        this.depth = depth;
+        this.nodes = nodes;
+        this.quiescenceNodes = quiescenceNodes;
+        this.elapsedNanos = elapsedNanos;
+    }
+
+    public int getMove() {
+        return this.move;
+    }
+
+    public int getScore() {
+        return this.score;
+    }
+
+    public int getDepth() {
+        return this.depth;
+    }
+
+    public long getNodes() {
+        return this.nodes;
+    }
+
+    public long getQuiescenceNodes() {
+        return this.quiescenceNodes;
+    }
+
+    public long getElapsedNanos() {
+        return this.elapsedNanos;
+    }
+
+    public long getNodesPerSecond() {
+        if (this.elapsedNanos == 0)
+            return 0;
+        return this.nodes * 1000000000L / this.elapsedNanos;
+    }
+
+    @Override
+    public String toString() {
+        String move = "none";
+        if (this.move != Move.NONE)
+            move = Move.toString(this.move);
+        return "move " + move + " score " + this.score + " depth " + this.depth + " nodes " + this.nodes
+            + " qnodes " + this.quiescenceNodes + " nps " + this.getNodesPerSecond();
+    }
+
+}
@@ -0,0 +1,129 @@
+package es.urjccode.mastercloudapps.adcs.draughts.engine;
+
+import java.io.File;
+import java.io.IOException;
+
+import es.urjccode.mastercloudapps.adcs.draughts.models.Color;
+import es.urjccode.mastercloudapps.adcs.draughts.models.Game;
+
+// Values are seen by the side to move. A certain result is WIN minus the plies to the end of the game, or its
+// negation for a loss; with huffing some results depend on chance, and those are the expected result scaled so that
+// it stays strictly between -CERTAINTY and CERTAINTY. Games always end, as pieces only move forward, so there are no
+// draws. Black to move is stored as the rotated position with white to move, which halves the files.
+public class Tablebase {
+
+    public static final int WIN = Short.MAX_VALUE;
+    public static final int UNKNOWN = Integer.MIN_VALUE;
+
+    static final int MAX_DISTANCE = 255;
+    static final int CERTAINTY = Tablebase.WIN - Tablebase.MAX_DISTANCE - 1;
+    static final short UNSOLVED = 0;
+
+    private static final String EXTENSION = ".tb";
+
+    private int pieces;
+    private TablebaseIndex[][] indexes;
+    private TablebaseFile[][] files;
+
+    Tablebase(int pieces) {
+        assert 0 < pieces && pieces <= TablebaseIndex.SQUARES;
+        this.pieces = pieces;
+        this.indexes = new TablebaseIndex[pieces + 1][pieces + 1];
+        this.files = new TablebaseFile[pieces + 1][pieces + 1];
+        for (int movers = 1; movers <= pieces; movers++)
+            for (int opponents = 0; movers + opponents <= pieces; opponents++)
+                this.indexes[movers][opponents] = new TablebaseIndex(movers, opponents);
+    }
+
+    public Tablebase(File directory, int pieces) throws IOException {
+        this(pieces);
+        for (int movers = 1; movers <= pieces; movers++)
+            for (int opponents = 0; movers + opponents <= pieces; opponents++)
+                this.setFile(movers, opponents, new TablebaseFile(Tablebase.getFile(directory, movers, opponents),
+                    this.getIndex(movers, opponents).getSize(), false));
+    }
+
+    static File getFile(File directory, int movers, int opponents) {
+        return new File(directory, Tablebase.getName(movers, opponents) + Tablebase.EXTENSION);
+    }
+
+    static String getName(int movers, int opponents) {
+        return movers + "-" + opponents;
+    }
+
+    public static boolean isWin(int value) {
+        return value > Tablebase.CERTAINTY;
+    }
+
+    public static boolean isLoss(int value) {
+        return value < -Tablebase.CERTAINTY;
+    }
+
+    public static int getDistance(int value) {
+        assert Tablebase.isWin(value) || Tablebase.isLoss(value);
+        return Tablebase.WIN - Math.abs(value);
+    }
+
+    // The probability of winning mapped from [0, 1] to [-CERTAINTY, CERTAINTY].
+    public static int getExpectation(int value) {
+        if (Tablebase.isWin(value))
+            return Tablebase.CERTAINTY;
+        if (Tablebase.isLoss(value))
+            return -Tablebase.CERTAINTY;
+        return value;
+    }
+
+    static short encode(int value) {
+        assert -Tablebase.WIN <= value && value <= Tablebase.WIN;
+        return (short) (value - Short.MIN_VALUE);
+    }
+
+    static int decode(short entry) {
+        return (entry & 0xFFFF) + Short.MIN_VALUE;
+    }
+
+    public int getPieces() {
+        return this.pieces;
+    }
+
+    TablebaseIndex getIndex(int movers, int opponents) {
+        return this.indexes[movers][opponents];
+    }
+
+    TablebaseFile getFile(int movers, int opponents) {
+        return this.files[movers][opponents];
+    }
+
+    void setFile(int movers, int opponents, TablebaseFile file) {
+        this.files[movers][opponents] = file;
+    }
+
+    public int probe(Game game) {
+        assert game != null;
+        final Color color = game.getTurnColor();
+        long movers = game.getOccupancy(color);
+        long opponents = game.getOccupancy(color.getOpposite());
+        if (color == Color.BLACK) {
+            movers = Long.reverse(movers);
+            opponents = Long.reverse(opponents);
+        }
+        return this.probe(movers, opponents);
+    }
+
+    int probe(long movers, long opponents) {
+        final int moverCount = Long.bitCount(movers);
+        final int opponentCount = Long.bitCount(opponents);
+        if (moverCount + opponentCount > this.pieces)
+            return Tablebase.UNKNOWN;
+        if (moverCount == 0)
+            return -Tablebase.WIN;
+        final TablebaseFile file = this.files[moverCount][opponentCount];
+        if (file == null)
+            return Tablebase.UNKNOWN;
+        final short entry = file.get(this.indexes[moverCount][opponentCount].getIndex(movers, opponents));
+        if (entry == Tablebase.UNSOLVED)
+            return Tablebase.UNKNOWN;
+        return Tablebase.decode(entry);
+    }
+
+}
@@ -0,0 +1,58 @@
+package es.urjccode.mastercloudapps.adcs.draughts.engine;
+
+import java.io.File;
+import java.io.IOException;
+import java.io.RandomAccessFile;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+
+// Values live in the mapping, not on the heap. Mappings are limited to two gigabytes, so larger files are split into
+// segments; entries are two bytes wide and never straddle two of them.
+class TablebaseFile {
+
+    private static final int ENTRY_BYTES = 2;
+    private static final int SEGMENT_SHIFT = 30;
+    private static final long SEGMENT_MASK = (1L << TablebaseFile.SEGMENT_SHIFT) - 1;
+
+    private MappedByteBuffer[] segments;
+
+    TablebaseFile(File file, long size, boolean writable) throws IOException {
+        assert file != null;
+        assert size > 0;
+        final long bytes = size * TablebaseFile.ENTRY_BYTES;
+        RandomAccessFile randomAccessFile = new RandomAccessFile(file, writable ? "rw" : "r");
+        try {
+            if (writable && randomAccessFile.length() == 0)
+                randomAccessFile.setLength(bytes);
+            if (randomAccessFile.length() != bytes)
+                throw new IOException("Bad tablebase file length " + file);
+            FileChannel channel = randomAccessFile.getChannel();
+            this.segments = new MappedByteBuffer[(int) ((bytes - 1 >>> TablebaseFile.SEGMENT_SHIFT) + 1)];
+            for (int i = 0; i < this.segments.length; i++) {
+                final long position = (long) i << TablebaseFile.SEGMENT_SHIFT;
+                this.segments[i] = channel.map(writable ? FileChannel.MapMode.READ_WRITE : FileChannel.MapMode.READ_ONLY,
+                    position, Math.min(bytes - position, 1L << TablebaseFile.SEGMENT_SHIFT));
+            }
+        } finally {
+            randomAccessFile.close();
+        }
+    }
+
+    short get(long index) {
+        final long offset = index * TablebaseFile.ENTRY_BYTES;
+        return this.segments[(int) (offset >>> TablebaseFile.SEGMENT_SHIFT)]
+            .getShort((int) (offset & TablebaseFile.SEGMENT_MASK));
+    }
+
+    void put(long index, short value) {
+        final long offset = index * TablebaseFile.ENTRY_BYTES;
+        this.segments[(int) (offset >>> TablebaseFile.SEGMENT_SHIFT)]
+            .putShort((int) (offset & TablebaseFile.SEGMENT_MASK), value);
+    }
+
+    void force() {
+        for (MappedByteBuffer segment : this.segments)
+            segment.force();
+    }
+
+}
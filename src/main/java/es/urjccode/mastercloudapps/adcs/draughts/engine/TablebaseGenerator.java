@@ -0,0 +1,264 @@
+package es.urjccode.mastercloudapps.adcs.draughts.engine;
+
+import java.io.File;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.StandardCopyOption;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.ThreadFactory;
+import java.util.concurrent.atomic.AtomicLong;
+
+import es.urjccode.mastercloudapps.adcs.draughts.models.Color;
+import es.urjccode.mastercloudapps.adcs.draughts.models.Coordinate;
+import es.urjccode.mastercloudapps.adcs.draughts.models.Game;
+import es.urjccode.mastercloudapps.adcs.draughts.models.MoveBuffer;
+
+// Pieces never move backwards, so the position graph has no cycles and retrograde analysis needs no unmoves: every
+// move either removes material, reaching an already generated signature, or advances one piece by one row. A
+// signature and its colour-swapped twin are therefore solved together, one advancement level at a time from the most
+// advanced positions back, with the positions of a level split among the threads. Each finished level is flushed and
+// recorded in a checkpoint file, so an interrupted run resumes from the last finished level.
+public class TablebaseGenerator {
+
+    private static final String PART_EXTENSION = ".part";
+    private static final String CHECKPOINT_EXTENSION = ".checkpoint";
+    private static final int MAX_ADVANCE = Coordinate.getDimension() - 1;
+
+    private File directory;
+    private Tablebase tablebase;
+    private int threads;
+    private ExecutorService executorService;
+
+    public TablebaseGenerator(File directory, int pieces, int threads) {
+        assert directory != null;
+        assert threads > 0;
+        this.directory = directory;
+        this.tablebase = new Tablebase(pieces);
+        this.threads = threads;
+    }
+
+    public static void main(String[] args) throws IOException {
+        if (args.length < 2) {
+            System.err.println("Usage: TablebaseGenerator <directory> <pieces> [threads]");
+            return;
+        }
+        int threads = Runtime.getRuntime().availableProcessors();
+        if (args.length > 2)
+            threads = Integer.parseInt(args[2]);
+        new TablebaseGenerator(new File(args[0]), Integer.parseInt(args[1]), threads).generate();
+    }
+
+    static File getPartFile(File directory, int movers, int opponents) {
+        return new File(directory, Tablebase.getName(movers, opponents) + TablebaseGenerator.PART_EXTENSION);
+    }
+
+    static File getCheckpointFile(File directory, int movers, int opponents) {
+        return new File(directory, Tablebase.getName(movers, opponents) + TablebaseGenerator.CHECKPOINT_EXTENSION);
+    }
+
+    public Tablebase generate() throws IOException {
+        if (!this.directory.isDirectory() && !this.directory.mkdirs())
+            throw new IOException("Cannot create " + this.directory);
+        this.executorService = Executors.newFixedThreadPool(this.threads, new ThreadFactory() {
+            @Override
+            public Thread newThread(Runnable runnable) {
+                Thread thread = new Thread(runnable, "tablebase-generator");
+                thread.setDaemon(true);
+                return thread;
+            }
+        });
+        try {
+            for (int pieces = 1; pieces <= this.tablebase.getPieces(); pieces++)
+                for (int movers = pieces; 2 * movers >= pieces; movers--)
+                    this.generate(pieces, movers);
+        } finally {
+            this.executorService.shutdownNow();
+        }
+        return this.tablebase;
+    }
+
+    private void generate(int pieces, int movers) throws IOException {
+        List<Integer> moverCounts = new ArrayList<Integer>();
+        moverCounts.add(movers);
+        if (pieces - movers > 0 && pieces - movers != movers)
+            moverCounts.add(pieces - movers);
+        final File checkpoint = TablebaseGenerator.getCheckpointFile(this.directory, movers, pieces - movers);
+        int level = TablebaseGenerator.MAX_ADVANCE * pieces + 1;
+        if (checkpoint.exists())
+            level = Integer.parseInt(new String(Files.readAllBytes(checkpoint.toPath()), StandardCharsets.US_ASCII));
+        else if (this.isComplete(pieces, moverCounts))
+            level = 0;
+        for (int moverCount : moverCounts) {
+            final int opponentCount = pieces - moverCount;
+            File file = Tablebase.getFile(this.directory, moverCount, opponentCount);
+            if (!file.exists()) {
+                file = TablebaseGenerator.getPartFile(this.directory, moverCount, opponentCount);
+                if (!checkpoint.exists())
+                    Files.deleteIfExists(file.toPath());
+            }
+            this.tablebase.setFile(moverCount, opponentCount, new TablebaseFile(file,
+                this.tablebase.getIndex(moverCount, opponentCount).getSize(), level > 0));
+        }
+        for (level--; level >= 0; level--) {
+            this.solve(pieces, moverCounts, level);
+            this.writeCheckpoint(checkpoint, level);
+        }
+        for (int moverCount : moverCounts) {
+            final File part = TablebaseGenerator.getPartFile(this.directory, moverCount, pieces - moverCount);
+            if (part.exists())
+                Files.move(part.toPath(), Tablebase.getFile(this.directory, moverCount, pieces - moverCount).toPath(),
+                    StandardCopyOption.ATOMIC_MOVE);
+        }
+        Files.deleteIfExists(checkpoint.toPath());
+    }
+
+    private boolean isComplete(int pieces, List<Integer> moverCounts) {
+        for (int moverCount : moverCounts)
+            if (!Tablebase.getFile(this.directory, moverCount, pieces - moverCount).exists())
+                return false;
+        return true;
+    }
+
+    private void writeCheckpoint(File checkpoint, int level) throws IOException {
+        final File temporary = new File(checkpoint.getPath() + ".tmp");
+        Files.write(temporary.toPath(), Integer.toString(level).getBytes(StandardCharsets.US_ASCII));
+        Files.move(temporary.toPath(), checkpoint.toPath(), StandardCopyOption.REPLACE_EXISTING,
+            StandardCopyOption.ATOMIC_MOVE);
+    }
+
+    // Threads take the movers' placements one at a time and solve every opponent placement on the level for them.
+    private void solve(final int pieces, final List<Integer> moverCounts, final int level) throws IOException {
+        long total = 0;
+        for (int moverCount : moverCounts)
+            total += this.tablebase.getIndex(moverCount, pieces - moverCount).getMoverSize();
+        final long placements = total;
+        final AtomicLong next = new AtomicLong();
+        List<Future<Void>> futures = new ArrayList<Future<Void>>();
+        for (int i = 0; i < this.threads; i++)
+            futures.add(this.executorService.submit(new Callable<Void>() {
+                @Override
+                public Void call() {
+                    Game game = new Game();
+                    MoveBuffer moves = new MoveBuffer();
+                    TablebasePlacements opponents = new TablebasePlacements();
+                    for (long placement = next.getAndIncrement(); placement < placements;
+                        placement = next.getAndIncrement()) {
+                        long rank = placement;
+                        int signature = 0;
+                        while (rank >= TablebaseGenerator.this.getMoverSize(pieces, moverCounts.get(signature))) {
+                            rank -= TablebaseGenerator.this.getMoverSize(pieces, moverCounts.get(signature));
+                            signature++;
+                        }
+                        TablebaseGenerator.this.solve(game, moves, opponents, moverCounts.get(signature),
+                            pieces - moverCounts.get(signature), rank, level);
+                    }
+                    return null;
+                }
+            }));
+        for (Future<Void> future : futures)
+            this.waitFor(future);
+        for (int moverCount : moverCounts)
+            this.tablebase.getFile(moverCount, pieces - moverCount).force();
+    }
+
+    private long getMoverSize(int pieces, int movers) {
+        return this.tablebase.getIndex(movers, pieces - movers).getMoverSize();
+    }
+
+    private void waitFor(Future<Void> future) throws IOException {
+        try {
+            future.get();
+        } catch (InterruptedException ex) {
+            Thread.currentThread().interrupt();
+            throw new IOException("Tablebase generation interrupted");
+        } catch (ExecutionException ex) {
+            throw new IllegalStateException(ex.getCause());
+        }
+    }
+
+    // Only the opponent placements that complete the level are enumerated, so every position is visited once over
+    // all the levels.
+    private void solve(Game game, MoveBuffer moves, TablebasePlacements placements, int movers, int opponents,
+        long rank, int level) {
+        final TablebaseIndex index = this.tablebase.getIndex(movers, opponents);
+        final TablebaseFile file = this.tablebase.getFile(movers, opponents);
+        final long moverDarks = TablebaseIndex.unrank(rank, movers);
+        final int opponentAdvance = level - TablebaseGenerator.getMoverAdvance(moverDarks);
+        if (opponentAdvance < 0 || opponentAdvance > TablebaseGenerator.MAX_ADVANCE * opponents)
+            return;
+        final long moverSquares = TablebaseIndex.toSquares(moverDarks);
+        placements.reset(moverDarks, opponents, opponentAdvance);
+        while (placements.next()) {
+            game.setPosition(moverSquares, TablebaseIndex.toSquares(placements.getDarks()), Color.WHITE);
+            file.put(rank * index.getOpponentSize() + placements.getRank(), Tablebase.encode(this.solve(game, moves)));
+        }
+    }
+
+    // The movers are white, so they advance towards the first row; the black opponents advance with the row.
+    private static int getMoverAdvance(long darks) {
+        int advance = 0;
+        for (; darks != 0; darks &= darks - 1)
+            advance += TablebaseGenerator.MAX_ADVANCE - TablebaseIndex.getRow(Long.numberOfTrailingZeros(darks));
+        return advance;
+    }
+
+    private int solve(Game game, MoveBuffer moves) {
+        game.generateMoves(moves);
+        int best = -Tablebase.WIN;
+        for (int i = 0; i < moves.size(); i++) {
+            final int move = moves.get(i);
+            long huffs = game.getHuffs(move);
+            if (huffs == 0) {
+                game.makeMove(move, Game.NO_HUFF);
+                best = Math.max(best, this.getValue(game));
+                game.unmakeMove();
+            } else {
+                best = Math.max(best, this.solve(game, move, huffs));
+            }
+        }
+        return best;
+    }
+
+    // A chance move is certain only when all of its outcomes agree, and then it takes as long as the longest one.
+    private int solve(Game game, int move, long huffs) {
+        final int outcomes = Long.bitCount(huffs);
+        boolean wins = true;
+        boolean losses = true;
+        int distance = 0;
+        long sum = 0;
+        for (; huffs != 0; huffs &= huffs - 1) {
+            game.makeMove(move, Long.numberOfTrailingZeros(huffs));
+            final int value = this.getValue(game);
+            game.unmakeMove();
+            wins &= Tablebase.isWin(value);
+            losses &= Tablebase.isLoss(value);
+            if (Tablebase.isWin(value) || Tablebase.isLoss(value))
+                distance = Math.max(distance, Tablebase.getDistance(value));
+            sum += Tablebase.getExpectation(value);
+        }
+        if (wins)
+            return Tablebase.WIN - distance;
+        if (losses)
+            return -Tablebase.WIN + distance;
+        return (int) (sum / outcomes);
+    }
+
+    // The value after a move, seen by the side that made it: a certain result lies one ply further away.
+    private int getValue(Game game) {
+        final int value = this.tablebase.probe(game);
+        assert value != Tablebase.UNKNOWN;
+        if (Tablebase.isWin(value))
+            return -value + 1;
+        if (Tablebase.isLoss(value))
+            return -value - 1;
+        return -value;
+    }
+
+}
@@ -0,0 +1,157 @@
+package es.urjccode.mastercloudapps.adcs.draughts.engine;
+
+import es.urjccode.mastercloudapps.adcs.draughts.models.Coordinate;
+
+// Positions of one material signature are numbered by the colex rank of the movers' dark squares, followed by the
+// rank of the opponents' squares among the dark squares the movers leave free, so no index is wasted on overlaps.
+final class TablebaseIndex {
+
+    static final int SQUARES = Coordinate.getDimension() * Coordinate.getDimension() / 2;
+
+    private static final int ROW_SQUARES = Coordinate.getDimension() / 2;
+    private static final long[][] BINOMIALS = new long[TablebaseIndex.SQUARES + 1][TablebaseIndex.SQUARES + 1];
+    private static final int[] SQUARE_OF_DARK = new int[TablebaseIndex.SQUARES];
+    private static final int[] DARK_OF_SQUARE = new int[Coordinate.getDimension() * Coordinate.getDimension()];
+
+    static {
+        for (int n = 0; n <= TablebaseIndex.SQUARES; n++) {
+            TablebaseIndex.BINOMIALS[n][0] = 1;
+            for (int k = 1; k <= n; k++)
+                TablebaseIndex.BINOMIALS[n][k] =
+                    TablebaseIndex.BINOMIALS[n - 1][k - 1] + TablebaseIndex.BINOMIALS[n - 1][k];
+        }
+        for (int square = 0; square < TablebaseIndex.DARK_OF_SQUARE.length; square++)
+            TablebaseIndex.DARK_OF_SQUARE[square] = -1;
+        for (int dark = 0; dark < TablebaseIndex.SQUARES; dark++) {
+            final int row = dark / TablebaseIndex.ROW_SQUARES;
+            final int column = 2 * (dark % TablebaseIndex.ROW_SQUARES) + (row + 1) % 2;
+            TablebaseIndex.SQUARE_OF_DARK[dark] = row * Coordinate.getDimension() + column;
+            TablebaseIndex.DARK_OF_SQUARE[row * Coordinate.getDimension() + column] = dark;
+        }
+    }
+
+    private final int movers;
+    private final int opponents;
+    private final long opponentSize;
+
+    TablebaseIndex(int movers, int opponents) {
+        assert 0 <= movers && 0 <= opponents && movers + opponents <= TablebaseIndex.SQUARES;
+        this.movers = movers;
+        this.opponents = opponents;
+        this.opponentSize = TablebaseIndex.getBinomial(TablebaseIndex.SQUARES - movers, opponents);
+    }
+
+    static long getBinomial(int n, int k) {
+        if (k < 0 || k > n)
+            return 0;
+        return TablebaseIndex.BINOMIALS[n][k];
+    }
+
+    long getSize() {
+        return this.getMoverSize() * this.opponentSize;
+    }
+
+    long getMoverSize() {
+        return TablebaseIndex.getBinomial(TablebaseIndex.SQUARES, this.movers);
+    }
+
+    long getOpponentSize() {
+        return this.opponentSize;
+    }
+
+    long getIndex(long movers, long opponents) {
+        final long moverDarks = TablebaseIndex.toDarks(movers);
+        return TablebaseIndex.rank(moverDarks) * this.opponentSize
+            + TablebaseIndex.rank(TablebaseIndex.compress(TablebaseIndex.toDarks(opponents), moverDarks));
+    }
+
+    long getMovers(long index) {
+        return TablebaseIndex.toSquares(TablebaseIndex.unrank(index / this.opponentSize, this.movers));
+    }
+
+    long getOpponents(long index) {
+        final long moverDarks = TablebaseIndex.unrank(index / this.opponentSize, this.movers);
+        return TablebaseIndex.toSquares(TablebaseIndex.expand(
+            TablebaseIndex.unrank(index % this.opponentSize, this.opponents), moverDarks));
+    }
+
+    static boolean isDark(int square) {
+        return TablebaseIndex.DARK_OF_SQUARE[square] >= 0;
+    }
+
+    static int getRow(int dark) {
+        return dark / TablebaseIndex.ROW_SQUARES;
+    }
+
+    static long toDarks(long squares) {
+        long darks = 0;
+        for (; squares != 0; squares &= squares - 1) {
+            final int dark = TablebaseIndex.DARK_OF_SQUARE[Long.numberOfTrailingZeros(squares)];
+            assert dark >= 0;
+            darks |= 1L << dark;
+        }
+        return darks;
+    }
+
+    static long toSquares(long darks) {
+        long squares = 0;
+        for (; darks != 0; darks &= darks - 1)
+            squares |= 1L << TablebaseIndex.SQUARE_OF_DARK[Long.numberOfTrailingZeros(darks)];
+        return squares;
+    }
+
+    static long rank(long darks) {
+        long rank = 0;
+        for (int k = 1; darks != 0; k++, darks &= darks - 1)
+            rank += TablebaseIndex.getBinomial(Long.numberOfTrailingZeros(darks), k);
+        return rank;
+    }
+
+    static long unrank(long rank, int count) {
+        long darks = 0;
+        int dark = TablebaseIndex.SQUARES;
+        for (int k = count; k > 0; k--) {
+            do
+                dark--;
+            while (TablebaseIndex.getBinomial(dark, k) > rank);
+            rank -= TablebaseIndex.getBinomial(dark, k);
+            darks |= 1L << dark;
+        }
+        return darks;
+    }
+
+    // Removes the used squares, shifting the ones above them down, so the result ranks among the free squares.
+    static long compress(long darks, long used) {
+        assert (darks & used) == 0;
+        long compressed = 0;
+        int position = 0;
+        for (int dark = 0; dark < TablebaseIndex.SQUARES; dark++)
+            if ((used & 1L << dark) == 0) {
+                if ((darks & 1L << dark) != 0)
+                    compressed |= 1L << position;
+                position++;
+            }
+        return compressed;
+    }
+
+    static long expand(long compressed, long used) {
+        long darks = 0;
+        int position = 0;
+        for (int dark = 0; dark < TablebaseIndex.SQUARES && compressed >>> position != 0; dark++)
+            if ((used & 1L << dark) == 0) {
+                if ((compressed & 1L << position) != 0)
+                    darks |= 1L << dark;
+                position++;
+            }
+        return darks;
+    }
+
+    // Gosper's hack: the next larger mask with the same number of bits, which is also the next one in colex order.
+    static long getNextCombination(long combination) {
+        assert combination != 0;
+        final long lowest = combination & -combination;
+        final long ripple = combination + lowest;
+        return ripple | ((ripple ^ combination) / lowest) >>> 2;
+    }
+
+}
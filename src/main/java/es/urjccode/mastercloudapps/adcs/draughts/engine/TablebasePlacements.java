@@ -0,0 +1,101 @@
+package es.urjccode.mastercloudapps.adcs.draughts.engine;
+
+// Enumerates the placements of the opponents on the dark squares the movers leave free whose advance, the sum of
+// their rows, is a given one, with the rank TablebaseIndex gives them, without visiting any other placement. Pieces
+// are placed from the highest free square down; free squares come in row order, so the advance the pieces still to
+// place can reach among the squares below is a range, and a square outside it ends or skips the search at once.
+final class TablebasePlacements {
+
+    private int[] darks;
+    private int[] rows;
+    private int[] sums;
+    private int[] positions;
+    private int[] advances;
+    private int size;
+    private int count;
+    private int piece;
+    private boolean started;
+
+    TablebasePlacements() {
+        this.darks = new int[TablebaseIndex.SQUARES];
+        this.rows = new int[TablebaseIndex.SQUARES];
+        this.sums = new int[TablebaseIndex.SQUARES + 1];
+        this.positions = new int[TablebaseIndex.SQUARES];
+        this.advances = new int[TablebaseIndex.SQUARES];
+    }
+
+    void reset(long moverDarks, int count, int advance) {
+        assert 0 <= count && count <= TablebaseIndex.SQUARES - Long.bitCount(moverDarks);
+        this.size = 0;
+        for (int dark = 0; dark < TablebaseIndex.SQUARES; dark++)
+            if ((moverDarks & 1L << dark) == 0) {
+                this.darks[this.size] = dark;
+                this.rows[this.size] = TablebaseIndex.getRow(dark);
+                this.sums[this.size + 1] = this.sums[this.size] + this.rows[this.size];
+                this.size++;
+            }
+        this.count = count;
+        this.piece = count - 1;
+        this.started = false;
+        if (count > 0) {
+            this.positions[this.piece] = this.size;
+            this.advances[this.piece] = advance;
+        } else
+            this.advances[0] = advance;
+    }
+
+    // Moves on to the next placement, returning false once there is none left.
+    boolean next() {
+        if (this.count == 0) {
+            final boolean first = !this.started;
+            this.started = true;
+            return first && this.advances[0] == 0;
+        }
+        while (true) {
+            final int position = this.getNextPosition();
+            if (position < this.piece) {
+                if (this.piece == this.count - 1)
+                    return false;
+                this.piece++;
+                continue;
+            }
+            this.positions[this.piece] = position;
+            if (this.piece == 0)
+                return true;
+            this.advances[this.piece - 1] = this.advances[this.piece] - this.rows[position];
+            this.positions[this.piece - 1] = position;
+            this.piece--;
+        }
+    }
+
+    // The next lower square for the current piece that leaves the pieces below it an advance they can reach, or one
+    // below the lowest square it may take. Lower squares only shrink what the pieces below can reach while asking
+    // them for more, so once it is out of reach it stays so.
+    private int getNextPosition() {
+        final int below = this.piece;
+        for (int position = this.positions[this.piece] - 1; position >= below; position--) {
+            final int advance = this.advances[this.piece] - this.rows[position];
+            if (advance > this.sums[position] - this.sums[position - below])
+                return below - 1;
+            if (advance >= this.sums[below])
+                return position;
+        }
+        return below - 1;
+    }
+
+    long getDarks() {
+        long darks = 0;
+        for (int piece = 0; piece < this.count; piece++)
+            darks |= 1L << this.darks[this.positions[piece]];
+        return darks;
+    }
+
+    // The colex rank of the placement among the free squares, as TablebaseIndex ranks the opponents.
+    long getRank() {
+        long rank = 0;
+        for (int piece = 0; piece < this.count; piece++)
+            rank += TablebaseIndex.getBinomial(this.positions[piece], piece + 1);
+        return rank;
+    }
+
+}
@@ -0,0 +1,179 @@
+package es.urjccode.mastercloudapps.adcs.draughts.engine;
+
+import java.util.concurrent.atomic.LongAdder;
+
+public class TranspositionTable {
+
+    public static final long MISS = 0;
+
+    private static final int ENTRY_BYTES = 2 * Long.BYTES;
+    private static final int BUCKET_SIZE = 4;
+    private static final int MOVE_BITS = 27;
+    private static final int SCORE_BITS = 21;
+    private static final int DEPTH_BITS = 7;
+    private static final int BOUND_BITS = 2;
+    private static final int AGE_BITS = 7;
+    private static final int SCORE_SHIFT = TranspositionTable.MOVE_BITS;
+    private static final int DEPTH_SHIFT = TranspositionTable.SCORE_SHIFT + TranspositionTable.SCORE_BITS;
+    private static final int BOUND_SHIFT = TranspositionTable.DEPTH_SHIFT + TranspositionTable.DEPTH_BITS;
+    private static final int AGE_SHIFT = TranspositionTable.BOUND_SHIFT + TranspositionTable.BOUND_BITS;
+    private static final int AGE_MASK = (1 << TranspositionTable.AGE_BITS) - 1;
+
+    // Each slot keeps the key xor-ed with its data, so a slot torn by two threads writing at once no longer
+    // verifies against either key and reads as a miss instead of as another position's entry.
+    private final long[] keys;
+    private final long[] datas;
+    private final int mask;
+    private final ReplacementPolicy replacementPolicy;
+    private int age;
+    private final LongAdder probes;
+    private final LongAdder hits;
+    private final LongAdder stores;
+
+    public TranspositionTable(int megabytes, ReplacementPolicy replacementPolicy) {
+        assert megabytes > 0;
+        assert replacementPolicy != null;
+        final long entries = Long.highestOneBit((long) megabytes * 1024 * 1024 / TranspositionTable.ENTRY_BYTES);
+        assert TranspositionTable.BUCKET_SIZE <= entries && entries <= Integer.MAX_VALUE / 2 + 1;
+        this.keys = new long[(int) entries];
+        this.datas = new long[(int) entries];
+        this.mask = (int) entries - 1;
+        this.replacementPolicy = replacementPolicy;
+        this.age = 0;
+        this.probes = new LongAdder();
+        this.hits = new LongAdder();
+        this.stores = new LongAdder();
+    }
+
+    public TranspositionTable(int megabytes) {
+        this(megabytes, ReplacementPolicy.AGE_AND_DEPTH);
+    }
+
+    public long probe(long key) {
+        this.probes.increment();
+        final int bucket = this.getBucket(key);
+        for (int i = bucket; i < bucket + TranspositionTable.BUCKET_SIZE; i++) {
+            final long data = this.datas[i];
+            if (data != TranspositionTable.MISS && (this.keys[i] ^ data) == key) {
+                this.hits.increment();
+                return data;
+            }
+        }
+        return TranspositionTable.MISS;
+    }
+
+    public void store(long key, int move, int score, int depth, Bound bound) {
+        assert -Search.WIN <= score && score <= Search.WIN;
+        assert 0 <= depth && depth <= Limits.MAX_DEPTH;
+        assert bound != null;
+        final int bucket = this.getBucket(key);
+        int victim = bucket;
+        int victimPriority = Integer.MAX_VALUE;
+        for (int i = bucket; i < bucket + TranspositionTable.BUCKET_SIZE; i++) {
+            final long data = this.datas[i];
+            if (data == TranspositionTable.MISS || (this.keys[i] ^ data) == key) {
+                victim = i;
+                break;
+            }
+            final int priority = this.replacementPolicy.getPriority(TranspositionTable.getDepth(data),
+                this.getAgeDistance(data));
+            if (priority < victimPriority) {
+                victim = i;
+                victimPriority = priority;
+            }
+        }
+        final long victimData = this.datas[victim];
+        if (victimData != TranspositionTable.MISS && (this.keys[victim] ^ victimData) != key
+            && !this.replacementPolicy.isReplaceable(TranspositionTable.getDepth(victimData),
+                this.getAgeDistance(victimData), depth))
+            return;
+        final long data = TranspositionTable.pack(move, score, depth, bound, this.age);
+        this.datas[victim] = data;
+        this.keys[victim] = key ^ data;
+        this.stores.increment();
+    }
+
+    private int getBucket(long key) {
+        return (int) (key ^ (key >>> 32)) & this.mask & -TranspositionTable.BUCKET_SIZE;
+    }
+
+    private int getAgeDistance(long data) {
+        return (this.age - TranspositionTable.getAge(data)) & TranspositionTable.AGE_MASK;
+    }
+
+    public void newSearch() {
+        this.age = (this.age + 1) & TranspositionTable.AGE_MASK;
+    }
+
+    public void clear() {
+        for (int i = 0; i < this.datas.length; i++) {
+            this.datas[i] = TranspositionTable.MISS;
+            this.keys[i] = 0;
+        }
+        this.resetCounters();
+    }
+
+    private static long pack(int move, int score, int depth, Bound bound, int age) {
+        return (move & ((1L << TranspositionTable.MOVE_BITS) - 1))
+            | ((score & ((1L << TranspositionTable.SCORE_BITS) - 1)) << TranspositionTable.SCORE_SHIFT)
+            | ((long) depth << TranspositionTable.DEPTH_SHIFT)
+            | ((long) (bound.ordinal() + 1) << TranspositionTable.BOUND_SHIFT)
+            | ((long) age << TranspositionTable.AGE_SHIFT);
+    }
+
+    public static int getMove(long data) {
+        return (int) (data & ((1L << TranspositionTable.MOVE_BITS) - 1));
+    }
+
+    public static int getScore(long data) {
+        return (int) (data << (Long.SIZE - TranspositionTable.DEPTH_SHIFT) >> (Long.SIZE - TranspositionTable.SCORE_BITS));
+    }
+
+    public static int getDepth(long data) {
+        return (int) (data >>> TranspositionTable.DEPTH_SHIFT) & ((1 << TranspositionTable.DEPTH_BITS) - 1);
+    }
+
+    public static Bound getBound(long data) {
+        return Bound.get((int) (data >>> TranspositionTable.BOUND_SHIFT & ((1 << TranspositionTable.BOUND_BITS) - 1)) - 1);
+    }
+
+    private static int getAge(long data) {
+        return (int) (data >>> TranspositionTable.AGE_SHIFT) & TranspositionTable.AGE_MASK;
+    }
+
+    public int getCapacity() {
+        return this.datas.length;
+    }
+
+    public long getProbes() {
+        return this.probes.sum();
+    }
+
+    public long getHits() {
+        return this.hits.sum();
+    }
+
+    public long getStores() {
+        return this.stores.sum();
+    }
+
+    public double getHitRate() {
+        final long probes = this.getProbes();
+        if (probes == 0)
+            return 0;
+        return (double) this.getHits() / probes;
+    }
+
+    public void resetCounters() {
+        this.probes.reset();
+        this.hits.reset();
+        this.stores.reset();
+    }
+
+    @Override
+    public String toString() {
+        return "entries " + this.getCapacity() + " probes " + this.getProbes() + " hits " + this.getHits()
+            + " stores " + this.getStores();
+    }
+
+}
@@ -0,0 +1,97 @@
+package es.urjccode.mastercloudapps.adcs.draughts.engine;
+
+import java.io.FileInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.util.Properties;
+
+public class Weights {
+
+    public static final String PROPERTY = "draughts.weights";
+    private static final String RESOURCE = "weights.properties";
+
+    private final int piece;
+    private final int advance;
+    private final int backRank;
+    private final int centre;
+
+    public Weights(int piece, int advance, int backRank, int centre) {
+        this.piece = piece;
+        this.advance = advance;
+        this.backRank = backRank;
+        this.centre = centre;
+    }
+
+    public static Weights load(String path) throws IOException {
+        assert path != null;
+        InputStream inputStream = new FileInputStream(path);
+        try {
+            return Weights.load(inputStream);
+        } finally {
+            inputStream.close();
+        }
+    }
+
+    static Weights load(InputStream inputStream) throws IOException {
+        Properties properties = new Properties();
+        properties.load(inputStream);
+        return new Weights(Weights.getInt(properties, "piece"), Weights.getInt(properties, "advance"),
+            Weights.getInt(properties, "backRank"), Weights.getInt(properties, "centre"));
+    }
+
+    private static int getInt(Properties properties, String name) {
+        final String value = properties.getProperty(name);
+        if (value == null)
+            throw new IllegalArgumentException("Missing weight " + name);
+        try {
+            return Integer.parseInt(value.trim());
+        } catch (NumberFormatException ex) {
+            throw new IllegalArgumentException("Bad weight " + name + "=" + value);
+        }
+    }
+
+    public static Weights getDefault() {
+        return DefaultHolder.WEIGHTS;
+    }
+
+    private static class DefaultHolder {
+
+        private static final Weights WEIGHTS = DefaultHolder.load();
+
+        private static Weights load() {
+            try {
+                final String path = System.getProperty(Weights.PROPERTY);
+                if (path != null)
+                    return Weights.load(path);
+                InputStream inputStream = Weights.class.getResourceAsStream(Weights.RESOURCE);
+                if (inputStream == null)
+                    throw new IllegalStateException("Missing resource " + Weights.RESOURCE);
+                try {
+                    return Weights.load(inputStream);
+                } finally {
+                    inputStream.close();
+                }
+            } catch (IOException ex) {
+                throw new IllegalStateException(ex);
+            }
+        }
+
+    }
+
+    public int getPiece() {
+        return this.piece;
+    }
+
+    public int getAdvance() {
+        return this.advance;
+    }
+
+    public int getBackRank() {
+        return this.backRank;
+    }
+
+    public int getCentre() {
+        return this.centre;
+    }
+
+}
@@ -0,0 +1,345 @@
+package es.urjccode.mastercloudapps.adcs.draughts.journal;
+
+import java.io.Closeable;
+import java.io.File;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.SortedMap;
+import java.util.TreeMap;
+import java.util.concurrent.locks.Condition;
+import java.util.concurrent.locks.Lock;
+import java.util.concurrent.locks.ReentrantLock;
+
+import es.urjccode.mastercloudapps.adcs.draughts.models.Game;
+
+// Keeps the games being played across restarts. Attaching a game, and every move, cancel and reset of it, are
+// appended to memory-mapped segment files, and a journal opened on the same directory plays them back through Game
+// to rebuild the games that had not finished. Detaching a game ends it for good: it is not played back, and once no
+// game still being played started in a segment, that segment and the ones before it are deleted. Appending only
+// copies a record into the mapping; syncing forces it to disk, and callers that sync while a force is running wait
+// for the next one, which then covers all of them at once. Games attached as synchronous only return from an action
+// once it is durable; the others leave it to their caller to sync the sequence, or to wait for it to be durable,
+// before answering the player.
+public class Journal implements Closeable {
+
+    private static final int SEGMENT_RECORDS = 1 << 22;
+    private static final String PREFIX = "journal-";
+    private static final String SUFFIX = ".log";
+
+    private File directory;
+    private int segmentRecords;
+    private int firstSegment;
+    private List<JournalSegment> segments;
+    private JournalSegment segment;
+    private int index;
+    private long sequence;
+    private int nextGame;
+    private Map<Integer, Integer> starts;
+    private Map<Integer, Integer> tokens;
+    private Lock appendLock;
+    private Lock commitLock;
+    private Condition committed;
+    private boolean committing;
+    private long durable;
+
+    public Journal(File directory, int segmentRecords) throws IOException {
+        assert directory != null;
+        assert segmentRecords > 0;
+        this.directory = directory;
+        this.segmentRecords = segmentRecords;
+        this.segments = new ArrayList<JournalSegment>();
+        this.starts = new HashMap<Integer, Integer>();
+        this.tokens = new HashMap<Integer, Integer>();
+        this.appendLock = new ReentrantLock();
+        this.commitLock = new ReentrantLock();
+        this.committed = this.commitLock.newCondition();
+        this.open();
+        this.durable = this.sequence;
+    }
+
+    public Journal(File directory) throws IOException {
+        this(directory, Journal.SEGMENT_RECORDS);
+    }
+
+    static File getSegmentFile(File directory, int number) {
+        return new File(directory, Journal.PREFIX + String.format("%08d", number) + Journal.SUFFIX);
+    }
+
+    // Returns the number of the oldest segment left, or 0 when there is none.
+    private static int getFirstSegment(File directory) throws IOException {
+        final String[] names = directory.list();
+        if (names == null)
+            throw new IOException("Cannot list journal directory " + directory);
+        int first = Integer.MAX_VALUE;
+        for (String name : names)
+            if (name.startsWith(Journal.PREFIX) && name.endsWith(Journal.SUFFIX))
+                try {
+                    first = Math.min(first, Integer.parseInt(
+                        name.substring(Journal.PREFIX.length(), name.length() - Journal.SUFFIX.length())));
+                } catch (NumberFormatException ex) {
+                    // Not a segment.
+                }
+        return first == Integer.MAX_VALUE ? 0 : first;
+    }
+
+    // Records after the first invalid one were never synced, so they are dropped along with any later segment.
+    private void open() throws IOException {
+        if (!this.directory.isDirectory() && !this.directory.mkdirs())
+            throw new IOException("Cannot create journal directory " + this.directory);
+        this.firstSegment = Journal.getFirstSegment(this.directory);
+        boolean ended = false;
+        for (int number = this.firstSegment; Journal.getSegmentFile(this.directory, number).exists(); number++) {
+            final File file = Journal.getSegmentFile(this.directory, number);
+            if (ended) {
+                if (!file.delete())
+                    throw new IOException("Cannot delete journal segment " + file);
+                continue;
+            }
+            this.segment = new JournalSegment(file, this.segmentRecords);
+            this.segments.add(this.segment);
+            for (this.index = 0; this.index < this.segmentRecords && this.segment.isValid(this.index);
+                this.index++) {
+                final int game = this.segment.getGame(this.index);
+                this.nextGame = Math.max(this.nextGame, game + 1);
+                this.track(number, game, this.segment.getType(this.index), this.segment.getMove(this.index));
+                this.sequence++;
+            }
+            if (this.index < this.segmentRecords) {
+                ended = true;
+                if (this.segment.clear(this.index))
+                    this.segment.force();
+            }
+        }
+        if (this.segment == null)
+            this.roll();
+    }
+
+    // Keeps, for every game still being played, the segment of its first record and its token. A game whose attach
+    // record went with a retired segment was detached before, so its records left only last until its detach record.
+    private void track(int segment, int game, byte type, int move) {
+        switch (type) {
+        case JournalSegment.ATTACH:
+            this.starts.put(game, segment);
+            this.tokens.put(game, move);
+            break;
+        case JournalSegment.DETACH:
+            this.starts.remove(game);
+            this.tokens.remove(game);
+            break;
+        default:
+            if (!this.starts.containsKey(game))
+                this.starts.put(game, segment);
+        }
+    }
+
+    private void roll() throws IOException {
+        if (this.segment != null) {
+            this.segment.force();
+            this.retire();
+        }
+        this.segment = new JournalSegment(
+            Journal.getSegmentFile(this.directory, this.firstSegment + this.segments.size()), this.segmentRecords);
+        this.segments.add(this.segment);
+        this.index = 0;
+    }
+
+    // Deletes the segments before the first one a game still being played started in. Only called once every record
+    // is durable, so no detach record a retired game relies on can be lost. A segment that cannot be deleted yet,
+    // like a mapped file on some systems, is tried again on the next roll.
+    private void retire() {
+        int first = this.firstSegment + this.segments.size();
+        for (int start : this.starts.values())
+            first = Math.min(first, start);
+        while (this.firstSegment < first && Journal.getSegmentFile(this.directory, this.firstSegment).delete()) {
+            this.segments.remove(0);
+            this.firstSegment++;
+        }
+    }
+
+    // Plays back the records of the games still being played and returns those that had not finished, ordered by
+    // the number they were attached with; those games are attached again, so their next moves go on being
+    // journaled. The finished ones are detached.
+    public SortedMap<Integer, Game> recover(boolean synchronous) {
+        SortedMap<Integer, Game> games = new TreeMap<Integer, Game>();
+        this.appendLock.lock();
+        try {
+            for (JournalSegment segment : this.segments) {
+                final int records = segment == this.segment ? this.index : this.segmentRecords;
+                for (int index = 0; index < records; index++)
+                    if (this.starts.containsKey(segment.getGame(index)))
+                        Journal.replay(games, segment, index);
+            }
+        } finally {
+            this.appendLock.unlock();
+        }
+        SortedMap<Integer, Game> recovered = new TreeMap<Integer, Game>();
+        for (Map.Entry<Integer, Game> entry : games.entrySet())
+            if (Journal.isFinished(entry.getValue()))
+                this.detach(entry.getKey());
+            else {
+                entry.getValue().setGameObserver(new JournalObserver(this, entry.getKey(), synchronous));
+                recovered.put(entry.getKey(), entry.getValue());
+            }
+        return recovered;
+    }
+
+    public SortedMap<Integer, Game> recover() {
+        return this.recover(true);
+    }
+
+    private static void replay(Map<Integer, Game> games, JournalSegment segment, int index) {
+        final int id = segment.getGame(index);
+        Game game = games.get(id);
+        if (game == null) {
+            game = new Game();
+            games.put(id, game);
+        }
+        switch (segment.getType(index)) {
+        case JournalSegment.ATTACH:
+            break;
+        case JournalSegment.MOVE:
+            game.replay(segment.getMove(index), segment.getHuff(index));
+            break;
+        case JournalSegment.CANCEL:
+            game.cancel();
+            break;
+        case JournalSegment.RESET:
+            game.reset();
+            break;
+        default:
+            throw new IllegalStateException("Bad journal record type " + segment.getType(index));
+        }
+    }
+
+    // A game is over once the player to move is blocked or the other one canceled and lost all their pieces; a
+    // player never loses the piece just moved, so that only happens through a cancel.
+    private static boolean isFinished(Game game) {
+        return game.isBlocked() || game.getOccupancy(game.getTurnColor().getOpposite()) == 0;
+    }
+
+    // Returns the number the game is journaled with. The game is expected to be at its initial position; the token
+    // is kept for whoever resumes the game after a restart to prove it is theirs.
+    public int attach(Game game, int token, boolean synchronous) {
+        assert game != null;
+        assert !game.isUnmakeable();
+        int id;
+        this.appendLock.lock();
+        try {
+            id = this.nextGame++;
+            this.append(id, JournalSegment.ATTACH, token, Game.NO_HUFF);
+        } finally {
+            this.appendLock.unlock();
+        }
+        game.setGameObserver(new JournalObserver(this, id, synchronous));
+        return id;
+    }
+
+    public int attach(Game game, boolean synchronous) {
+        return this.attach(game, 0, synchronous);
+    }
+
+    public int attach(Game game) {
+        return this.attach(game, true);
+    }
+
+    // Ends the game for good; whoever detaches it also stops playing it. The record needs no sync: a game whose
+    // detach is lost in a crash is only recovered once more.
+    public void detach(int game) {
+        this.append(game, JournalSegment.DETACH, 0, Game.NO_HUFF);
+    }
+
+    public int getToken(int game) {
+        this.appendLock.lock();
+        try {
+            final Integer token = this.tokens.get(game);
+            return token == null ? 0 : token;
+        } finally {
+            this.appendLock.unlock();
+        }
+    }
+
+    // Returns the sequence to sync for the record to be durable.
+    long append(int game, byte type, int move, int huff) {
+        this.appendLock.lock();
+        try {
+            if (this.index == this.segmentRecords)
+                this.roll();
+            this.segment.put(this.index, game, type, move, huff);
+            this.track(this.firstSegment + this.segments.size() - 1, game, type, move);
+            this.index++;
+            return ++this.sequence;
+        } catch (IOException ex) {
+            throw new UncheckedIOException(ex);
+        } finally {
+            this.appendLock.unlock();
+        }
+    }
+
+    public long getSequence() {
+        this.appendLock.lock();
+        try {
+            return this.sequence;
+        } finally {
+            this.appendLock.unlock();
+        }
+    }
+
+    public boolean isDurable(long sequence) {
+        this.commitLock.lock();
+        try {
+            return this.durable >= sequence;
+        } finally {
+            this.commitLock.unlock();
+        }
+    }
+
+    // Returns once the records up to the sequence are on disk. Segments are forced as they fill up, so only the
+    // current one needs forcing.
+    public void sync(long sequence) {
+        this.commitLock.lock();
+        try {
+            while (this.durable < sequence)
+                if (this.committing)
+                    this.committed.awaitUninterruptibly();
+                else {
+                    this.committing = true;
+                    long forced = this.durable;
+                    this.commitLock.unlock();
+                    try {
+                        forced = this.force();
+                    } finally {
+                        this.commitLock.lock();
+                        this.committing = false;
+                        this.durable = Math.max(this.durable, forced);
+                        this.committed.signalAll();
+                    }
+                }
+        } finally {
+            this.commitLock.unlock();
+        }
+    }
+
+    private long force() {
+        JournalSegment segment;
+        long sequence;
+        this.appendLock.lock();
+        try {
+            segment = this.segment;
+            sequence = this.sequence;
+        } finally {
+            this.appendLock.unlock();
+        }
+        segment.force();
+        return sequence;
+    }
+
+    @Override
+    public void close() {
+        this.sync(this.getSequence());
+    }
+
+}
@@ -0,0 +1,42 @@
+package es.urjccode.mastercloudapps.adcs.draughts.journal;
+
+import es.urjccode.mastercloudapps.adcs.draughts.models.Game;
+import es.urjccode.mastercloudapps.adcs.draughts.models.GameObserver;
+
+// A synchronous observer only lets the player's action return once it is durable, so nothing acknowledged is lost
+// in a crash. Otherwise the record is only appended, and whoever answers the player waits for it.
+class JournalObserver implements GameObserver {
+
+    private Journal journal;
+    private int game;
+    private boolean synchronous;
+
+    JournalObserver(Journal journal, int game, boolean synchronous) {
+        assert journal != null;
+        this.journal = journal;
+        this.game = game;
+        this.synchronous = synchronous;
+    }
+
+    @Override
+    public void moved(int move, int huff) {
+        this.record(JournalSegment.MOVE, move, huff);
+    }
+
+    @Override
+    public void canceled() {
+        this.record(JournalSegment.CANCEL, 0, Game.NO_HUFF);
+    }
+
+    @Override
+    public void reset() {
+        this.record(JournalSegment.RESET, 0, Game.NO_HUFF);
+    }
+
+    private void record(byte type, int move, int huff) {
+        final long sequence = this.journal.append(this.game, type, move, huff);
+        if (this.synchronous)
+            this.journal.sync(sequence);
+    }
+
+}
@@ -0,0 +1,109 @@
+package es.urjccode.mastercloudapps.adcs.draughts.journal;
+
+import java.io.File;
+import java.io.IOException;
+import java.io.RandomAccessFile;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+
+// A fixed number of twelve byte records mapped from one file: the game, the move, or the token of an attach record,
+// the record type, the huff and a check of the other fields. New files are filled with zeros, so a zero type marks the end of the written records,
+// and a record torn by a crash fails its check.
+class JournalSegment {
+
+    static final int RECORD_BYTES = 12;
+    static final byte END = 0;
+    static final byte MOVE = 1;
+    static final byte CANCEL = 2;
+    static final byte RESET = 3;
+    static final byte ATTACH = 4;
+    static final byte DETACH = 5;
+
+    private static final int GAME_OFFSET = 0;
+    private static final int MOVE_OFFSET = 4;
+    private static final int TYPE_OFFSET = 8;
+    private static final int HUFF_OFFSET = 9;
+    private static final int CHECK_OFFSET = 10;
+
+    private MappedByteBuffer buffer;
+    private int capacity;
+
+    JournalSegment(File file, int capacity) throws IOException {
+        assert file != null;
+        assert capacity > 0;
+        final long bytes = (long) capacity * JournalSegment.RECORD_BYTES;
+        RandomAccessFile randomAccessFile = new RandomAccessFile(file, "rw");
+        try {
+            if (randomAccessFile.length() == 0)
+                randomAccessFile.setLength(bytes);
+            if (randomAccessFile.length() != bytes)
+                throw new IOException("Bad journal segment length " + file);
+            this.buffer = randomAccessFile.getChannel().map(FileChannel.MapMode.READ_WRITE, 0, bytes);
+        } finally {
+            randomAccessFile.close();
+        }
+        this.capacity = capacity;
+    }
+
+    int getCapacity() {
+        return this.capacity;
+    }
+
+    void put(int index, int game, byte type, int move, int huff) {
+        assert 0 <= index && index < this.capacity;
+        assert type != JournalSegment.END;
+        final int offset = index * JournalSegment.RECORD_BYTES;
+        this.buffer.putInt(offset + JournalSegment.GAME_OFFSET, game);
+        this.buffer.putInt(offset + JournalSegment.MOVE_OFFSET, move);
+        this.buffer.put(offset + JournalSegment.TYPE_OFFSET, type);
+        this.buffer.put(offset + JournalSegment.HUFF_OFFSET, (byte) huff);
+        this.buffer.putShort(offset + JournalSegment.CHECK_OFFSET, JournalSegment.getCheck(game, type, move, huff));
+    }
+
+    boolean isValid(int index) {
+        final byte type = this.getType(index);
+        return type != JournalSegment.END && this.buffer.getShort(index * JournalSegment.RECORD_BYTES
+            + JournalSegment.CHECK_OFFSET) == JournalSegment.getCheck(this.getGame(index), type,
+                this.getMove(index), this.getHuff(index));
+    }
+
+    int getGame(int index) {
+        return this.buffer.getInt(index * JournalSegment.RECORD_BYTES + JournalSegment.GAME_OFFSET);
+    }
+
+    byte getType(int index) {
+        return this.buffer.get(index * JournalSegment.RECORD_BYTES + JournalSegment.TYPE_OFFSET);
+    }
+
+    int getMove(int index) {
+        return this.buffer.getInt(index * JournalSegment.RECORD_BYTES + JournalSegment.MOVE_OFFSET);
+    }
+
+    int getHuff(int index) {
+        return this.buffer.get(index * JournalSegment.RECORD_BYTES + JournalSegment.HUFF_OFFSET);
+    }
+
+    // Clears whatever a crash left after the last valid record, so that it cannot pass for a record once new ones
+    // are written right before it. Returns whether anything had to be cleared.
+    boolean clear(int from) {
+        boolean cleared = false;
+        final int limit = this.capacity * JournalSegment.RECORD_BYTES;
+        for (int offset = from * JournalSegment.RECORD_BYTES; offset < limit; offset += Integer.BYTES)
+            if (this.buffer.getInt(offset) != 0) {
+                this.buffer.putInt(offset, 0);
+                cleared = true;
+            }
+        return cleared;
+    }
+
+    void force() {
+        this.buffer.force();
+    }
+
+    private static short getCheck(int game, byte type, int move, int huff) {
+        int hash = game * 0x9E3779B1 ^ move * 0x85EBCA6B ^ ((type << 8 | huff & 0xFF) + 1) * 0xC2B2AE35;
+        hash ^= hash >>> 16;
+        return (short) hash;
+    }
+
+}
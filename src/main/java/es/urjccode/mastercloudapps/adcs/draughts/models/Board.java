@@ -1,27 +1,105 @@
 package es.urjccode.mastercloudapps.adcs.draughts.models;
 
-import java.util.ArrayList;
-import java.util.Arrays;
-import java.util.List;
-
 class Board {
 
-    private Piece[][] pieces;
+    private static final Piece[] PIECES = { new Piece(Color.WHITE), new Piece(Color.BLACK) };
+    private static final Color[] COLORS = Color.values();
+    private static final Direction[] DIRECTIONS = Direction.values();
+
+    private long[] occupancies;
+    private long[] mobilities;
+    private long[] jumpers;
+    private long key;
+    private BoardObserver observer;
 
     Board() {
-        this.pieces = new Piece[Coordinate.getDimension()][Coordinate.getDimension()];
-        for (int i = 0; i < Coordinate.getDimension(); i++)
-            for (int j = 0; j < Coordinate.getDimension(); j++)
-                this.pieces[i][j] = null;
+        this.occupancies = new long[Board.PIECES.length];
+        this.mobilities = new long[Board.PIECES.length];
+        this.jumpers = new long[Board.PIECES.length];
+        this.observer = null;
+    }
+
+    private Board(Board board) {
+        this.occupancies = board.occupancies.clone();
+        this.mobilities = board.mobilities.clone();
+        this.jumpers = board.jumpers.clone();
+        this.key = board.key;
+        this.observer = null;
+    }
+
+    Board copy() {
+        return new Board(this);
+    }
+
+    static long getMask(Coordinate coordinate) {
+        return 1L << coordinate.getSquare();
     }
 
     Piece getPiece(Coordinate coordinate) {
         assert coordinate != null;
-        return this.pieces[coordinate.getRow()][coordinate.getColumn()];
+        final Color color = this.getColor(coordinate);
+        if (color == null)
+            return null;
+        return Board.PIECES[color.ordinal()];
     }
 
     void put(Coordinate coordinate, Piece piece) {
-        this.pieces[coordinate.getRow()][coordinate.getColumn()] = piece;
+        Color color = null;
+        if (piece != null)
+            color = piece.getColor();
+        this.put(coordinate.getSquare(), color);
+    }
+
+    void put(int square, Color color) {
+        final long mask = 1L << square;
+        final Color previous = this.getColor(square);
+        if (previous != null) {
+            this.occupancies[previous.ordinal()] &= ~mask;
+            this.key ^= Zobrist.getKey(previous, square);
+        }
+        if (color != null) {
+            this.occupancies[color.ordinal()] |= mask;
+            this.key ^= Zobrist.getKey(color, square);
+        }
+        this.updateMobilities();
+        if (this.observer != null)
+            this.observer.update(square, previous, color);
+    }
+
+    // Replaces the whole position at once; the observer is not notified and has to recount from the occupancies.
+    void set(long whites, long blacks) {
+        assert (whites & blacks) == 0;
+        this.occupancies[Color.WHITE.ordinal()] = whites;
+        this.occupancies[Color.BLACK.ordinal()] = blacks;
+        this.key = Zobrist.getKey(whites, blacks, Color.WHITE);
+        this.updateMobilities();
+    }
+
+    void setObserver(BoardObserver observer) {
+        this.observer = observer;
+    }
+
+    private void updateMobilities() {
+        final long empties = ~this.getOccupancy();
+        for (Color color : Board.COLORS) {
+            final long opposites = this.occupancies[color.getOpposite().ordinal()];
+            long steps = 0;
+            long jumps = 0;
+            for (Direction direction : Board.DIRECTIONS)
+                if (direction.isAdvanced(color)) {
+                    final Direction back = direction.getOpposite();
+                    final long landings = Geometry.shift(empties, back);
+                    steps |= landings;
+                    jumps |= Geometry.shift(opposites & landings, back);
+                }
+            this.jumpers[color.ordinal()] = this.occupancies[color.ordinal()] & jumps;
+            this.mobilities[color.ordinal()] = this.occupancies[color.ordinal()] & steps | this.jumpers[color.ordinal()];
+        }
+    }
+
+    long getJumpers(Color color) {
+        assert color != null;
+        return this.jumpers[color.ordinal()];
     }
 
     Piece remove(Coordinate coordinate) {
@@ -36,74 +114,96 @@ class Board {
         this.put(target, this.remove(origin));
     }
 
-    List<Piece> getBetweenDiagonalPieces(Coordinate origin, Coordinate target) {
-        List<Piece> betweenDiagonalPieces = new ArrayList<Piece>();
-        if (origin.isOnDiagonal(target))
-            for (Coordinate coordinate : origin.getBetweenDiagonalCoordinates(target)) {
-                Piece piece = this.getPiece(coordinate);
-                if (piece != null)
-                    betweenDiagonalPieces.add(piece);
-            }
-        return betweenDiagonalPieces;
+    void move(int origin, int target) {
+        final Color color = this.getColor(origin);
+        assert color != null;
+        this.put(origin, null);
+        this.put(target, color);
     }
 
     int getAmountBetweenDiagonalPieces(Coordinate origin, Coordinate target) {
-        if (!origin.isOnDiagonal(target))
-            return 0;
-        int betweenDiagonalPieces = 0;
-        for (Coordinate coordinate : origin.getBetweenDiagonalCoordinates(target))
-            if (this.getPiece(coordinate) != null)
-                betweenDiagonalPieces++;
-        return betweenDiagonalPieces;
+        return Long.bitCount(this.getOccupancy()
+            & Geometry.getBetweenMask(origin.getSquare(), target.getSquare()));
+    }
+
+    int getAmountBetweenDiagonalPieces(Coordinate origin, Coordinate target, Color color) {
+        return Long.bitCount(this.getOccupancy(color)
+            & Geometry.getBetweenMask(origin.getSquare(), target.getSquare()));
     }
 
     Color getColor(Coordinate coordinate) {
-        final Piece piece = this.getPiece(coordinate);
-        if (piece == null)
-            return null;
-        return piece.getColor();
+        return this.getColor(coordinate.getSquare());
+    }
+
+    Color getColor(int square) {
+        final long mask = 1L << square;
+        for (Color color : Board.COLORS)
+            if ((this.occupancies[color.ordinal()] & mask) != 0)
+                return color;
+        return null;
     }
 
     boolean isEmpty(Coordinate coordinate) {
-        return this.getPiece(coordinate) == null;
+        return this.isEmpty(coordinate.getSquare());
+    }
+
+    boolean isEmpty(int square) {
+        return (this.getOccupancy() & (1L << square)) == 0;
+    }
+
+    long getOccupancy(Color color) {
+        assert color != null;
+        return this.occupancies[color.ordinal()];
+    }
+
+    long getMobility(Color color) {
+        assert color != null;
+        return this.mobilities[color.ordinal()];
+    }
+
+    long getKey() {
+        return this.key;
+    }
+
+    long getOccupancy() {
+        long occupancy = 0;
+        for (int i = 0; i < this.occupancies.length; i++)
+            occupancy |= this.occupancies[i];
+        return occupancy;
     }
 
     @Override
     public String toString() {
-        String string = "";
-        string += this.toStringHorizontalNumbers();
+        StringBuilder builder = new StringBuilder((Coordinate.getDimension() + 2) * (Coordinate.getDimension() + 4));
+        this.appendHorizontalNumbers(builder);
         for (int i = 0; i < Coordinate.getDimension(); i++)
-            string += this.toStringHorizontalPiecesWithNumbers(i);
-        string += this.toStringHorizontalNumbers();
-        return string;
+            this.appendHorizontalPiecesWithNumbers(builder, i);
+        this.appendHorizontalNumbers(builder);
+        return builder.toString();
     }
 
-    private String toStringHorizontalNumbers() {
-        String string = " ";
+    private void appendHorizontalNumbers(StringBuilder builder) {
+        builder.append(' ');
         for (int j = 0; j < Coordinate.getDimension(); j++)
-            string += j;
-        return string + "\n";
+            builder.append(j);
+        builder.append('\n');
     }
 
-    private String toStringHorizontalPiecesWithNumbers(int row) {
-        String string = " " + row;
+    private void appendHorizontalPiecesWithNumbers(StringBuilder builder, int row) {
+        builder.append(' ').append(row);
         for (int j = 0; j < Coordinate.getDimension(); j++) {
-            Piece piece = this.getPiece(new Coordinate(row, j));
+            Piece piece = this.getPiece(Coordinate.getInstance(row, j));
             if (piece == null)
-                string += " ";
-            else {
-                string += piece;
-            }
+                builder.append(' ');
+            else
+                builder.append(piece.getCode());
         }
-        return string + row + "\n";
+        builder.append(row).append('\n');
     }
 
     @Override
     public int hashCode() {
-        final int prime = 31;
-        int result = 1;
-        result = prime * result + Arrays.deepHashCode(pieces);
-        return result;
+        return Long.hashCode(this.key);
     }
 
     @Override
@@ -115,9 +215,10 @@ class Board {
         if (getClass() != obj.getClass())
             return false;
         Board other = (Board) obj;
-        if (!Arrays.deepEquals(pieces, other.pieces))
-            return false;
+        for (int i = 0; i < this.occupancies.length; i++)
+            if (this.occupancies[i] != other.occupancies[i])
+                return false;
         return true;
     }
 
-}
\ No newline at end of file
+}
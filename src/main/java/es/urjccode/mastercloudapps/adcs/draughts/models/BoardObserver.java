@@ -0,0 +1,7 @@
+package es.urjccode.mastercloudapps.adcs.draughts.models;
+
+public interface BoardObserver {
+
+    void update(int square, Color previous, Color color);
+
+}
@@ -16,6 +16,12 @@ public enum Color {
         return false;
     }
 
+    public Color getOpposite() {
+        if (this == Color.WHITE)
+            return Color.BLACK;
+        return Color.WHITE;
+    }
+
     static Color getInitialColor(final Coordinate coordinate) {
         if (coordinate.isBlack())
             for(Color color : Color.values())
@@ -5,8 +5,8 @@ import java.util.List;
 
 public class Coordinate {
 
-    private int row;
-    private int column;
+    private final int row;
+    private final int column;
     private static final int LOWER_LIMIT = 0;
     private static final int UPPER_LIMIT = 7;
     private static final int DIMENSION = UPPER_LIMIT + 1;
@@ -22,7 +22,7 @@ public class Coordinate {
             int value = Integer.parseInt(format);
             int row = value / 10 - 1;
             int column = value % 10 - 1;
-            Coordinate coordinate = new Coordinate(row, column);
+            Coordinate coordinate = Coordinate.getInstance(row, column);
             if (!coordinate.isWithIn())
                 return null;
             return coordinate;
@@ -31,6 +31,13 @@ public class Coordinate {
         }
     }
 
+    static Coordinate getInstance(int row, int column) {
+        final int square = Geometry.getSquare(row, column);
+        if (square == Geometry.NONE)
+            return new Coordinate(row, column);
+        return Geometry.getCoordinate(square);
+    }
+
     private boolean isWithIn() {
         return Coordinate.LOWER_LIMIT <= row && row <= Coordinate.UPPER_LIMIT && Coordinate.LOWER_LIMIT <= column
                 && column <= Coordinate.UPPER_LIMIT;
@@ -46,9 +53,11 @@ public class Coordinate {
 
     Direction getDirection(Coordinate coordinate) {
         assert coordinate != null;
+        if (this.isWithIn() && coordinate.isWithIn())
+            return Geometry.getDirection(this.getSquare(), coordinate.getSquare());
         Coordinate substract = coordinate.substract(this);
-        for (Direction direction : Direction.values()) 
-            if (direction.isOnDirection(substract)) 
+        for (Direction direction : Direction.values())
+            if (direction.isOnDirection(substract))
                 return direction;
         return null;
     }
@@ -59,17 +68,21 @@ public class Coordinate {
 
     int getDiagonalDistance(Coordinate coordinate) {
         assert this.isOnDiagonal(coordinate);
-        return Math.abs(this.substract(coordinate).getRow());
+        return Math.abs(this.row - coordinate.row);
     }
 
     Coordinate getBetweenDiagonalCoordinate(Coordinate coordinate) {
         assert this.getDiagonalDistance(coordinate) == 2;
         final Direction direction = this.getDirection(coordinate);
+        if (this.isWithIn() && coordinate.isWithIn())
+            return Geometry.getCoordinate(Geometry.getJumped(this.getSquare(), direction));
         return this.plus(direction.getDistanceCoordinate(1));
     }
 
     List<Coordinate> getBetweenDiagonalCoordinates(Coordinate coordinate){
         assert this.isOnDiagonal(coordinate);
+        if (this.isWithIn() && coordinate.isWithIn())
+            return Geometry.getBetweenDiagonalCoordinates(this.getSquare(), coordinate.getSquare());
         List<Coordinate> coordinates = new ArrayList<Coordinate>();
         final Direction direction = this.getDirection(coordinate);
         Coordinate cursor = this.plus(direction.getDistanceCoordinate(1));
@@ -81,6 +94,8 @@ public class Coordinate {
     }
 
     List<Coordinate> getDiagonalCoordinates(int level) {
+        if (this.isWithIn() && 0 <= level && level < Coordinate.DIMENSION)
+            return Geometry.getDiagonalCoordinates(this.getSquare(), level);
         List<Coordinate> diagonalCoordinates = new ArrayList<Coordinate>();
         for (Direction direction : Direction.values()) {
             Coordinate diagonalCoordinate = this.plus(direction.getDistanceCoordinate(level));
@@ -90,6 +105,11 @@ public class Coordinate {
         return diagonalCoordinates;
     }
 
+    int getSquare() {
+        assert this.isWithIn();
+        return this.row * Coordinate.DIMENSION + this.column;
+    }
+
     boolean isBlack() {
         return (this.row + this.column) % 2 != 0;
     }
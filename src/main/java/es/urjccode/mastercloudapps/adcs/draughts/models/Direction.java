@@ -6,12 +6,18 @@ enum Direction {
     SW(-1, -1), 
     NW(1, -1);
 
+    private static final Direction[] VALUES = Direction.values();
+
     private int horizontalShift;
     private int verticalShift;
+    private Coordinate[] distanceCoordinates;
     
     private Direction(int horizontalShift, int verticalShift) {
         this.horizontalShift = horizontalShift;
         this.verticalShift = verticalShift;
+        this.distanceCoordinates = new Coordinate[Coordinate.getDimension()];
+        for (int i = 0; i < this.distanceCoordinates.length; i++)
+            this.distanceCoordinates[i] = new Coordinate(horizontalShift * i, verticalShift * i);
     }
 
     public boolean isOnDirection(Coordinate coordinate) {
@@ -27,9 +33,30 @@ enum Direction {
     }
     
     Coordinate getDistanceCoordinate(int distance) {
+        if (0 <= distance && distance < this.distanceCoordinates.length)
+            return this.distanceCoordinates[distance];
         int row = this.horizontalShift * distance;
         int column = this.verticalShift * distance;
         return new Coordinate(row, column);
     }
 
+    Direction getOpposite() {
+        return Direction.VALUES[(this.ordinal() + Direction.VALUES.length / 2) % Direction.VALUES.length];
+    }
+
+    boolean isAdvanced(Color color) {
+        assert color != null;
+        if (color == Color.WHITE)
+            return this.horizontalShift < 0;
+        return this.horizontalShift > 0;
+    }
+
+    int getHorizontalShift() {
+        return this.horizontalShift;
+    }
+
+    int getVerticalShift() {
+        return this.verticalShift;
+    }
+
 }
\ No newline at end of file
@@ -1,57 +1,101 @@
 package es.urjccode.mastercloudapps.adcs.draughts.models;
 
-import java.util.ArrayList;
-import java.util.List;
-import java.util.Random;
+import java.util.SplittableRandom;
 
 public class Game {
 
+    public static final int NO_HUFF = Geometry.NONE;
+
     private Board board;
     private Turn turn;
+    private MoveGenerator moveGenerator;
+    private UndoStack undoStack;
+    private SplittableRandom random;
+    private PositionCell position;
+    private GameObserver observer;
 
-    Game(Board board) {
+    Game(Board board, SplittableRandom random) {
+        assert random != null;
         this.turn = new Turn();
         this.board = board;
+        this.moveGenerator = new MoveGenerator(board);
+        this.undoStack = new UndoStack();
+        this.random = random;
+        this.position = new PositionCell();
+        this.publish();
     }
 
-    public Game() {
-        this(new Board());
+    Game(Board board) {
+        this(board, new SplittableRandom());
+    }
+
+    public Game(SplittableRandom random) {
+        this(new Board(), random);
         this.reset();
     }
 
+    public Game(long seed) {
+        this(new SplittableRandom(seed));
+    }
+
+    public Game() {
+        this(new SplittableRandom());
+    }
+
+    public Game copy() {
+        Game game = new Game(this.board.copy(), this.random.split());
+        if (game.getTurnColor() != this.getTurnColor())
+            game.turn.change();
+        game.publish();
+        return game;
+    }
+
     public void reset() {
         for (int i = 0; i < Coordinate.getDimension(); i++)
             for (int j = 0; j < Coordinate.getDimension(); j++) {
-                Coordinate coordinate = new Coordinate(i, j);
-                Color color = Color.getInitialColor(coordinate);
-                Piece piece = null;
-                if (color != null)
-                    piece = new Piece(color);
-                this.board.put(coordinate, piece);
+                Coordinate coordinate = Coordinate.getInstance(i, j);
+                this.board.put(coordinate.getSquare(), Color.getInitialColor(coordinate));
             }
         if (this.turn.getColor() != Color.WHITE)
             this.turn.change();
+        this.undoStack.clear();
+        this.publish();
+        if (this.observer != null)
+            this.observer.reset();
+    }
+
+    public void setPosition(long whites, long blacks, Color color) {
+        assert color != null;
+        this.board.set(whites, blacks);
+        if (this.turn.getColor() != color)
+            this.turn.change();
+        this.undoStack.clear();
+        this.publish();
     }
 
     public Error move(Coordinate... coordinates) {
         Error error = null;
-        List<Coordinate> removedCoordinates = new ArrayList<Coordinate>();
+        this.undoStack.push(coordinates[0].getSquare(), this.getTurnColor());
         int pair = 0;
-        List<Coordinate> canEatCoordinates= new ArrayList<Coordinate>();
+        long huffs = 0;
         do {
             error = this.isCorrectPairMove(pair, coordinates);
             if (error == null) {
-                this.checkMovementsColor(canEatCoordinates,removedCoordinates,pair,coordinates);
-                this.pairMove(removedCoordinates, pair, coordinates);
-                this.removeRandomBadMovement(canEatCoordinates,removedCoordinates);
+                huffs |= this.checkMovementsColor(pair, coordinates);
+                this.pairMove(pair, coordinates);
+                this.removeRandomBadMovement(huffs);
                 pair++;
             }
         }  while (pair < coordinates.length - 1 && error == null);
-        error = this.isCorrectGlobalMove(error, removedCoordinates, coordinates);
-        if (error == null)
+        error = this.isCorrectGlobalMove(error, coordinates);
+        this.undoStack.setTarget(coordinates[pair].getSquare());
+        if (error == null) {
             this.turn.change();
-        else
-            this.unMovesUntilPair(removedCoordinates, pair, coordinates);
+            this.publish();
+            if (this.observer != null)
+                this.observer.moved(Move.getInstance(coordinates), this.undoStack.getHuff());
+        } else
+            this.unmakeMove();
         return error;
     }
 
@@ -64,116 +108,138 @@ public class Game {
             return Error.OPPOSITE_PIECE;
         if (!this.board.isEmpty(coordinates[pair + 1]))
             return Error.NOT_EMPTY_TARGET;
-        List<Piece> betweenDiagonalPieces =
-            this.board.getBetweenDiagonalPieces(coordinates[pair], coordinates[pair + 1]);
-        return this.board.getPiece(coordinates[pair]).isCorrectMovement(betweenDiagonalPieces, pair, coordinates);
+        return this.board.getPiece(coordinates[pair]).isCorrectMovement(
+            this.board.getAmountBetweenDiagonalPieces(coordinates[pair], coordinates[pair + 1]),
+            this.board.getAmountBetweenDiagonalPieces(coordinates[pair], coordinates[pair + 1], this.getTurnColor()),
+            pair, coordinates);
     }
 
-    private void pairMove(List<Coordinate> removedCoordinates, int pair, Coordinate... coordinates) {
-        Coordinate forRemoving = this.getBetweenDiagonalPiece(pair, coordinates);
-        if (forRemoving != null) {
-            removedCoordinates.add(0, forRemoving);
-            this.board.remove(forRemoving);
+    private void pairMove(int pair, Coordinate... coordinates) {
+        final int origin = coordinates[pair].getSquare();
+        final int target = coordinates[pair + 1].getSquare();
+        final long forRemoving = Geometry.getBetweenMask(origin, target) & this.board.getOccupancy();
+        if (forRemoving != 0) {
+            final int square = Long.numberOfTrailingZeros(forRemoving);
+            this.undoStack.addCapture(square);
+            this.board.put(square, null);
         }
-        this.board.move(coordinates[pair], coordinates[pair + 1]);
+        this.board.move(origin, target);
     }
 
-    private void checkMovementsColor(List<Coordinate> canEatCoordinates,List<Coordinate> removedCoordinates,int pair, Coordinate...coordinates){
-        List<Coordinate> mv= this.getCoordinatesWithActualColor();
-        if(removedCoordinates.size() == 0 ){
-            for (Coordinate coordinate : mv)
-                if(this.getPiece(coordinate)!= this.getPiece(coordinates[pair]))
-                    this.checkPossibleBadMovement(canEatCoordinates, coordinate);
-        }
+    private long checkMovementsColor(int pair, Coordinate...coordinates){
+        if (this.undoStack.getRemovedAmount() != 0)
+            return 0;
+        return this.board.getJumpers(this.getTurnColor()) & ~(1L << coordinates[pair].getSquare());
     }
 
-    private void removeRandomBadMovement(List<Coordinate> canEatCoordinates,List<Coordinate> removedCoordinates){
-        if(removedCoordinates.size()== 0 && canEatCoordinates.size()> 0 ){
-            int number = new Random().nextInt(canEatCoordinates.size());;
-            removedCoordinates.add(0,canEatCoordinates.get(number));
-            this.board.remove(canEatCoordinates.get(number));
+    private void removeRandomBadMovement(long huffs){
+        if(this.undoStack.getRemovedAmount() == 0 && huffs != 0){
+            final int huff = this.getRandomHuff(huffs);
+            this.undoStack.setHuff(huff);
+            this.board.put(huff, null);
         }
     }
 
-    private void checkPossibleBadMovement(List<Coordinate> removedCoordinates, Coordinate coordinate) {
-        if (this.isPossibleToEat(coordinate))
-            removedCoordinates.add(0, coordinate);
+    private int getRandomHuff(long huffs) {
+        assert huffs != 0;
+        for (int i = this.random.nextInt(Long.bitCount(huffs)); i > 0; i--)
+            huffs &= huffs - 1;
+        return Long.numberOfTrailingZeros(huffs);
     }
 
-    private boolean isPossibleToEat(Coordinate coordinate){
-        Piece piece = this.getPiece(coordinate);
-        if(piece.getCode().equals("b") || piece.getCode().equals("n"))
-            return this.isPosibleToEatPiece(piece, coordinate);
-        return false;
+    // Every pair of a move with more than one has to capture. The piece lost for huffing is no capture, so a step
+    // that gets a piece huffed cannot go on jumping.
+    private Error isCorrectGlobalMove(Error error, Coordinate... coordinates){
+        if (error != null)
+            return error;
+        if (coordinates.length > 2 && coordinates.length > Long.bitCount(this.undoStack.getCaptures()) + 1)
+            return Error.TOO_MUCH_JUMPS;
+        return null;
     }
 
-    private boolean isPosibleToEatPiece(Piece piece, Coordinate coordinate){
-        List<Coordinate> coordinates = coordinate.getDiagonalCoordinates(2);
-        for (Coordinate coor : coordinates) {
-            if (this.isCorrectPairMove(0, coordinate, coor) == null) return true;
-        }
-        return false;
+    public void makeMove(int move) {
+        final long huffs = this.getHuffs(move);
+        if (huffs == 0)
+            this.makeMove(move, Game.NO_HUFF);
+        else
+            this.makeMove(move, this.getRandomHuff(huffs));
     }
 
-    private Coordinate getBetweenDiagonalPiece(int pair, Coordinate... coordinates) {
-        assert coordinates[pair].isOnDiagonal(coordinates[pair + 1]);
-        List<Coordinate> betweenCoordinates = coordinates[pair].getBetweenDiagonalCoordinates(coordinates[pair + 1]);
-        if (betweenCoordinates.isEmpty())
-            return null;
-        for (Coordinate coordinate : betweenCoordinates) {
-            if (this.getPiece(coordinate) != null)
-                return coordinate;
+    public void makeMove(int move, int huff) {
+        assert huff == Game.NO_HUFF || (this.getHuffs(move) & (1L << huff)) != 0;
+        this.undoStack.push(Move.getOrigin(move), this.getTurnColor());
+        for (int i = 1; i < Move.getLength(move); i++) {
+            final int origin = Move.getSquare(move, i - 1);
+            final int target = Move.getSquare(move, i);
+            final long captures = Geometry.getBetweenMask(origin, target) & this.board.getOccupancy();
+            if (captures != 0) {
+                final int capture = Long.numberOfTrailingZeros(captures);
+                this.undoStack.addCapture(capture);
+                this.board.put(capture, null);
+            }
+            this.board.move(origin, target);
         }
-        return null;
+        if (huff != Game.NO_HUFF) {
+            this.undoStack.setHuff(huff);
+            this.board.put(huff, null);
+        }
+        this.undoStack.setTarget(Move.getTarget(move));
+        this.turn.change();
     }
 
-    private Error isCorrectGlobalMove(Error error, List<Coordinate> removedCoordinates, Coordinate... coordinates){
-        if (error != null)
-            return error;
-        if (coordinates.length > 2 && coordinates.length > removedCoordinates.size() + 1)
-            return Error.TOO_MUCH_JUMPS;
-        return null;
+    // Plays a move with the huff it got when it was first played, as a recorded game is played back.
+    public void replay(int move, int huff) {
+        this.makeMove(move, huff);
+        this.publish();
     }
 
-    private void unMovesUntilPair(List<Coordinate> removedCoordinates, int pair, Coordinate... coordinates) {
-        for (int j = pair; j > 0; j--)
-            this.board.move(coordinates[j], coordinates[j - 1]);
-        for (Coordinate removedPiece : removedCoordinates)
-            this.board.put(removedPiece, new Piece(this.getOppositeTurnColor()));
+    public long getHuffs(int move) {
+        if (Move.isCapture(move))
+            return 0;
+        return this.board.getJumpers(this.getTurnColor()) & ~(1L << Move.getOrigin(move));
     }
 
-    public boolean isBlocked() {
-        for (Coordinate coordinate : this.getCoordinatesWithActualColor())
-            if (!this.isBlocked(coordinate))
-                return false;
-        return true;
+    public void unmakeMove() {
+        assert !this.undoStack.isEmpty();
+        final Color color = this.undoStack.getColor();
+        if (this.undoStack.getTarget() != this.undoStack.getOrigin())
+            this.board.move(this.undoStack.getTarget(), this.undoStack.getOrigin());
+        long captures = this.undoStack.getCaptures();
+        while (captures != 0) {
+            this.board.put(Long.numberOfTrailingZeros(captures), color.getOpposite());
+            captures &= captures - 1;
+        }
+        if (this.undoStack.getHuff() != Game.NO_HUFF)
+            this.board.put(this.undoStack.getHuff(), color);
+        if (this.getTurnColor() != color)
+            this.turn.change();
+        this.undoStack.pop();
     }
 
-    private List<Coordinate> getCoordinatesWithActualColor() {
-        List<Coordinate> coordinates = new ArrayList<Coordinate>();
-        for (int i = 0; i < this.getDimension(); i++) {
-            for (int j = 0; j < this.getDimension(); j++) {
-                Coordinate coordinate = new Coordinate(i, j);
-                Piece piece = this.getPiece(coordinate);
-                if (piece != null && piece.getColor() == this.getTurnColor())
-                    coordinates.add(coordinate);
-            }
-        }
-        return coordinates;
+    public boolean isUnmakeable() {
+        return !this.undoStack.isEmpty();
     }
 
-    private boolean isBlocked(Coordinate coordinate) {
-        for (int i = 1; i <= 2; i++)
-            for (Coordinate target : coordinate.getDiagonalCoordinates(i))
-                if (this.isCorrectPairMove(0, coordinate, target) == null)
-                    return false;
-        return true;
+    public void generateMoves(MoveBuffer moves) {
+        this.moveGenerator.generate(this.getTurnColor(), moves);
+    }
+
+    public boolean isCaptureAvailable() {
+        return this.board.getJumpers(this.getTurnColor()) != 0;
+    }
+
+    public boolean isBlocked() {
+        return this.board.getMobility(this.getTurnColor()) == 0;
     }
 
     public void cancel() {
-        for (Coordinate coordinate : this.getCoordinatesWithActualColor())
-            this.board.remove(coordinate);
+        for (long occupancy = this.board.getOccupancy(this.getTurnColor()); occupancy != 0; occupancy &= occupancy - 1)
+            this.board.put(Long.numberOfTrailingZeros(occupancy), null);
         this.turn.change();
+        this.undoStack.clear();
+        this.publish();
+        if (this.observer != null)
+            this.observer.canceled();
     }
 
     public Color getColor(Coordinate coordinate) {
@@ -185,15 +251,40 @@ public class Game {
         return this.turn.getColor();
     }
 
-    private Color getOppositeTurnColor() {
-        return this.turn.getOppositeColor();
-    }
-
     public Piece getPiece(Coordinate coordinate) {
         assert coordinate != null;
         return this.board.getPiece(coordinate);
     }
 
+    public long getOccupancy(Color color) {
+        assert color != null;
+        return this.board.getOccupancy(color);
+    }
+
+    // Any thread may read the latest position. Moves made and unmade by searches are not published, so readers
+    // only ever see positions actually played.
+    public Position getPosition() {
+        return this.position.get();
+    }
+
+    void publish() {
+        this.position.publish(this.board.getOccupancy(Color.WHITE), this.board.getOccupancy(Color.BLACK),
+            this.getTurnColor());
+    }
+
+    public void setObserver(BoardObserver observer) {
+        this.board.setObserver(observer);
+    }
+
+    // Only the moves, cancels and resets of the players are reported, never the ones made by searches or replays.
+    public void setGameObserver(GameObserver observer) {
+        this.observer = observer;
+    }
+
+    public long positionKey() {
+        return this.board.getKey() ^ this.turn.getKey();
+    }
+
     public int getDimension() {
         return Coordinate.getDimension();
     }
@@ -205,11 +296,7 @@ public class Game {
 
     @Override
     public int hashCode() {
-        final int prime = 31;
-        int result = 1;
-        result = prime * result + ((board == null) ? 0 : board.hashCode());
-        result = prime * result + ((turn == null) ? 0 : turn.hashCode());
-        return result;
+        return Long.hashCode(this.positionKey());
     }
 
     @Override
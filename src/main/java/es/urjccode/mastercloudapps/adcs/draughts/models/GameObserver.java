@@ -0,0 +1,11 @@
+package es.urjccode.mastercloudapps.adcs.draughts.models;
+
+public interface GameObserver {
+
+    void moved(int move, int huff);
+
+    void canceled();
+
+    void reset();
+
+}
@@ -0,0 +1,149 @@
+package es.urjccode.mastercloudapps.adcs.draughts.models;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+
+final class Geometry {
+
+    static final int NONE = -1;
+    static final int SQUARES = Coordinate.getDimension() * Coordinate.getDimension();
+
+    private static final Direction[] DIRECTIONS = Direction.values();
+    private static final Coordinate[] COORDINATES = new Coordinate[Geometry.SQUARES];
+    private static final int[][] NEIGHBOURS = new int[Geometry.DIRECTIONS.length][Geometry.SQUARES];
+    private static final long[] SHIFTABLE_MASKS = new long[Geometry.DIRECTIONS.length];
+    private static final int[] SHIFT_OFFSETS = new int[Geometry.DIRECTIONS.length];
+    private static final int[][] JUMPS = new int[Geometry.DIRECTIONS.length][Geometry.SQUARES];
+    private static final int[][][] RAYS = new int[Geometry.DIRECTIONS.length][Geometry.SQUARES][];
+    private static final Direction[][] DIRECTIONS_BETWEEN = new Direction[Geometry.SQUARES][Geometry.SQUARES];
+    private static final long[][] BETWEEN_MASKS = new long[Geometry.SQUARES][Geometry.SQUARES];
+    private static final List<List<List<Coordinate>>> BETWEEN_COORDINATES =
+        new ArrayList<List<List<Coordinate>>>();
+    private static final List<List<List<Coordinate>>> DIAGONAL_COORDINATES =
+        new ArrayList<List<List<Coordinate>>>();
+
+    static {
+        for (int square = 0; square < Geometry.SQUARES; square++)
+            Geometry.COORDINATES[square] =
+                new Coordinate(square / Coordinate.getDimension(), square % Coordinate.getDimension());
+        for (Direction direction : Geometry.DIRECTIONS) {
+            Geometry.SHIFT_OFFSETS[direction.ordinal()] =
+                direction.getHorizontalShift() * Coordinate.getDimension() + direction.getVerticalShift();
+            for (int square = 0; square < Geometry.SQUARES; square++) {
+                Geometry.NEIGHBOURS[direction.ordinal()][square] = Geometry.shift(square, direction, 1);
+                if (Geometry.NEIGHBOURS[direction.ordinal()][square] != Geometry.NONE)
+                    Geometry.SHIFTABLE_MASKS[direction.ordinal()] |= 1L << square;
+                Geometry.JUMPS[direction.ordinal()][square] = Geometry.shift(square, direction, 2);
+                Geometry.RAYS[direction.ordinal()][square] = Geometry.computeRay(square, direction);
+            }
+        }
+        for (int origin = 0; origin < Geometry.SQUARES; origin++) {
+            List<List<Coordinate>> betweenCoordinates = new ArrayList<List<Coordinate>>();
+            for (int target = 0; target < Geometry.SQUARES; target++)
+                betweenCoordinates.add(Geometry.computeBetweenCoordinates(origin, target));
+            Geometry.BETWEEN_COORDINATES.add(betweenCoordinates);
+            List<List<Coordinate>> diagonalCoordinates = new ArrayList<List<Coordinate>>();
+            for (int level = 0; level < Coordinate.getDimension(); level++)
+                diagonalCoordinates.add(Geometry.computeDiagonalCoordinates(origin, level));
+            Geometry.DIAGONAL_COORDINATES.add(diagonalCoordinates);
+        }
+    }
+
+    private Geometry() {
+    }
+
+    private static int shift(int square, Direction direction, int distance) {
+        return Geometry.getSquare(square / Coordinate.getDimension() + direction.getHorizontalShift() * distance,
+            square % Coordinate.getDimension() + direction.getVerticalShift() * distance);
+    }
+
+    private static int[] computeRay(int square, Direction direction) {
+        int length = 0;
+        while (Geometry.shift(square, direction, length + 1) != Geometry.NONE)
+            length++;
+        int[] ray = new int[length];
+        for (int i = 0; i < length; i++) {
+            ray[i] = Geometry.shift(square, direction, i + 1);
+            Geometry.DIRECTIONS_BETWEEN[square][ray[i]] = direction;
+            for (int j = 0; j < i; j++)
+                Geometry.BETWEEN_MASKS[square][ray[i]] |= 1L << ray[j];
+        }
+        return ray;
+    }
+
+    private static List<Coordinate> computeBetweenCoordinates(int origin, int target) {
+        final Direction direction = Geometry.DIRECTIONS_BETWEEN[origin][target];
+        if (direction == null)
+            return null;
+        List<Coordinate> coordinates = new ArrayList<Coordinate>();
+        for (int square : Geometry.RAYS[direction.ordinal()][origin]) {
+            if (square == target)
+                break;
+            coordinates.add(Geometry.COORDINATES[square]);
+        }
+        return Collections.unmodifiableList(coordinates);
+    }
+
+    private static List<Coordinate> computeDiagonalCoordinates(int square, int level) {
+        List<Coordinate> coordinates = new ArrayList<Coordinate>();
+        for (Direction direction : Geometry.DIRECTIONS) {
+            final int diagonalSquare = Geometry.shift(square, direction, level);
+            if (diagonalSquare != Geometry.NONE)
+                coordinates.add(Geometry.COORDINATES[diagonalSquare]);
+        }
+        return Collections.unmodifiableList(coordinates);
+    }
+
+    static int getSquare(int row, int column) {
+        if (row < 0 || row >= Coordinate.getDimension() || column < 0 || column >= Coordinate.getDimension())
+            return Geometry.NONE;
+        return row * Coordinate.getDimension() + column;
+    }
+
+    static Coordinate getCoordinate(int square) {
+        return Geometry.COORDINATES[square];
+    }
+
+    static int getNeighbour(int square, Direction direction) {
+        return Geometry.NEIGHBOURS[direction.ordinal()][square];
+    }
+
+    static int getJump(int square, Direction direction) {
+        return Geometry.JUMPS[direction.ordinal()][square];
+    }
+
+    static int getJumped(int square, Direction direction) {
+        assert Geometry.getJump(square, direction) != Geometry.NONE;
+        return Geometry.getNeighbour(square, direction);
+    }
+
+    static long shift(long mask, Direction direction) {
+        final long shiftable = mask & Geometry.SHIFTABLE_MASKS[direction.ordinal()];
+        final int offset = Geometry.SHIFT_OFFSETS[direction.ordinal()];
+        if (offset > 0)
+            return shiftable << offset;
+        return shiftable >>> -offset;
+    }
+
+    static int[] getRay(Direction direction, int square) {
+        return Geometry.RAYS[direction.ordinal()][square];
+    }
+
+    static Direction getDirection(int origin, int target) {
+        return Geometry.DIRECTIONS_BETWEEN[origin][target];
+    }
+
+    static long getBetweenMask(int origin, int target) {
+        return Geometry.BETWEEN_MASKS[origin][target];
+    }
+
+    static List<Coordinate> getBetweenDiagonalCoordinates(int origin, int target) {
+        return Geometry.BETWEEN_COORDINATES.get(origin).get(target);
+    }
+
+    static List<Coordinate> getDiagonalCoordinates(int square, int level) {
+        return Geometry.DIAGONAL_COORDINATES.get(square).get(level);
+    }
+
+}
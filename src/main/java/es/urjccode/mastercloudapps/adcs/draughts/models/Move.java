@@ -0,0 +1,81 @@
+package es.urjccode.mastercloudapps.adcs.draughts.models;
+
+public final class Move {
+
+    public static final int NONE = 0;
+    public static final int MAX_LENGTH = 4;
+    private static final int LENGTH_BITS = 3;
+    private static final int SQUARE_BITS = 6;
+    private static final int SQUARE_MASK = (1 << Move.SQUARE_BITS) - 1;
+    private static final String SEPARATOR = ".";
+
+    private Move() {
+    }
+
+    static int getInstance(int origin) {
+        return Move.append(Move.NONE, origin);
+    }
+
+    static int append(int move, int square) {
+        final int length = Move.getLength(move);
+        assert length < Move.MAX_LENGTH;
+        assert 0 <= square && square < Geometry.SQUARES;
+        return (move & ~((1 << Move.LENGTH_BITS) - 1)) | (square << (Move.LENGTH_BITS + Move.SQUARE_BITS * length))
+            | (length + 1);
+    }
+
+    public static int getInstance(Coordinate... coordinates) {
+        assert coordinates != null;
+        if (coordinates.length > Move.MAX_LENGTH)
+            return Move.NONE;
+        int move = Move.NONE;
+        for (Coordinate coordinate : coordinates)
+            move = Move.append(move, coordinate.getSquare());
+        return move;
+    }
+
+    public static int getLength(int move) {
+        return move & ((1 << Move.LENGTH_BITS) - 1);
+    }
+
+    public static int getSquare(int move, int index) {
+        assert 0 <= index && index < Move.getLength(move);
+        return (move >>> (Move.LENGTH_BITS + Move.SQUARE_BITS * index)) & Move.SQUARE_MASK;
+    }
+
+    public static int getOrigin(int move) {
+        return Move.getSquare(move, 0);
+    }
+
+    public static int getTarget(int move) {
+        return Move.getSquare(move, Move.getLength(move) - 1);
+    }
+
+    public static Coordinate getCoordinate(int move, int index) {
+        return Geometry.getCoordinate(Move.getSquare(move, index));
+    }
+
+    public static Coordinate[] getCoordinates(int move) {
+        Coordinate[] coordinates = new Coordinate[Move.getLength(move)];
+        for (int i = 0; i < coordinates.length; i++)
+            coordinates[i] = Move.getCoordinate(move, i);
+        return coordinates;
+    }
+
+    public static boolean isCapture(int move) {
+        return Move.getLength(move) > 2
+            || Move.getCoordinate(move, 0).getDiagonalDistance(Move.getCoordinate(move, 1)) == 2;
+    }
+
+    public static String toString(int move) {
+        String string = "";
+        for (int i = 0; i < Move.getLength(move); i++) {
+            Coordinate coordinate = Move.getCoordinate(move, i);
+            if (i > 0)
+                string += Move.SEPARATOR;
+            string += (coordinate.getRow() + 1) + "" + (coordinate.getColumn() + 1);
+        }
+        return string;
+    }
+
+}
@@ -0,0 +1,52 @@
+package es.urjccode.mastercloudapps.adcs.draughts.models;
+
+import java.util.Arrays;
+
+public class MoveBuffer {
+
+    private static final int INITIAL_CAPACITY = 256;
+
+    private int[] moves;
+    private int size;
+
+    public MoveBuffer() {
+        this.moves = new int[MoveBuffer.INITIAL_CAPACITY];
+        this.size = 0;
+    }
+
+    void add(int move) {
+        if (this.size == this.moves.length)
+            this.moves = Arrays.copyOf(this.moves, this.moves.length * 2);
+        this.moves[this.size++] = move;
+    }
+
+    public void clear() {
+        this.size = 0;
+    }
+
+    public int get(int index) {
+        assert 0 <= index && index < this.size;
+        return this.moves[index];
+    }
+
+    public void set(int index, int move) {
+        assert 0 <= index && index < this.size;
+        this.moves[index] = move;
+    }
+
+    public int size() {
+        return this.size;
+    }
+
+    public boolean isEmpty() {
+        return this.size == 0;
+    }
+
+    public boolean contains(int move) {
+        for (int i = 0; i < this.size; i++)
+            if (this.moves[i] == move)
+                return true;
+        return false;
+    }
+
+}
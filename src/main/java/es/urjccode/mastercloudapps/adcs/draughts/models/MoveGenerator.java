@@ -0,0 +1,57 @@
+package es.urjccode.mastercloudapps.adcs.draughts.models;
+
+class MoveGenerator {
+
+    private static final Direction[] DIRECTIONS = Direction.values();
+
+    private Board board;
+
+    MoveGenerator(Board board) {
+        assert board != null;
+        this.board = board;
+    }
+
+    void generate(Color color, MoveBuffer moves) {
+        assert color != null;
+        assert moves != null;
+        moves.clear();
+        final long jumpers = this.board.getJumpers(color);
+        long occupancy = this.board.getOccupancy(color);
+        while (occupancy != 0) {
+            final int origin = Long.numberOfTrailingZeros(occupancy);
+            this.generateSteps(color, origin, moves);
+            if ((jumpers & (1L << origin)) != 0)
+                this.generateJumps(color, Move.getInstance(origin), 0, moves);
+            occupancy &= occupancy - 1;
+        }
+    }
+
+    private void generateSteps(Color color, int origin, MoveBuffer moves) {
+        final long empties = ~this.board.getOccupancy();
+        for (Direction direction : MoveGenerator.DIRECTIONS) {
+            final int target = Geometry.getNeighbour(origin, direction);
+            if (direction.isAdvanced(color) && target != Geometry.NONE && (empties & (1L << target)) != 0)
+                moves.add(Move.append(Move.getInstance(origin), target));
+        }
+    }
+
+    private void generateJumps(Color color, int move, long captured, MoveBuffer moves) {
+        if (Move.getLength(move) == Move.MAX_LENGTH)
+            return;
+        final int square = Move.getTarget(move);
+        final long opposites = this.board.getOccupancy(color.getOpposite()) & ~captured;
+        final long empties = ~(this.board.getOccupancy() & ~captured) | (1L << Move.getOrigin(move));
+        for (Direction direction : MoveGenerator.DIRECTIONS) {
+            final int target = Geometry.getJump(square, direction);
+            if (direction.isAdvanced(color) && target != Geometry.NONE && (empties & (1L << target)) != 0) {
+                final long jumped = 1L << Geometry.getJumped(square, direction);
+                if ((opposites & jumped) != 0) {
+                    final int jump = Move.append(move, target);
+                    moves.add(jump);
+                    this.generateJumps(color, jump, captured | jumped, moves);
+                }
+            }
+        }
+    }
+
+}
@@ -1,7 +1,5 @@
 package es.urjccode.mastercloudapps.adcs.draughts.models;
 
-import java.util.List;
-
 public class Piece {
 
 	protected Color color;
@@ -13,15 +11,15 @@ public class Piece {
 		this.color = color;
 	}
 
-	Error isCorrectMovement(List<Piece> betweenDiagonalPieces, int pair, Coordinate... coordinates){
+	Error isCorrectMovement(int amountBetweenDiagonalPieces, int amountBetweenColleagues, int pair,
+			Coordinate... coordinates){
 		assert coordinates[pair] != null;
 		assert coordinates[pair + 1] != null;
 		if (!coordinates[pair].isOnDiagonal(coordinates[pair + 1]))
 			return Error.NOT_DIAGONAL;
-		for(Piece piece : betweenDiagonalPieces)
-			if (this.color == piece.getColor())
-				return Error.COLLEAGUE_EATING;
-		return this.isCorrectDiagonalMovement(betweenDiagonalPieces.size(), pair, coordinates);
+		if (amountBetweenColleagues > 0)
+			return Error.COLLEAGUE_EATING;
+		return this.isCorrectDiagonalMovement(amountBetweenDiagonalPieces, pair, coordinates);
 	}
 
     Error isCorrectDiagonalMovement(int amountBetweenDiagonalPieces, int pair, Coordinate... coordinates) {
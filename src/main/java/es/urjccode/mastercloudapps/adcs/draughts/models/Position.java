@@ -0,0 +1,74 @@
+package es.urjccode.mastercloudapps.adcs.draughts.models;
+
+// An immutable snapshot of a game between moves, published after every move, cancel or reset. Readers keep and
+// share it freely while a single thread goes on playing.
+public final class Position {
+
+    private final long version;
+    private final long whites;
+    private final long blacks;
+    private final Color turn;
+
+    Position(long version, long whites, long blacks, Color turn) {
+        assert (whites & blacks) == 0;
+        assert turn != null;
+        this.version = version;
+        this.whites = whites;
+        this.blacks = blacks;
+        this.turn = turn;
+    }
+
+    public long getVersion() {
+        return this.version;
+    }
+
+    public long getOccupancy(Color color) {
+        assert color != null;
+        if (color == Color.WHITE)
+            return this.whites;
+        return this.blacks;
+    }
+
+    public Color getTurnColor() {
+        return this.turn;
+    }
+
+    public Color getColor(Coordinate coordinate) {
+        assert coordinate != null;
+        final long mask = Board.getMask(coordinate);
+        if ((this.whites & mask) != 0)
+            return Color.WHITE;
+        if ((this.blacks & mask) != 0)
+            return Color.BLACK;
+        return null;
+    }
+
+    public int getPieces(Color color) {
+        return Long.bitCount(this.getOccupancy(color));
+    }
+
+    @Override
+    public int hashCode() {
+        return Long.hashCode(this.version ^ this.whites ^ Long.reverse(this.blacks));
+    }
+
+    @Override
+    public boolean equals(Object obj) {
+        if (this == obj)
+            return true;
+        if (obj == null)
+            return false;
+        if (getClass() != obj.getClass())
+            return false;
+        Position other = (Position) obj;
+        return this.version == other.version && this.whites == other.whites && this.blacks == other.blacks
+            && this.turn == other.turn;
+    }
+
+    @Override
+    public String toString() {
+        return "version " + this.version + " turn " + this.turn + " whites " + Long.toHexString(this.whites)
+            + " blacks " + Long.toHexString(this.blacks);
+    }
+
+}
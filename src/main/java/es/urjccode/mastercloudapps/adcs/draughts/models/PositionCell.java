@@ -0,0 +1,43 @@
+package es.urjccode.mastercloudapps.adcs.draughts.models;
+
+import java.util.concurrent.locks.StampedLock;
+
+// Holds the latest published position in place, so publishing allocates nothing. Readers copy it out under an
+// optimistic stamp and retry when a publication overlapped, so they never block the writer nor each other.
+class PositionCell {
+
+    private StampedLock lock;
+    private long version;
+    private long whites;
+    private long blacks;
+    private Color turn;
+
+    PositionCell() {
+        this.lock = new StampedLock();
+        this.version = 0;
+        this.turn = Color.WHITE;
+    }
+
+    void publish(long whites, long blacks, Color turn) {
+        final long stamp = this.lock.writeLock();
+        this.version++;
+        this.whites = whites;
+        this.blacks = blacks;
+        this.turn = turn;
+        this.lock.unlockWrite(stamp);
+    }
+
+    Position get() {
+        while (true) {
+            final long stamp = this.lock.tryOptimisticRead();
+            final long version = this.version;
+            final long whites = this.whites;
+            final long blacks = this.blacks;
+            final Color turn = this.turn;
+            if (stamp != 0 && this.lock.validate(stamp))
+                return new Position(version, whites, blacks, turn);
+            Thread.yield();
+        }
+    }
+
+}
@@ -0,0 +1,103 @@
+package es.urjccode.mastercloudapps.adcs.draughts.models;
+
+import java.nio.ByteBuffer;
+
+// Packs a whole game into a long: the occupancy of the 32 dark squares in the low half, then one bit per occupied
+// square in the same order telling black pieces from white ones, and the turn in the top bit. Games start with 24
+// pieces, but positions set on a game may hold more, and only the colors of up to 31 pieces fit in the bits left.
+public final class PositionCodec {
+
+    public static final int BYTES = Long.BYTES;
+
+    private static final Color[] COLORS = Color.values();
+    private static final int DARK_SQUARES = 32;
+    private static final long DARK_MASK = (1L << PositionCodec.DARK_SQUARES) - 1;
+    private static final int TURN_SHIFT = Long.SIZE - 1;
+    private static final int MAX_PIECES = PositionCodec.TURN_SHIFT - PositionCodec.DARK_SQUARES;
+    private static final long EVEN_ROWS_DARK = 0x00AA00AA00AA00AAL;
+    private static final long ODD_ROWS_DARK = 0x5500550055005500L;
+    private static final long[] SPREAD_MASKS = { 0x5555555555555555L, 0x3333333333333333L, 0x0F0F0F0F0F0F0F0FL,
+        0x00FF00FF00FF00FFL, 0x0000FFFF0000FFFFL, 0x00000000FFFFFFFFL };
+
+    private PositionCodec() {
+    }
+
+    public static long encode(Game game) {
+        assert game != null;
+        return PositionCodec.encode(game.getOccupancy(Color.WHITE), game.getOccupancy(Color.BLACK),
+            game.getTurnColor());
+    }
+
+    public static long encode(Position position) {
+        assert position != null;
+        return PositionCodec.encode(position.getOccupancy(Color.WHITE), position.getOccupancy(Color.BLACK),
+            position.getTurnColor());
+    }
+
+    static long encode(long whites, long blacks, Color turn) {
+        assert (whites & blacks) == 0;
+        assert ((whites | blacks) & ~(PositionCodec.EVEN_ROWS_DARK | PositionCodec.ODD_ROWS_DARK)) == 0;
+        final long occupancy = PositionCodec.compress(whites | blacks);
+        assert Long.bitCount(occupancy) <= PositionCodec.MAX_PIECES;
+        final long darkBlacks = PositionCodec.compress(blacks);
+        long colors = 0;
+        int index = 0;
+        for (long squares = occupancy; squares != 0; squares &= squares - 1, index++)
+            colors |= (darkBlacks >>> Long.numberOfTrailingZeros(squares) & 1) << index;
+        return occupancy | colors << PositionCodec.DARK_SQUARES | (long) turn.ordinal() << PositionCodec.TURN_SHIFT;
+    }
+
+    // Sets the decoded position straight on the board of the game, with no moves to undo.
+    public static void decode(long code, Game game) {
+        assert game != null;
+        final long blacks = PositionCodec.getOccupancy(code, Color.BLACK);
+        game.setPosition(PositionCodec.expand(code & PositionCodec.DARK_MASK) & ~blacks, blacks,
+            PositionCodec.getTurnColor(code));
+    }
+
+    public static long getOccupancy(long code, Color color) {
+        assert color != null;
+        final long occupancy = code & PositionCodec.DARK_MASK;
+        long colors = code >>> PositionCodec.DARK_SQUARES;
+        long squares = 0;
+        for (long remaining = occupancy; remaining != 0; remaining &= remaining - 1, colors >>>= 1)
+            if ((colors & 1) == color.ordinal())
+                squares |= Long.lowestOneBit(remaining);
+        return PositionCodec.expand(squares);
+    }
+
+    public static Color getTurnColor(long code) {
+        return PositionCodec.COLORS[(int) (code >>> PositionCodec.TURN_SHIFT)];
+    }
+
+    // Bulk forms write and read one code after the other from the position of the buffer, in its byte order.
+    public static void encode(Game[] games, ByteBuffer buffer) {
+        assert games != null;
+        assert buffer.remaining() >= games.length * PositionCodec.BYTES;
+        for (Game game : games)
+            buffer.putLong(PositionCodec.encode(game));
+    }
+
+    public static void decode(ByteBuffer buffer, Game[] games) {
+        assert games != null;
+        assert buffer.remaining() >= games.length * PositionCodec.BYTES;
+        for (Game game : games)
+            PositionCodec.decode(buffer.getLong(), game);
+    }
+
+    // Dark squares sit on the odd columns of even rows and on the even columns of odd rows; lining them all up on
+    // even bits lets them be gathered, or scattered back, by halving or doubling the gaps between them.
+    static long compress(long squares) {
+        long bits = (squares & PositionCodec.EVEN_ROWS_DARK) >>> 1 | squares & PositionCodec.ODD_ROWS_DARK;
+        for (int i = 1; i < PositionCodec.SPREAD_MASKS.length; i++)
+            bits = (bits | bits >>> (1 << (i - 1))) & PositionCodec.SPREAD_MASKS[i];
+        return bits;
+    }
+
+    static long expand(long bits) {
+        for (int i = PositionCodec.SPREAD_MASKS.length - 1; i > 0; i--)
+            bits = (bits | bits << (1 << (i - 1))) & PositionCodec.SPREAD_MASKS[i - 1];
+        return (bits << 1 & PositionCodec.EVEN_ROWS_DARK) | bits & PositionCodec.ODD_ROWS_DARK;
+    }
+
+}
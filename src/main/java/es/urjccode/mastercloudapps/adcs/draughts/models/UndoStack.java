@@ -0,0 +1,103 @@
+package es.urjccode.mastercloudapps.adcs.draughts.models;
+
+import java.util.Arrays;
+
+class UndoStack {
+
+    // Every parked session holds a stack, so it starts small; a search grows it once to its depth.
+    private static final int INITIAL_CAPACITY = 8;
+
+    private int[] origins;
+    private int[] targets;
+    private long[] captures;
+    private int[] huffs;
+    private Color[] colors;
+    private int size;
+
+    UndoStack() {
+        this.origins = new int[UndoStack.INITIAL_CAPACITY];
+        this.targets = new int[UndoStack.INITIAL_CAPACITY];
+        this.captures = new long[UndoStack.INITIAL_CAPACITY];
+        this.huffs = new int[UndoStack.INITIAL_CAPACITY];
+        this.colors = new Color[UndoStack.INITIAL_CAPACITY];
+        this.size = 0;
+    }
+
+    void push(int origin, Color color) {
+        assert color != null;
+        if (this.size == this.origins.length)
+            this.grow();
+        this.origins[this.size] = origin;
+        this.targets[this.size] = origin;
+        this.captures[this.size] = 0;
+        this.huffs[this.size] = Geometry.NONE;
+        this.colors[this.size] = color;
+        this.size++;
+    }
+
+    private void grow() {
+        final int capacity = this.origins.length * 2;
+        this.origins = Arrays.copyOf(this.origins, capacity);
+        this.targets = Arrays.copyOf(this.targets, capacity);
+        this.captures = Arrays.copyOf(this.captures, capacity);
+        this.huffs = Arrays.copyOf(this.huffs, capacity);
+        this.colors = Arrays.copyOf(this.colors, capacity);
+    }
+
+    void pop() {
+        assert !this.isEmpty();
+        this.size--;
+    }
+
+    void clear() {
+        this.size = 0;
+    }
+
+    boolean isEmpty() {
+        return this.size == 0;
+    }
+
+    int size() {
+        return this.size;
+    }
+
+    void setTarget(int target) {
+        this.targets[this.size - 1] = target;
+    }
+
+    void addCapture(int square) {
+        this.captures[this.size - 1] |= 1L << square;
+    }
+
+    void setHuff(int square) {
+        this.huffs[this.size - 1] = square;
+    }
+
+    int getOrigin() {
+        return this.origins[this.size - 1];
+    }
+
+    int getTarget() {
+        return this.targets[this.size - 1];
+    }
+
+    long getCaptures() {
+        return this.captures[this.size - 1];
+    }
+
+    int getHuff() {
+        return this.huffs[this.size - 1];
+    }
+
+    Color getColor() {
+        return this.colors[this.size - 1];
+    }
+
+    int getRemovedAmount() {
+        int amount = Long.bitCount(this.getCaptures());
+        if (this.getHuff() != Geometry.NONE)
+            amount++;
+        return amount;
+    }
+
+}
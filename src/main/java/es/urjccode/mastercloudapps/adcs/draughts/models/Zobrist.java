@@ -0,0 +1,37 @@
+package es.urjccode.mastercloudapps.adcs.draughts.models;
+
+import java.util.SplittableRandom;
+
+final class Zobrist {
+
+    private static final long SEED = 0x9E3779B97F4A7C15L;
+    private static final long[][] PIECE_KEYS = new long[Color.values().length][Geometry.SQUARES];
+    static final long TURN_KEY;
+
+    static {
+        SplittableRandom random = new SplittableRandom(Zobrist.SEED);
+        for (int i = 0; i < Zobrist.PIECE_KEYS.length; i++)
+            for (int j = 0; j < Zobrist.PIECE_KEYS[i].length; j++)
+                Zobrist.PIECE_KEYS[i][j] = random.nextLong();
+        TURN_KEY = random.nextLong();
+    }
+
+    private Zobrist() {
+    }
+
+    static long getKey(Color color, int square) {
+        return Zobrist.PIECE_KEYS[color.ordinal()][square];
+    }
+
+    static long getKey(long whites, long blacks, Color turn) {
+        long key = 0;
+        for (long occupancy = whites; occupancy != 0; occupancy &= occupancy - 1)
+            key ^= Zobrist.getKey(Color.WHITE, Long.numberOfTrailingZeros(occupancy));
+        for (long occupancy = blacks; occupancy != 0; occupancy &= occupancy - 1)
+            key ^= Zobrist.getKey(Color.BLACK, Long.numberOfTrailingZeros(occupancy));
+        if (turn == Color.BLACK)
+            key ^= Zobrist.TURN_KEY;
+        return key;
+    }
+
+}
@@ -0,0 +1,101 @@
+package es.urjccode.mastercloudapps.adcs.draughts.server;
+
+import java.io.IOException;
+import java.nio.channels.SocketChannel;
+import java.util.SplittableRandom;
+
+import es.urjccode.mastercloudapps.adcs.draughts.models.Color;
+import es.urjccode.mastercloudapps.adcs.draughts.models.Game;
+import es.urjccode.mastercloudapps.adcs.draughts.models.Move;
+import es.urjccode.mastercloudapps.adcs.draughts.models.MoveBuffer;
+
+// A simulated player that mirrors every board it receives and answers with a random move in the console notation.
+class ClientConnection extends LineConnection {
+
+    private static final int MAX_COORDINATES = 3;
+    private static final String CANCEL = "-1";
+
+    private LoadClient client;
+    private Game game;
+    private MoveBuffer moves;
+    private SplittableRandom random;
+    private int remaining;
+    private long sent;
+    private boolean closed;
+
+    ClientConnection(SocketChannel channel, LoadClient client, int moves, long seed) {
+        super(channel);
+        assert client != null;
+        assert moves > 0;
+        this.client = client;
+        this.game = new Game(seed);
+        this.moves = new MoveBuffer();
+        this.random = new SplittableRandom(seed);
+        this.remaining = moves;
+        this.sent = 0;
+        this.closed = false;
+    }
+
+    @Override
+    void handle(String line) throws IOException {
+        final long now = System.nanoTime();
+        final String[] words = line.split(" ");
+        if (words[0].equals(Session.BOARD)) {
+            if (this.sent != 0) {
+                this.client.record(now - this.sent);
+                this.sent = 0;
+                this.remaining--;
+            }
+            this.setPosition(words[1], words[2]);
+            if (this.remaining == 0)
+                this.closed = true;
+            else
+                this.move();
+        } else if (words[0].equals(Session.END)) {
+            this.sent = 0;
+            if (this.remaining > 0)
+                this.write(Session.AFIRMATIVE + "\n");
+            else
+                this.write(Session.NEGATIVE + "\n");
+        } else if (words[0].equals(Session.ERROR)) {
+            this.client.recordError();
+            this.sent = 0;
+            this.write(ClientConnection.CANCEL + "\n");
+        } else if (!words[0].equals(ServerConnection.GAME))
+            this.closed = true;
+    }
+
+    @Override
+    boolean isClosed() {
+        return this.closed;
+    }
+
+    private void setPosition(String turn, String squares) {
+        long whites = 0;
+        long blacks = 0;
+        for (int i = 0; i < squares.length(); i++)
+            if (squares.charAt(i) == Session.getCode(Color.WHITE))
+                whites |= 1L << i;
+            else if (squares.charAt(i) == Session.getCode(Color.BLACK))
+                blacks |= 1L << i;
+        Color color = Color.WHITE;
+        if (turn.equals(Session.getName(Color.BLACK)))
+            color = Color.BLACK;
+        this.game.setPosition(whites, blacks, color);
+    }
+
+    // A blocked side sends nothing and waits for the end of the game, which follows the board.
+    private void move() throws IOException {
+        this.game.generateMoves(this.moves);
+        if (this.moves.isEmpty())
+            return;
+        final int move = this.moves.get(this.random.nextInt(this.moves.size()));
+        if (Move.getLength(move) > ClientConnection.MAX_COORDINATES)
+            this.write(ClientConnection.CANCEL + "\n");
+        else {
+            this.write(Move.toString(move) + "\n");
+            this.sent = System.nanoTime();
+        }
+    }
+
+}
@@ -0,0 +1,253 @@
+package es.urjccode.mastercloudapps.adcs.draughts.server;
+
+import java.io.File;
+import java.io.IOException;
+import java.net.InetSocketAddress;
+import java.net.StandardSocketOptions;
+import java.nio.channels.SelectionKey;
+import java.nio.channels.Selector;
+import java.nio.channels.ServerSocketChannel;
+import java.nio.channels.SocketChannel;
+import java.util.ArrayList;
+import java.util.Iterator;
+import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+// Hosts one game per connection on a single selector thread. Moves are validated and played in microseconds, so
+// the thread never blocks and needs no pool; every connection keeps its own Logic and Game. With a journal, the
+// selector thread only appends records: answers wait while a committer thread forces them to disk, one force for
+// all the moves played in the meantime, and wakes the selector to send them.
+public class GameServer {
+
+    private static final int BACKLOG = 1024;
+    private static final long ACCEPT_BACKOFF_MILLIS = 100;
+
+    private int port;
+    private File journalDirectory;
+    private GameStore gameStore;
+    private ExecutorService committer;
+    private List<SelectionKey> held;
+    private Selector selector;
+    private SelectionKey acceptKey;
+    private long acceptPausedUntil;
+    private ServerSocketChannel serverChannel;
+    private Thread thread;
+    private AtomicInteger connections;
+    private volatile boolean closed;
+
+    public GameServer(int port, File journalDirectory) {
+        assert port >= 0;
+        this.port = port;
+        this.journalDirectory = journalDirectory;
+        this.held = new ArrayList<SelectionKey>();
+        this.connections = new AtomicInteger();
+    }
+
+    public GameServer(int port) {
+        this(port, null);
+    }
+
+    public static void main(String[] args) throws IOException {
+        if (args.length < 1) {
+            System.err.println("Usage: GameServer <port> [journal directory]");
+            return;
+        }
+        GameServer server = new GameServer(Integer.parseInt(args[0]), args.length > 1 ? new File(args[1]) : null);
+        System.out.println("Listening on port " + server.start());
+    }
+
+    // Returns the bound port, which is only known beforehand when it was not 0. Games interrupted by the last
+    // shutdown are recovered from the journal first, for their players to resume.
+    public int start() throws IOException {
+        this.gameStore = new GameStore(this.journalDirectory, false);
+        this.committer = Executors.newSingleThreadExecutor();
+        this.selector = Selector.open();
+        this.serverChannel = ServerSocketChannel.open();
+        this.serverChannel.bind(new InetSocketAddress(this.port), GameServer.BACKLOG);
+        this.serverChannel.configureBlocking(false);
+        this.acceptKey = this.serverChannel.register(this.selector, SelectionKey.OP_ACCEPT);
+        this.acceptPausedUntil = 0;
+        this.closed = false;
+        this.thread = new Thread(new Runnable() {
+            @Override
+            public void run() {
+                GameServer.this.run();
+            }
+        }, "game-server");
+        this.thread.start();
+        return this.serverChannel.socket().getLocalPort();
+    }
+
+    public int getConnections() {
+        return this.connections.get();
+    }
+
+    public int getRecoveredGames() {
+        return this.gameStore.getRecovered();
+    }
+
+    public void close() throws InterruptedException {
+        this.closed = true;
+        this.selector.wakeup();
+        this.thread.join();
+        this.committer.shutdown();
+        this.committer.awaitTermination(Long.MAX_VALUE, TimeUnit.MILLISECONDS);
+        this.gameStore.close();
+    }
+
+    // Only a failing select stops the server; a failing connection is dropped on its own.
+    private void run() {
+        try {
+            while (!this.closed) {
+                this.select();
+                this.release();
+                Iterator<SelectionKey> keys = this.selector.selectedKeys().iterator();
+                while (keys.hasNext()) {
+                    final SelectionKey key = keys.next();
+                    keys.remove();
+                    if (key.isValid() && key.isAcceptable())
+                        this.accept();
+                    else if (key.isValid())
+                        this.serve(key);
+                }
+            }
+            for (SelectionKey key : this.selector.keys())
+                GameServer.closeQuietly(key);
+            this.selector.close();
+        } catch (IOException ex) {
+            throw new IllegalStateException(ex);
+        }
+    }
+
+    private void select() throws IOException {
+        if (this.acceptPausedUntil == 0) {
+            this.selector.select();
+            return;
+        }
+        final long remaining = this.acceptPausedUntil - System.currentTimeMillis();
+        if (remaining > 0)
+            this.selector.select(remaining);
+        if (System.currentTimeMillis() >= this.acceptPausedUntil) {
+            this.acceptPausedUntil = 0;
+            this.acceptKey.interestOps(SelectionKey.OP_ACCEPT);
+        }
+    }
+
+    // Accepting fails when the process runs out of file descriptors, which closing connections gives back, so
+    // accepting pauses for a while instead of spinning on the pending connections.
+    private void accept() {
+        while (true) {
+            SocketChannel channel;
+            try {
+                channel = this.serverChannel.accept();
+            } catch (IOException ex) {
+                this.acceptKey.interestOps(0);
+                this.acceptPausedUntil = System.currentTimeMillis() + GameServer.ACCEPT_BACKOFF_MILLIS;
+                return;
+            }
+            if (channel == null)
+                return;
+            this.open(channel);
+        }
+    }
+
+    private void open(SocketChannel channel) {
+        SelectionKey key;
+        try {
+            channel.configureBlocking(false);
+            channel.setOption(StandardSocketOptions.TCP_NODELAY, true);
+            key = channel.register(this.selector, 0);
+        } catch (IOException ex) {
+            try {
+                channel.close();
+            } catch (IOException closeEx) {
+                // The connection is dropped either way.
+            }
+            return;
+        }
+        final ServerConnection connection = new ServerConnection(channel, this.gameStore);
+        key.attach(connection);
+        this.connections.incrementAndGet();
+        try {
+            connection.start();
+            this.setInterest(key, connection.serve(false));
+        } catch (IOException ex) {
+            this.close(key);
+        }
+    }
+
+    private void serve(SelectionKey key) {
+        this.serve(key, key.isReadable());
+    }
+
+    private void serve(SelectionKey key, boolean readable) {
+        final ServerConnection connection = (ServerConnection) key.attachment();
+        try {
+            this.setInterest(key, connection.serve(readable));
+        } catch (IOException ex) {
+            this.close(key);
+        }
+    }
+
+    private void setInterest(SelectionKey key, int operations) {
+        final ServerConnection connection = (ServerConnection) key.attachment();
+        if (operations == 0)
+            this.close(key);
+        else if (connection.isHeld())
+            this.hold(key, connection.getSequence());
+        else
+            key.interestOps(operations);
+    }
+
+    // Syncs that find their records already forced return at once, so queued ones cost nothing.
+    private void hold(SelectionKey key, final long sequence) {
+        key.interestOps(0);
+        this.held.add(key);
+        this.committer.execute(new Runnable() {
+            @Override
+            public void run() {
+                GameServer.this.gameStore.getJournal().sync(sequence);
+                GameServer.this.selector.wakeup();
+            }
+        });
+    }
+
+    private void release() {
+        if (this.held.isEmpty())
+            return;
+        List<SelectionKey> released = new ArrayList<SelectionKey>();
+        Iterator<SelectionKey> keys = this.held.iterator();
+        while (keys.hasNext()) {
+            final SelectionKey key = keys.next();
+            if (!((ServerConnection) key.attachment()).isHeld()) {
+                keys.remove();
+                released.add(key);
+            }
+        }
+        for (SelectionKey key : released)
+            if (key.isValid())
+                this.serve(key, false);
+    }
+
+    // The player is gone, unlike on shutdown, so the game is over for good.
+    private void close(SelectionKey key) {
+        this.connections.decrementAndGet();
+        ((ServerConnection) key.attachment()).end();
+        GameServer.closeQuietly(key);
+    }
+
+    private static void closeQuietly(SelectionKey key) {
+        if (key.attachment() != null)
+            ((ServerConnection) key.attachment()).close();
+        key.cancel();
+        try {
+            key.channel().close();
+        } catch (IOException ex) {
+            // The connection is dropped either way.
+        }
+    }
+
+}
@@ -0,0 +1,97 @@
+package es.urjccode.mastercloudapps.adcs.draughts.server;
+
+import java.io.File;
+import java.io.IOException;
+import java.security.SecureRandom;
+import java.util.Collections;
+import java.util.IdentityHashMap;
+import java.util.Map;
+import java.util.Random;
+import java.util.concurrent.ConcurrentHashMap;
+
+import es.urjccode.mastercloudapps.adcs.draughts.journal.Journal;
+import es.urjccode.mastercloudapps.adcs.draughts.models.Game;
+
+// Hands out the game of every session. With a journal, every new game is attached under a random token, and the
+// games a restart interrupted only go on with whoever gives back the token of theirs; a game is detached once its
+// session ends, so it is neither recovered nor kept in the journal any longer. Recovered games nobody resumed by
+// the next shutdown are detached then. Without a journal every session gets a new game and there are no tokens.
+class GameStore {
+
+    private Journal journal;
+    private boolean synchronous;
+    private Random random;
+    private Map<Game, Integer> ids;
+    private Map<Integer, Game> recovered;
+
+    GameStore(File directory, boolean synchronous) throws IOException {
+        this.synchronous = synchronous;
+        this.random = new SecureRandom();
+        this.ids = Collections.synchronizedMap(new IdentityHashMap<Game, Integer>());
+        this.recovered = new ConcurrentHashMap<Integer, Game>();
+        if (directory != null) {
+            this.journal = new Journal(directory);
+            this.recovered.putAll(this.journal.recover(synchronous));
+        }
+    }
+
+    Game next() {
+        Game game = new Game();
+        if (this.journal != null)
+            this.ids.put(game, this.journal.attach(game, this.random.nextInt(), this.synchronous));
+        return game;
+    }
+
+    // Returns null for a game that is not journaled.
+    String getToken(Game game) {
+        final Integer id = this.ids.get(game);
+        if (id == null)
+            return null;
+        return Long.toHexString((long) id << 32 | this.journal.getToken(id) & 0xffffffffL);
+    }
+
+    // Returns the recovered game of the token, or null when no game waits for it.
+    Game resume(String token) {
+        if (this.journal == null)
+            return null;
+        long value;
+        try {
+            value = Long.parseUnsignedLong(token, 16);
+        } catch (NumberFormatException ex) {
+            return null;
+        }
+        final int id = (int) (value >>> 32);
+        final Game game = this.recovered.get(id);
+        if (game == null || this.journal.getToken(id) != (int) value || !this.recovered.remove(id, game))
+            return null;
+        this.ids.put(game, id);
+        return game;
+    }
+
+    // Ends a game handed out by this store, once its session is over.
+    void end(Game game) {
+        final Integer id = this.ids.remove(game);
+        if (id != null) {
+            game.setGameObserver(null);
+            this.journal.detach(id);
+        }
+    }
+
+    Journal getJournal() {
+        return this.journal;
+    }
+
+    int getRecovered() {
+        return this.recovered.size();
+    }
+
+    void close() {
+        if (this.journal != null) {
+            for (int id : this.recovered.keySet())
+                this.journal.detach(id);
+            this.recovered.clear();
+            this.journal.close();
+        }
+    }
+
+}
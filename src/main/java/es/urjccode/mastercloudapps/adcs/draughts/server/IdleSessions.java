@@ -0,0 +1,81 @@
+package es.urjccode.mastercloudapps.adcs.draughts.server;
+
+import java.io.PrintWriter;
+import java.io.UncheckedIOException;
+import java.io.Writer;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ThreadFactory;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import es.urjccode.mastercloudapps.adcs.draughts.Draughts;
+import es.urjccode.mastercloudapps.adcs.draughts.utils.Console;
+
+// Parks many console games on blocking reads, reports the memory they hold, and then plays them to the end.
+public class IdleSessions {
+
+    private static final String[] MOVES = { "-1", "n" };
+
+    private IdleSessions() {
+    }
+
+    public static void main(String[] args) throws InterruptedException {
+        if (args.length < 1) {
+            System.err.println("Usage: IdleSessions <sessions>");
+            return;
+        }
+        final int sessions = Integer.parseInt(args[0]);
+        final ThreadFactory threadFactory = ThreadedGameServer.newThreadFactory();
+        final AtomicInteger waiting = new AtomicInteger();
+        final CountDownLatch finished = new CountDownLatch(sessions);
+        final Writer discard = new Writer() {
+            @Override
+            public void write(char[] buffer, int offset, int length) {
+            }
+
+            @Override
+            public void flush() {
+            }
+
+            @Override
+            public void close() {
+            }
+        };
+        final long before = IdleSessions.getUsedMemory();
+        final long start = System.nanoTime();
+        QueueReader[] readers = new QueueReader[sessions];
+        for (int i = 0; i < sessions; i++) {
+            readers[i] = new QueueReader(waiting);
+            final Console console = new Console(readers[i], new PrintWriter(discard));
+            threadFactory.newThread(new Runnable() {
+                @Override
+                public void run() {
+                    try {
+                        new Draughts(console).play();
+                    } catch (UncheckedIOException ex) {
+                        // The input ended before the game.
+                    } finally {
+                        finished.countDown();
+                    }
+                }
+            }).start();
+        }
+        while (waiting.get() < sessions)
+            Thread.sleep(10);
+        final long elapsedMillis = (System.nanoTime() - start) / 1000000;
+        final long used = IdleSessions.getUsedMemory() - before;
+        System.out.println("sessions " + sessions + " parked in " + elapsedMillis + "ms heap " + used / (1024 * 1024)
+            + "MB bytes/session " + used / sessions + " platform threads " + Thread.activeCount());
+        for (String move : IdleSessions.MOVES)
+            for (QueueReader reader : readers)
+                reader.add(move);
+        finished.await();
+        System.out.println("sessions finished in " + (System.nanoTime() - start) / 1000000 + "ms");
+    }
+
+    private static long getUsedMemory() {
+        Runtime runtime = Runtime.getRuntime();
+        System.gc();
+        return runtime.totalMemory() - runtime.freeMemory();
+    }
+
+}
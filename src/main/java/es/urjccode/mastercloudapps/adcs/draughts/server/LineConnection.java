@@ -0,0 +1,103 @@
+package es.urjccode.mastercloudapps.adcs.draughts.server;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.SelectionKey;
+import java.nio.channels.SocketChannel;
+import java.nio.charset.StandardCharsets;
+
+// A non-blocking connection exchanging newline terminated ASCII lines. Lines are only handled while there is
+// room for their answers, so a peer that does not read stops being read instead of growing the buffers. Answers
+// that are held back stay in the output buffer until a later call finds them released. A peer that stops sending
+// still gets the answers to every whole line it sent before the connection is closed.
+abstract class LineConnection {
+
+    static final int MAX_LINE = 128;
+
+    private static final int INPUT_CAPACITY = 4 * LineConnection.MAX_LINE;
+    private static final int OUTPUT_CAPACITY = 8 * LineConnection.MAX_LINE;
+    private static final byte END_OF_LINE = '\n';
+    private static final byte CARRIAGE_RETURN = '\r';
+
+    private SocketChannel channel;
+    private ByteBuffer input;
+    private ByteBuffer output;
+    private boolean ended;
+
+    protected LineConnection(SocketChannel channel) {
+        assert channel != null;
+        this.channel = channel;
+        this.input = ByteBuffer.allocate(LineConnection.INPUT_CAPACITY);
+        this.output = ByteBuffer.allocate(LineConnection.OUTPUT_CAPACITY);
+        this.ended = false;
+    }
+
+    SocketChannel getChannel() {
+        return this.channel;
+    }
+
+    // Returns the operations to wait for next, or 0 once the connection has to be closed.
+    int serve(boolean readable) throws IOException {
+        if (readable && !this.ended && this.channel.read(this.input) == -1)
+            this.ended = true;
+        do {
+            this.process();
+            if (this.isHeld())
+                return SelectionKey.OP_WRITE;
+            this.flush();
+        } while (this.output.position() == 0 && this.hasLine());
+        if (this.output.position() > 0)
+            return SelectionKey.OP_WRITE;
+        if (this.isClosed() || this.ended)
+            return 0;
+        return SelectionKey.OP_READ;
+    }
+
+    void write(String text) throws IOException {
+        final byte[] bytes = text.getBytes(StandardCharsets.US_ASCII);
+        if (bytes.length > this.output.remaining())
+            throw new IOException("Output overflow");
+        this.output.put(bytes);
+    }
+
+    void flush() throws IOException {
+        this.output.flip();
+        this.channel.write(this.output);
+        this.output.compact();
+    }
+
+    abstract void handle(String line) throws IOException;
+
+    abstract boolean isClosed();
+
+    boolean isHeld() {
+        return false;
+    }
+
+    private void process() throws IOException {
+        this.input.flip();
+        int start = this.input.position();
+        for (int i = start; i < this.input.limit() && this.output.remaining() >= 2 * LineConnection.MAX_LINE; i++)
+            if (this.input.get(i) == LineConnection.END_OF_LINE) {
+                int end = i;
+                if (end > start && this.input.get(end - 1) == LineConnection.CARRIAGE_RETURN)
+                    end--;
+                final String line = new String(this.input.array(), this.input.arrayOffset() + start, end - start,
+                    StandardCharsets.US_ASCII);
+                start = i + 1;
+                this.input.position(start);
+                this.handle(line);
+            }
+        this.input.compact();
+        if (!this.input.hasRemaining() && !this.hasLine())
+            throw new IOException("Line too long");
+    }
+
+    private boolean hasLine() {
+        for (int i = 0; i < this.input.position(); i++)
+            if (this.input.get(i) == LineConnection.END_OF_LINE)
+                return true;
+        return false;
+    }
+
+}
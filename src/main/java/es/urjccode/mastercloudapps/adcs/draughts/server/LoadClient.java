@@ -0,0 +1,86 @@
+package es.urjccode.mastercloudapps.adcs.draughts.server;
+
+import java.io.IOException;
+import java.net.InetSocketAddress;
+import java.net.StandardSocketOptions;
+import java.nio.channels.SelectionKey;
+import java.nio.channels.Selector;
+import java.nio.channels.SocketChannel;
+import java.util.Iterator;
+
+// Drives many simulated players from one selector thread against a running server and measures move latency.
+// Run it in its own JVM for large loads, since each connection takes a file descriptor on both sides.
+public class LoadClient {
+
+    private InetSocketAddress address;
+    private int clients;
+    private int moves;
+    private long[] latencies;
+    private int count;
+    private long errors;
+
+    public LoadClient(InetSocketAddress address, int clients, int moves) {
+        assert address != null;
+        assert clients > 0;
+        assert moves > 0;
+        this.address = address;
+        this.clients = clients;
+        this.moves = moves;
+    }
+
+    public static void main(String[] args) throws IOException {
+        if (args.length < 4) {
+            System.err.println("Usage: LoadClient <host> <port> <clients> <moves>");
+            return;
+        }
+        LoadClient client = new LoadClient(new InetSocketAddress(args[0], Integer.parseInt(args[1])),
+            Integer.parseInt(args[2]), Integer.parseInt(args[3]));
+        System.out.println(client.run());
+    }
+
+    public LoadResult run() throws IOException {
+        this.latencies = new long[this.clients * this.moves];
+        this.count = 0;
+        this.errors = 0;
+        Selector selector = Selector.open();
+        try {
+            for (int i = 0; i < this.clients; i++) {
+                SocketChannel channel = SocketChannel.open(this.address);
+                channel.configureBlocking(false);
+                channel.setOption(StandardSocketOptions.TCP_NODELAY, true);
+                channel.register(selector, SelectionKey.OP_READ, new ClientConnection(channel, this, this.moves, i));
+            }
+            final long start = System.nanoTime();
+            while (!selector.keys().isEmpty()) {
+                selector.select();
+                Iterator<SelectionKey> keys = selector.selectedKeys().iterator();
+                while (keys.hasNext()) {
+                    final SelectionKey key = keys.next();
+                    keys.remove();
+                    final int operations = ((ClientConnection) key.attachment()).serve(key.isReadable());
+                    if (operations == 0) {
+                        key.cancel();
+                        key.channel().close();
+                    } else
+                        key.interestOps(operations);
+                }
+                // Cancelled keys only leave the key set on the next selection, which ends the loop after the last one.
+                selector.selectNow();
+            }
+            return new LoadResult(this.latencies, this.count, this.errors, System.nanoTime() - start);
+        } finally {
+            for (SelectionKey key : selector.keys())
+                key.channel().close();
+            selector.close();
+        }
+    }
+
+    void record(long latency) {
+        this.latencies[this.count++] = latency;
+    }
+
+    void recordError() {
+        this.errors++;
+    }
+
+}
@@ -0,0 +1,48 @@
+package es.urjccode.mastercloudapps.adcs.draughts.server;
+
+import java.util.Arrays;
+
+public class LoadResult {
+
+    private long[] latencies;
+    private long errors;
+    private long elapsedNanos;
+
+    LoadResult(long[] latencies, int count, long errors, long elapsedNanos) {
+        assert latencies != null;
+        this.latencies = Arrays.copyOf(latencies, count);
+        Arrays.sort(this.latencies);
+        this.errors = errors;
+        this.elapsedNanos = elapsedNanos;
+    }
+
+    public long getMoves() {
+        return this.latencies.length;
+    }
+
+    public long getErrors() {
+        return this.errors;
+    }
+
+    // Nearest rank percentile of the time from sending a move to receiving its board.
+    public long getLatencyNanos(double percentile) {
+        assert 0 < percentile && percentile <= 100;
+        if (this.latencies.length == 0)
+            return 0;
+        final int rank = (int) Math.ceil(percentile / 100 * this.latencies.length);
+        return this.latencies[Math.max(rank, 1) - 1];
+    }
+
+    public long getMovesPerSecond() {
+        if (this.elapsedNanos == 0)
+            return 0;
+        return this.latencies.length * 1000000000L / this.elapsedNanos;
+    }
+
+    @Override
+    public String toString() {
+        return "moves " + this.getMoves() + " errors " + this.errors + " p50 " + this.getLatencyNanos(50) / 1000
+            + "us p99 " + this.getLatencyNanos(99) / 1000 + "us moves/s " + this.getMovesPerSecond();
+    }
+
+}
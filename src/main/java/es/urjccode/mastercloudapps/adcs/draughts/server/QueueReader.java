@@ -0,0 +1,55 @@
+package es.urjccode.mastercloudapps.adcs.draughts.server;
+
+import java.io.BufferedReader;
+import java.io.InterruptedIOException;
+import java.io.StringReader;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.atomic.AtomicInteger;
+
+// Input for a simulated player, handed over a line at a time. The inherited readLine would wait for a custom reader
+// inside the reader's monitor, which pins a virtual thread to its carrier, so lines are taken from a queue instead
+// and the waiting ones are counted.
+class QueueReader extends BufferedReader {
+
+    private static final String END = new String();
+
+    private BlockingQueue<String> lines;
+    private AtomicInteger waiting;
+
+    QueueReader(AtomicInteger waiting) {
+        super(new StringReader(""), 1);
+        assert waiting != null;
+        this.lines = new LinkedBlockingQueue<String>();
+        this.waiting = waiting;
+    }
+
+    void add(String line) {
+        assert line != null;
+        this.lines.add(line);
+    }
+
+    @Override
+    public String readLine() throws InterruptedIOException {
+        this.waiting.incrementAndGet();
+        try {
+            final String line = this.lines.take();
+            if (line == QueueReader.END) {
+                this.lines.add(QueueReader.END);
+                return null;
+            }
+            return line;
+        } catch (InterruptedException ex) {
+            Thread.currentThread().interrupt();
+            throw new InterruptedIOException();
+        } finally {
+            this.waiting.decrementAndGet();
+        }
+    }
+
+    @Override
+    public void close() {
+        this.lines.add(QueueReader.END);
+    }
+
+}
@@ -0,0 +1,92 @@
+package es.urjccode.mastercloudapps.adcs.draughts.server;
+
+import java.io.IOException;
+import java.nio.channels.SocketChannel;
+
+import es.urjccode.mastercloudapps.adcs.draughts.controllers.Logic;
+import es.urjccode.mastercloudapps.adcs.draughts.journal.Journal;
+import es.urjccode.mastercloudapps.adcs.draughts.models.Game;
+
+// With a journal, a session starts by telling its player the token of the game, and a player whose first line
+// resumes a game a restart interrupted goes on with that one instead. Answers are held back until the records of
+// the actions they answer are durable.
+class ServerConnection extends LineConnection {
+
+    static final String GAME = "game";
+    static final String RESUME = "resume";
+    static final String UNKNOWN_GAME = "UNKNOWN_GAME";
+
+    private GameStore gameStore;
+    private Game game;
+    private Session session;
+    private Journal journal;
+    private long sequence;
+    private boolean started;
+
+    ServerConnection(SocketChannel channel, GameStore gameStore) {
+        super(channel);
+        assert gameStore != null;
+        this.gameStore = gameStore;
+        this.game = gameStore.next();
+        this.session = new Session(new Logic(this.game));
+        this.journal = gameStore.getJournal();
+    }
+
+    void start() throws IOException {
+        final String token = this.gameStore.getToken(this.game);
+        if (token != null)
+            this.write(ServerConnection.GAME + " " + token + "\n");
+        this.write(this.session.start());
+    }
+
+    @Override
+    void handle(String line) throws IOException {
+        if (!this.started) {
+            this.started = true;
+            if (line.startsWith(ServerConnection.RESUME + " ")) {
+                this.resume(line.substring(ServerConnection.RESUME.length() + 1));
+                return;
+            }
+        }
+        this.write(this.session.handle(line));
+        if (this.journal != null)
+            this.sequence = this.journal.getSequence();
+    }
+
+    private void resume(String token) throws IOException {
+        final Game game = this.gameStore.resume(token);
+        if (game == null) {
+            this.write(Session.ERROR + " " + ServerConnection.UNKNOWN_GAME + "\n");
+            return;
+        }
+        this.session.close();
+        this.end();
+        this.game = game;
+        this.session = new Session(new Logic(game));
+        this.start();
+    }
+
+    @Override
+    boolean isHeld() {
+        return this.journal != null && !this.journal.isDurable(this.sequence);
+    }
+
+    long getSequence() {
+        return this.sequence;
+    }
+
+    @Override
+    boolean isClosed() {
+        return this.session.isClosed();
+    }
+
+    // Ends the game for good, since its player is gone.
+    void end() {
+        this.gameStore.end(this.game);
+    }
+
+    void close() {
+        this.session.close();
+    }
+
+}
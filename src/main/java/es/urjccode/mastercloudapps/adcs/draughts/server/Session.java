@@ -0,0 +1,141 @@
+package es.urjccode.mastercloudapps.adcs.draughts.server;
+
+import es.urjccode.mastercloudapps.adcs.draughts.controllers.InteractorController;
+import es.urjccode.mastercloudapps.adcs.draughts.controllers.InteractorControllersVisitor;
+import es.urjccode.mastercloudapps.adcs.draughts.controllers.Logic;
+import es.urjccode.mastercloudapps.adcs.draughts.controllers.PlayController;
+import es.urjccode.mastercloudapps.adcs.draughts.controllers.ResumeController;
+import es.urjccode.mastercloudapps.adcs.draughts.controllers.StartController;
+import es.urjccode.mastercloudapps.adcs.draughts.models.Color;
+import es.urjccode.mastercloudapps.adcs.draughts.models.Coordinate;
+import es.urjccode.mastercloudapps.adcs.draughts.models.Error;
+import es.urjccode.mastercloudapps.adcs.draughts.views.MoveFormat;
+
+// The remote counterpart of the console view: each request line goes to the controller of the current state and
+// the answer lines are returned instead of written to the console. Requests are moves in the console notation,
+// such as 32.41, or -1 to give up, and the answers are
+//   board <turn> <squares>   after the start and every accepted move, with the 64 squares row by row as w, b or -
+//   error <error>            when a move is rejected
+//   end <loser>              when a game ends, to be answered with y to play again or n to leave
+//   bye                      before the server closes the connection
+class Session implements InteractorControllersVisitor {
+
+    static final String BOARD = "board";
+    static final String ERROR = "error";
+    static final String END = "end";
+    static final String BYE = "bye";
+    static final String AFIRMATIVE = "y";
+    static final String NEGATIVE = "n";
+    static final char EMPTY = '-';
+
+    private Logic logic;
+    private String line;
+    private StringBuilder answer;
+
+    Session(Logic logic) {
+        assert logic != null;
+        this.logic = logic;
+        this.answer = new StringBuilder();
+    }
+
+    Session() {
+        this(new Logic());
+    }
+
+    String start() {
+        return this.handle("");
+    }
+
+    String handle(String line) {
+        assert line != null;
+        this.line = line;
+        this.answer.setLength(0);
+        final InteractorController controller = this.logic.getController();
+        if (controller != null)
+            controller.accept(this);
+        return this.answer.toString();
+    }
+
+    boolean isClosed() {
+        return this.logic.getController() == null;
+    }
+
+    void close() {
+        this.logic.close();
+    }
+
+    @Override
+    public void visit(StartController startController) {
+        assert startController != null;
+        startController.start();
+        this.writeBoard(startController);
+    }
+
+    @Override
+    public void visit(PlayController playController) {
+        assert playController != null;
+        if (MoveFormat.isCanceledFormat(this.line)) {
+            final Color color = playController.getColor();
+            playController.cancel();
+            this.writeEnd(color);
+        } else if (!MoveFormat.isMoveFormat(this.line))
+            this.writeError(Error.BAD_FORMAT);
+        else {
+            final Error error = playController.move(MoveFormat.getCoordinates(this.line));
+            if (error != null)
+                this.writeError(error);
+            else {
+                this.writeBoard(playController);
+                if (playController.isBlocked())
+                    this.writeEnd(playController.getColor());
+            }
+        }
+    }
+
+    @Override
+    public void visit(ResumeController resumeController) {
+        assert resumeController != null;
+        if (this.line.equalsIgnoreCase(Session.AFIRMATIVE)) {
+            resumeController.reset();
+            this.logic.getController().accept(this);
+        } else if (this.line.equalsIgnoreCase(Session.NEGATIVE)) {
+            resumeController.next();
+            this.writeLine(Session.BYE);
+        } else
+            this.writeError(Error.BAD_FORMAT);
+    }
+
+    private void writeBoard(InteractorController controller) {
+        this.answer.append(Session.BOARD).append(' ').append(Session.getName(controller.getTurnColor())).append(' ');
+        for (int i = 0; i < controller.getDimension(); i++)
+            for (int j = 0; j < controller.getDimension(); j++) {
+                final Color color = controller.getColor(new Coordinate(i, j));
+                if (color == null)
+                    this.answer.append(Session.EMPTY);
+                else
+                    this.answer.append(Session.getCode(color));
+            }
+        this.answer.append('\n');
+    }
+
+    private void writeError(Error error) {
+        this.writeLine(Session.ERROR + " " + error.name());
+    }
+
+    private void writeEnd(Color loser) {
+        this.writeLine(Session.END + " " + Session.getName(loser));
+    }
+
+    private void writeLine(String line) {
+        this.answer.append(line).append('\n');
+    }
+
+    static String getName(Color color) {
+        return color.name().toLowerCase();
+    }
+
+    static char getCode(Color color) {
+        return Session.getName(color).charAt(0);
+    }
+
+}
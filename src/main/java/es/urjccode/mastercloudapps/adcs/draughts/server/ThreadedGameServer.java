@@ -0,0 +1,147 @@
+package es.urjccode.mastercloudapps.adcs.draughts.server;
+
+import java.io.BufferedReader;
+import java.io.File;
+import java.io.IOException;
+import java.io.InputStreamReader;
+import java.io.OutputStreamWriter;
+import java.io.PrintWriter;
+import java.io.UncheckedIOException;
+import java.net.InetSocketAddress;
+import java.net.ServerSocket;
+import java.net.Socket;
+import java.net.SocketException;
+import java.nio.charset.StandardCharsets;
+import java.util.concurrent.ThreadFactory;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import es.urjccode.mastercloudapps.adcs.draughts.Draughts;
+import es.urjccode.mastercloudapps.adcs.draughts.controllers.Logic;
+import es.urjccode.mastercloudapps.adcs.draughts.models.Game;
+import es.urjccode.mastercloudapps.adcs.draughts.utils.Console;
+
+// Runs the unchanged console game for every connection, each on its own thread blocked on the socket. With a
+// journal, every move is forced to disk before its answer; sessions syncing at the same time share the force. The
+// console has no way to resume a game, so the games a restart interrupted are only kept until the next shutdown,
+// for a GameServer on the same journal to hand back.
+public class ThreadedGameServer {
+
+    private static final long STACK_SIZE = 256 * 1024;
+
+    private int port;
+    private File journalDirectory;
+    private GameStore gameStore;
+    private ServerSocket serverSocket;
+    private ThreadFactory threadFactory;
+    private Thread thread;
+    private AtomicInteger sessions;
+
+    public ThreadedGameServer(int port, File journalDirectory) {
+        assert port >= 0;
+        this.port = port;
+        this.journalDirectory = journalDirectory;
+        this.threadFactory = ThreadedGameServer.newThreadFactory();
+        this.sessions = new AtomicInteger();
+    }
+
+    public ThreadedGameServer(int port) {
+        this(port, null);
+    }
+
+    public static void main(String[] args) throws IOException {
+        if (args.length < 1) {
+            System.err.println("Usage: ThreadedGameServer <port> [journal directory]");
+            return;
+        }
+        ThreadedGameServer server =
+            new ThreadedGameServer(Integer.parseInt(args[0]), args.length > 1 ? new File(args[1]) : null);
+        System.out.println("Listening on port " + server.start());
+    }
+
+    // Virtual threads park on a blocking read without holding a platform thread, so they are used whenever the
+    // running JVM has them; older ones get daemon platform threads with small stacks.
+    static ThreadFactory newThreadFactory() {
+        try {
+            final Object builder = Thread.class.getMethod("ofVirtual").invoke(null);
+            return (ThreadFactory) Class.forName("java.lang.Thread$Builder").getMethod("factory").invoke(builder);
+        } catch (ReflectiveOperationException ex) {
+            return new ThreadFactory() {
+                @Override
+                public Thread newThread(Runnable runnable) {
+                    Thread thread = new Thread(null, runnable, "game-session", ThreadedGameServer.STACK_SIZE);
+                    thread.setDaemon(true);
+                    return thread;
+                }
+            };
+        }
+    }
+
+    // Returns the bound port, which is only known beforehand when it was not 0.
+    public int start() throws IOException {
+        this.gameStore = new GameStore(this.journalDirectory, true);
+        this.serverSocket = new ServerSocket();
+        this.serverSocket.bind(new InetSocketAddress(this.port));
+        this.thread = new Thread(new Runnable() {
+            @Override
+            public void run() {
+                ThreadedGameServer.this.run();
+            }
+        }, "game-acceptor");
+        this.thread.start();
+        return this.serverSocket.getLocalPort();
+    }
+
+    public int getSessions() {
+        return this.sessions.get();
+    }
+
+    public int getRecoveredGames() {
+        return this.gameStore.getRecovered();
+    }
+
+    public void close() throws IOException, InterruptedException {
+        this.serverSocket.close();
+        this.thread.join();
+        this.gameStore.close();
+    }
+
+    private void run() {
+        try {
+            while (true) {
+                final Socket socket = this.serverSocket.accept();
+                this.threadFactory.newThread(new Runnable() {
+                    @Override
+                    public void run() {
+                        ThreadedGameServer.this.play(socket);
+                    }
+                }).start();
+            }
+        } catch (SocketException ex) {
+            // The server socket was closed.
+        } catch (IOException ex) {
+            throw new UncheckedIOException(ex);
+        }
+    }
+
+    private void play(Socket socket) {
+        this.sessions.incrementAndGet();
+        final Game game = this.gameStore.next();
+        try {
+            Console console = new Console(
+                new BufferedReader(new InputStreamReader(socket.getInputStream(), StandardCharsets.UTF_8)),
+                new PrintWriter(new OutputStreamWriter(socket.getOutputStream(), StandardCharsets.UTF_8)));
+            new Draughts(console, new Logic(game)).play();
+        } catch (IOException | UncheckedIOException ex) {
+            // The player left.
+        } finally {
+            this.sessions.decrementAndGet();
+            this.gameStore.end(game);
+            try {
+                socket.close();
+            } catch (IOException ex) {
+                // The connection is dropped either way.
+            }
+        }
+    }
+
+}
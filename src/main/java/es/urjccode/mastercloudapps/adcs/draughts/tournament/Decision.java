@@ -0,0 +1,7 @@
+package es.urjccode.mastercloudapps.adcs.draughts.tournament;
+
+public enum Decision {
+    UNDECIDED,
+    ACCEPT_H0,
+    ACCEPT_H1
+}
@@ -0,0 +1,81 @@
+package es.urjccode.mastercloudapps.adcs.draughts.tournament;
+
+import java.util.HashMap;
+import java.util.Map;
+import java.util.SplittableRandom;
+
+import es.urjccode.mastercloudapps.adcs.draughts.engine.Limits;
+import es.urjccode.mastercloudapps.adcs.draughts.models.Game;
+
+// An engine makes one player per tournament thread, bound to the game that thread reuses for all of its games. The
+// random each player gets derives from the tournament seed, so engines that draw from it play the same games again.
+public abstract class Engine {
+
+    private static final String NAME_SEPARATOR = ":";
+    private static final String PARAMETER_SEPARATOR = ",";
+    private static final String VALUE_SEPARATOR = "=";
+
+    private String name;
+
+    protected Engine(String name) {
+        assert name != null;
+        this.name = name;
+    }
+
+    // For instance random, search:depth=4, search:millis=20,nodes=5000 or montecarlo:playouts=1000.
+    public static Engine parse(String specification) {
+        assert specification != null;
+        final String[] parts = specification.split(Engine.NAME_SEPARATOR, 2);
+        Map<String, Long> parameters = new HashMap<String, Long>();
+        if (parts.length > 1)
+            for (String parameter : parts[1].split(Engine.PARAMETER_SEPARATOR)) {
+                final String[] pair = parameter.split(Engine.VALUE_SEPARATOR);
+                if (pair.length != 2)
+                    throw new IllegalArgumentException("Bad engine parameter " + parameter);
+                try {
+                    parameters.put(pair[0], Long.parseLong(pair[1]));
+                } catch (NumberFormatException ex) {
+                    throw new IllegalArgumentException("Bad engine parameter " + parameter);
+                }
+            }
+        if (parts[0].equals(RandomEngine.NAME))
+            return new RandomEngine(specification);
+        if (parts[0].equals(SearchEngine.NAME))
+            return new SearchEngine(specification, Engine.getLimits(parameters, "depth"));
+        if (parts[0].equals(MonteCarloEngine.NAME))
+            return new MonteCarloEngine(specification, Engine.getLimits(parameters, "playouts"));
+        throw new IllegalArgumentException("Unknown engine " + specification);
+    }
+
+    private static Limits getLimits(Map<String, Long> parameters, String nodesName) {
+        int depth = Limits.MAX_DEPTH;
+        long millis = Limits.UNLIMITED;
+        long nodes = Limits.UNLIMITED;
+        for (Map.Entry<String, Long> parameter : parameters.entrySet())
+            if (parameter.getKey().equals("depth") && !nodesName.equals("depth"))
+                throw new IllegalArgumentException("Bad engine parameter " + parameter.getKey());
+            else if (parameter.getKey().equals("depth"))
+                depth = (int) Math.max(1, Math.min(parameter.getValue(), Limits.MAX_DEPTH));
+            else if (parameter.getKey().equals("millis"))
+                millis = Math.max(1, parameter.getValue());
+            else if (parameter.getKey().equals(nodesName) || parameter.getKey().equals("nodes"))
+                nodes = Math.max(1, parameter.getValue());
+            else
+                throw new IllegalArgumentException("Bad engine parameter " + parameter.getKey());
+        if (depth == Limits.MAX_DEPTH && millis == Limits.UNLIMITED && nodes == Limits.UNLIMITED)
+            throw new IllegalArgumentException("Engine without limits");
+        return new Limits(depth, millis, nodes);
+    }
+
+    public String getName() {
+        return this.name;
+    }
+
+    public abstract Player newPlayer(Game game, SplittableRandom random);
+
+    @Override
+    public String toString() {
+        return this.name;
+    }
+
+}
@@ -0,0 +1,35 @@
+package es.urjccode.mastercloudapps.adcs.draughts.tournament;
+
+import java.util.SplittableRandom;
+
+import es.urjccode.mastercloudapps.adcs.draughts.engine.Limits;
+import es.urjccode.mastercloudapps.adcs.draughts.engine.MonteCarloSearch;
+import es.urjccode.mastercloudapps.adcs.draughts.models.Game;
+
+// Tournament threads already use every core, so each player searches on its own thread.
+class MonteCarloEngine extends Engine {
+
+    static final String NAME = "montecarlo";
+
+    private static final int CAPACITY = 1 << 18;
+
+    private Limits limits;
+
+    MonteCarloEngine(String name, Limits limits) {
+        super(name);
+        assert limits != null;
+        this.limits = limits;
+    }
+
+    @Override
+    public Player newPlayer(Game game, SplittableRandom random) {
+        final MonteCarloSearch search = new MonteCarloSearch(game, MonteCarloEngine.CAPACITY, 1, random);
+        return new Player() {
+            @Override
+            public int getMove() {
+                return search.search(MonteCarloEngine.this.limits).getMove();
+            }
+        };
+    }
+
+}
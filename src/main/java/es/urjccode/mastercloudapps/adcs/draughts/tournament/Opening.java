@@ -0,0 +1,66 @@
+package es.urjccode.mastercloudapps.adcs.draughts.tournament;
+
+import java.util.Arrays;
+import java.util.SplittableRandom;
+
+import es.urjccode.mastercloudapps.adcs.draughts.models.Game;
+import es.urjccode.mastercloudapps.adcs.draughts.models.MoveBuffer;
+
+// Random plies from the initial position, kept with their huffs so both games of a pair start identically.
+class Opening {
+
+    private int[] moves;
+    private int[] huffs;
+
+    private Opening(int[] moves, int[] huffs) {
+        this.moves = moves;
+        this.huffs = huffs;
+    }
+
+    // A ply that would leave the side to move without moves is not played, so every opening is still open.
+    static Opening getRandom(SplittableRandom random, int plies) {
+        assert random != null;
+        assert plies >= 0;
+        Game game = new Game(random.split());
+        MoveBuffer moves = new MoveBuffer();
+        MoveBuffer replies = new MoveBuffer();
+        int[] openingMoves = new int[plies];
+        int[] openingHuffs = new int[plies];
+        int ply = 0;
+        game.generateMoves(moves);
+        while (ply < plies && !moves.isEmpty()) {
+            final int move = moves.get(random.nextInt(moves.size()));
+            final long huffs = game.getHuffs(move);
+            int huff = Game.NO_HUFF;
+            if (huffs != 0) {
+                long remaining = huffs;
+                for (int i = random.nextInt(Long.bitCount(huffs)); i > 0; i--)
+                    remaining &= remaining - 1;
+                huff = Long.numberOfTrailingZeros(remaining);
+            }
+            game.makeMove(move, huff);
+            game.generateMoves(replies);
+            if (replies.isEmpty()) {
+                game.unmakeMove();
+                break;
+            }
+            openingMoves[ply] = move;
+            openingHuffs[ply] = huff;
+            ply++;
+            game.generateMoves(moves);
+        }
+        return new Opening(Arrays.copyOf(openingMoves, ply), Arrays.copyOf(openingHuffs, ply));
+    }
+
+    void play(Game game) {
+        assert game != null;
+        game.reset();
+        for (int i = 0; i < this.moves.length; i++)
+            game.makeMove(this.moves[i], this.huffs[i]);
+    }
+
+    int getPlies() {
+        return this.moves.length;
+    }
+
+}
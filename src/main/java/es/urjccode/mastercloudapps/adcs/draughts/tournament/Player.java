@@ -0,0 +1,7 @@
+package es.urjccode.mastercloudapps.adcs.draughts.tournament;
+
+public interface Player {
+
+    int getMove();
+
+}
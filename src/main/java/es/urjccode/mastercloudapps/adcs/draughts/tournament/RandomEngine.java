@@ -0,0 +1,28 @@
+package es.urjccode.mastercloudapps.adcs.draughts.tournament;
+
+import java.util.SplittableRandom;
+
+import es.urjccode.mastercloudapps.adcs.draughts.models.Game;
+import es.urjccode.mastercloudapps.adcs.draughts.models.MoveBuffer;
+
+class RandomEngine extends Engine {
+
+    static final String NAME = "random";
+
+    RandomEngine(String name) {
+        super(name);
+    }
+
+    @Override
+    public Player newPlayer(final Game game, final SplittableRandom random) {
+        final MoveBuffer moves = new MoveBuffer();
+        return new Player() {
+            @Override
+            public int getMove() {
+                game.generateMoves(moves);
+                return moves.get(random.nextInt(moves.size()));
+            }
+        };
+    }
+
+}
@@ -0,0 +1,35 @@
+package es.urjccode.mastercloudapps.adcs.draughts.tournament;
+
+import java.util.SplittableRandom;
+
+import es.urjccode.mastercloudapps.adcs.draughts.engine.Limits;
+import es.urjccode.mastercloudapps.adcs.draughts.engine.Search;
+import es.urjccode.mastercloudapps.adcs.draughts.engine.TranspositionTable;
+import es.urjccode.mastercloudapps.adcs.draughts.models.Game;
+
+class SearchEngine extends Engine {
+
+    static final String NAME = "search";
+
+    private static final int TABLE_MEGABYTES = 4;
+
+    private Limits limits;
+
+    SearchEngine(String name, Limits limits) {
+        super(name);
+        assert limits != null;
+        this.limits = limits;
+    }
+
+    @Override
+    public Player newPlayer(Game game, SplittableRandom random) {
+        final Search search = new Search(game, new TranspositionTable(SearchEngine.TABLE_MEGABYTES));
+        return new Player() {
+            @Override
+            public int getMove() {
+                return search.search(SearchEngine.this.limits).getMove();
+            }
+        };
+    }
+
+}
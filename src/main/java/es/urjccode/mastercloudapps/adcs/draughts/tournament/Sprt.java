@@ -0,0 +1,76 @@
+package es.urjccode.mastercloudapps.adcs.draughts.tournament;
+
+// Sequential probability ratio test between H0: elo = elo0 and H1: elo = elo1. Games cannot be drawn, so each
+// game is a Bernoulli trial and the log-likelihood ratio only needs the wins and losses of the first engine.
+public class Sprt {
+
+    private static final double Z_95 = 1.959963984540054;
+
+    private double winLlr;
+    private double lossLlr;
+    private double lowerBound;
+    private double upperBound;
+
+    public Sprt(double elo0, double elo1, double alpha, double beta) {
+        assert elo0 < elo1;
+        assert 0 < alpha && alpha < 1;
+        assert 0 < beta && beta < 1;
+        final double p0 = Sprt.getScore(elo0);
+        final double p1 = Sprt.getScore(elo1);
+        this.winLlr = Math.log(p1 / p0);
+        this.lossLlr = Math.log((1 - p1) / (1 - p0));
+        this.lowerBound = Math.log(beta / (1 - alpha));
+        this.upperBound = Math.log((1 - beta) / alpha);
+    }
+
+    public double getLlr(long wins, long losses) {
+        return wins * this.winLlr + losses * this.lossLlr;
+    }
+
+    public Decision getDecision(long wins, long losses) {
+        final double llr = this.getLlr(wins, losses);
+        if (llr <= this.lowerBound)
+            return Decision.ACCEPT_H0;
+        if (llr >= this.upperBound)
+            return Decision.ACCEPT_H1;
+        return Decision.UNDECIDED;
+    }
+
+    public double getLowerBound() {
+        return this.lowerBound;
+    }
+
+    public double getUpperBound() {
+        return this.upperBound;
+    }
+
+    public static double getScore(double elo) {
+        return 1 / (1 + Math.pow(10, -elo / 400));
+    }
+
+    public static double getElo(double score) {
+        return -400 * Math.log10(1 / score - 1);
+    }
+
+    public static double getElo(long wins, long losses) {
+        return Sprt.getElo(Sprt.getBoundedScore(wins, losses, 0));
+    }
+
+    // Half width of the 95% confidence interval, from the normal approximation of the score.
+    public static double getEloError(long wins, long losses) {
+        return (Sprt.getElo(Sprt.getBoundedScore(wins, losses, Sprt.Z_95))
+            - Sprt.getElo(Sprt.getBoundedScore(wins, losses, -Sprt.Z_95))) / 2;
+    }
+
+    // Scores of exactly 0 or 1 have no finite elo, so they are kept half a game away from both ends.
+    private static double getBoundedScore(long wins, long losses, double deviations) {
+        final long games = wins + losses;
+        if (games == 0)
+            return 0.5;
+        final double score = (double) wins / games;
+        final double error = Math.sqrt(score * (1 - score) / games);
+        final double margin = 0.5 / games;
+        return Math.max(margin, Math.min(score + deviations * error, 1 - margin));
+    }
+
+}
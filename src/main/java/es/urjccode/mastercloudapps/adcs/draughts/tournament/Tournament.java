@@ -0,0 +1,277 @@
+package es.urjccode.mastercloudapps.adcs.draughts.tournament;
+
+import java.io.BufferedWriter;
+import java.io.FileWriter;
+import java.io.IOException;
+import java.io.PrintStream;
+import java.io.Writer;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.SplittableRandom;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.ThreadFactory;
+import java.util.concurrent.atomic.AtomicLong;
+
+import es.urjccode.mastercloudapps.adcs.draughts.models.Color;
+import es.urjccode.mastercloudapps.adcs.draughts.models.Game;
+import es.urjccode.mastercloudapps.adcs.draughts.models.MoveBuffer;
+
+// Games are played in pairs from the same random opening with the colours swapped. Each worker thread reuses one
+// game and one player per engine, and only the counters stay in memory; every game is streamed to the output.
+public class Tournament {
+
+    public static final int DEFAULT_OPENING_PLIES = 4;
+
+    private static final long PROGRESS_NANOS = 10000000000L;
+    private static final String SEPARATOR = "\t";
+
+    private Engine[] engines;
+    private int threads;
+    private long games;
+    private int openingPlies;
+    private long seed;
+    private Sprt sprt;
+    private Writer output;
+    private PrintStream progress;
+    private AtomicLong pairs;
+    private long wins;
+    private long losses;
+    private Decision decision;
+    private long start;
+    private long lastProgress;
+    private volatile boolean stopped;
+
+    public Tournament(Engine first, Engine second, int threads) {
+        assert first != null;
+        assert second != null;
+        assert threads > 0;
+        this.engines = new Engine[] { first, second };
+        this.threads = threads;
+        this.games = Long.MAX_VALUE;
+        this.openingPlies = Tournament.DEFAULT_OPENING_PLIES;
+        this.seed = 0;
+        this.sprt = null;
+        this.output = null;
+        this.progress = null;
+        this.pairs = new AtomicLong();
+    }
+
+    public void setGames(long games) {
+        assert games > 0;
+        this.games = games;
+    }
+
+    public void setOpeningPlies(int openingPlies) {
+        assert openingPlies >= 0;
+        this.openingPlies = openingPlies;
+    }
+
+    public void setSeed(long seed) {
+        this.seed = seed;
+    }
+
+    // Without a test the tournament only stops after the given number of games.
+    public void setSprt(Sprt sprt) {
+        this.sprt = sprt;
+    }
+
+    public void setOutput(Writer output) {
+        this.output = output;
+    }
+
+    public void setProgress(PrintStream progress) {
+        this.progress = progress;
+    }
+
+    public static void main(String[] args) throws IOException {
+        Engine first = null;
+        Engine second = null;
+        int threads = Runtime.getRuntime().availableProcessors();
+        long games = Long.MAX_VALUE;
+        int openingPlies = Tournament.DEFAULT_OPENING_PLIES;
+        long seed = 0;
+        double elo0 = 0;
+        double elo1 = 5;
+        double alpha = 0.05;
+        double beta = 0.05;
+        String output = null;
+        for (int i = 0; i < args.length; i++) {
+            final String[] option = args[i].split("=", 2);
+            if (option.length != 2)
+                throw new IllegalArgumentException("Unknown option " + args[i]);
+            if (option[0].equals("--first"))
+                first = Engine.parse(option[1]);
+            else if (option[0].equals("--second"))
+                second = Engine.parse(option[1]);
+            else if (option[0].equals("--threads"))
+                threads = Integer.parseInt(option[1]);
+            else if (option[0].equals("--games"))
+                games = Long.parseLong(option[1]);
+            else if (option[0].equals("--opening-plies"))
+                openingPlies = Integer.parseInt(option[1]);
+            else if (option[0].equals("--seed"))
+                seed = Long.parseLong(option[1]);
+            else if (option[0].equals("--elo0"))
+                elo0 = Double.parseDouble(option[1]);
+            else if (option[0].equals("--elo1"))
+                elo1 = Double.parseDouble(option[1]);
+            else if (option[0].equals("--alpha"))
+                alpha = Double.parseDouble(option[1]);
+            else if (option[0].equals("--beta"))
+                beta = Double.parseDouble(option[1]);
+            else if (option[0].equals("--output"))
+                output = option[1];
+            else
+                throw new IllegalArgumentException("Unknown option " + args[i]);
+        }
+        if (first == null || second == null) {
+            System.err.println("Usage: Tournament --first=ENGINE --second=ENGINE [--games=N] [--threads=N]"
+                + " [--opening-plies=N] [--seed=N] [--elo0=E] [--elo1=E] [--alpha=A] [--beta=B] [--output=FILE]");
+            return;
+        }
+        Tournament tournament = new Tournament(first, second, threads);
+        tournament.setGames(games);
+        tournament.setOpeningPlies(openingPlies);
+        tournament.setSeed(seed);
+        tournament.setSprt(new Sprt(elo0, elo1, alpha, beta));
+        tournament.setProgress(System.out);
+        Writer writer = null;
+        try {
+            if (output != null) {
+                writer = new BufferedWriter(new FileWriter(output));
+                tournament.setOutput(writer);
+            }
+            System.out.println(tournament.play());
+        } finally {
+            if (writer != null)
+                writer.close();
+        }
+    }
+
+    public TournamentResult play() throws IOException {
+        this.pairs.set(0);
+        this.wins = 0;
+        this.losses = 0;
+        this.decision = Decision.UNDECIDED;
+        this.stopped = false;
+        this.start = System.nanoTime();
+        this.lastProgress = this.start;
+        if (this.output != null)
+            this.output.write("game" + Tournament.SEPARATOR + "white" + Tournament.SEPARATOR + "black"
+                + Tournament.SEPARATOR + "winner" + Tournament.SEPARATOR + "plies\n");
+        ExecutorService executorService = Executors.newFixedThreadPool(this.threads, new ThreadFactory() {
+            @Override
+            public Thread newThread(Runnable runnable) {
+                Thread thread = new Thread(runnable, "tournament-worker");
+                thread.setDaemon(true);
+                return thread;
+            }
+        });
+        try {
+            List<Future<Void>> futures = new ArrayList<Future<Void>>();
+            for (int i = 0; i < this.threads; i++) {
+                final int worker = i;
+                futures.add(executorService.submit(new Callable<Void>() {
+                    @Override
+                    public Void call() throws IOException {
+                        Tournament.this.work(worker);
+                        return null;
+                    }
+                }));
+            }
+            for (Future<Void> future : futures)
+                Tournament.await(future);
+        } finally {
+            this.stopped = true;
+            executorService.shutdownNow();
+        }
+        if (this.output != null)
+            this.output.flush();
+        return this.getResult();
+    }
+
+    private static void await(Future<Void> future) throws IOException {
+        try {
+            future.get();
+        } catch (InterruptedException ex) {
+            Thread.currentThread().interrupt();
+            throw new IllegalStateException(ex);
+        } catch (ExecutionException ex) {
+            if (ex.getCause() instanceof IOException)
+                throw (IOException) ex.getCause();
+            throw new IllegalStateException(ex.getCause());
+        }
+    }
+
+    private void work(int worker) throws IOException {
+        SplittableRandom random = new SplittableRandom(this.seed + worker);
+        Game game = new Game(random.split());
+        MoveBuffer moves = new MoveBuffer();
+        Player[] players = new Player[this.engines.length];
+        for (int i = 0; i < players.length; i++)
+            players[i] = this.engines[i].newPlayer(game, random.split());
+        final long pairLimit = this.games / 2 + this.games % 2;
+        while (!this.stopped) {
+            final long pair = this.pairs.getAndIncrement();
+            if (pair >= pairLimit)
+                return;
+            final Opening opening = Opening.getRandom(new SplittableRandom(this.seed + pair), this.openingPlies);
+            for (int white = 0; white < this.engines.length && pair * 2 + white < this.games && !this.stopped;
+                white++) {
+                opening.play(game);
+                int plies = opening.getPlies();
+                game.generateMoves(moves);
+                while (!moves.isEmpty()) {
+                    final Player player = players[this.getEngine(game.getTurnColor(), white)];
+                    game.makeMove(player.getMove());
+                    plies++;
+                    game.generateMoves(moves);
+                }
+                final int winner = this.getEngine(game.getTurnColor().getOpposite(), white);
+                this.record(pair * 2 + white, white, winner, plies);
+            }
+        }
+    }
+
+    private int getEngine(Color color, int white) {
+        if (color == Color.WHITE)
+            return white;
+        return 1 - white;
+    }
+
+    // Games finished after the test has decided are left out, so the result is the one the decision was made on.
+    private synchronized void record(long number, int white, int winner, int plies) throws IOException {
+        if (this.decision != Decision.UNDECIDED)
+            return;
+        if (winner == 0)
+            this.wins++;
+        else
+            this.losses++;
+        if (this.output != null)
+            this.output.write(number + Tournament.SEPARATOR + this.engines[white] + Tournament.SEPARATOR
+                + this.engines[1 - white] + Tournament.SEPARATOR + this.engines[winner] + Tournament.SEPARATOR
+                + plies + "\n");
+        if (this.sprt != null) {
+            this.decision = this.sprt.getDecision(this.wins, this.losses);
+            if (this.decision != Decision.UNDECIDED)
+                this.stopped = true;
+        }
+        final long now = System.nanoTime();
+        if (this.progress != null && now - this.lastProgress >= Tournament.PROGRESS_NANOS) {
+            this.lastProgress = now;
+            this.progress.println(this.getResult());
+        }
+    }
+
+    private synchronized TournamentResult getResult() {
+        double llr = 0;
+        if (this.sprt != null)
+            llr = this.sprt.getLlr(this.wins, this.losses);
+        return new TournamentResult(this.wins, this.losses, llr, this.decision, System.nanoTime() - this.start);
+    }
+
+}
@@ -0,0 +1,65 @@
+package es.urjccode.mastercloudapps.adcs.draughts.tournament;
+
+public class TournamentResult {
+
+    private long wins;
+    private long losses;
+    private double llr;
+    private Decision decision;
+    private long elapsedNanos;
+
+    TournamentResult(long wins, long losses, double llr, Decision decision, long elapsedNanos) {
+        assert decision != null;
+        this.wins = wins;
+        this.losses = losses;
+        this.llr = llr;
+        this.decision = decision;
+        this.elapsedNanos = elapsedNanos;
+    }
+
+    public long getGames() {
+        return this.wins + this.losses;
+    }
+
+    public long getWins() {
+        return this.wins;
+    }
+
+    public long getLosses() {
+        return this.losses;
+    }
+
+    public double getElo() {
+        return Sprt.getElo(this.wins, this.losses);
+    }
+
+    public double getEloError() {
+        return Sprt.getEloError(this.wins, this.losses);
+    }
+
+    public double getLlr() {
+        return this.llr;
+    }
+
+    public Decision getDecision() {
+        return this.decision;
+    }
+
+    public long getElapsedNanos() {
+        return this.elapsedNanos;
+    }
+
+    public long getGamesPerSecond() {
+        if (this.elapsedNanos == 0)
+            return 0;
+        return this.getGames() * 1000000000L / this.elapsedNanos;
+    }
+
+    @Override
+    public String toString() {
+        return "games " + this.getGames() + " wins " + this.wins + " losses " + this.losses
+            + String.format(" elo %.1f +/- %.1f llr %.2f ", this.getElo(), this.getEloError(), this.llr)
+            + this.decision + " games/s " + this.getGamesPerSecond();
+    }
+
+}
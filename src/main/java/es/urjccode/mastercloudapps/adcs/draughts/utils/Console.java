@@ -1,26 +1,40 @@
 package es.urjccode.mastercloudapps.adcs.draughts.utils;
 
 import java.io.BufferedReader;
+import java.io.EOFException;
 import java.io.IOException;
 import java.io.InputStreamReader;
+import java.io.PrintWriter;
+import java.io.UncheckedIOException;
 
 public class Console {
 	
-	private BufferedReader bufferedReader = new BufferedReader(new InputStreamReader(
-			System.in));
+	private BufferedReader bufferedReader;
+	private PrintWriter printWriter;
 
+	public Console(BufferedReader bufferedReader, PrintWriter printWriter) {
+		assert bufferedReader != null;
+		assert printWriter != null;
+		this.bufferedReader = bufferedReader;
+		this.printWriter = printWriter;
+	}
+
+	public Console() {
+		this(new BufferedReader(new InputStreamReader(System.in)), new PrintWriter(System.out));
+	}
+
+	// A closed or broken input cannot be retried, so it ends whatever flow is reading from this console.
 	public String readString(String title) {
-		String input = null;
-		boolean ok = false;
-		do {
-			this.write(title);
-			try {
-				input = bufferedReader.readLine();
-				ok = true;
-			} catch (IOException ex) {
-				this.writeError("de cadena de caracteres");
-			}
-		} while (!ok);
+		this.write(title);
+		this.printWriter.flush();
+		String input;
+		try {
+			input = bufferedReader.readLine();
+		} catch (IOException ex) {
+			throw new UncheckedIOException(ex);
+		}
+		if (input == null)
+			throw new UncheckedIOException(new EOFException());
 		return input;
 	}
 
@@ -54,19 +68,21 @@ public class Console {
 	}
 
 	public void writeln() {
-		System.out.println();
+		this.printWriter.println();
+		this.printWriter.flush();
 	}
 	
 	public void write(String string) {
-		System.out.print(string);
+		this.printWriter.print(string);
 	}
 
 	public void writeln(String string) {
-		System.out.println(string);
+		this.printWriter.println(string);
+		this.printWriter.flush();
 	}
 
 	private void writeError(String formato) {
-		System.out.println("ERROR DE FORMATO! "
+		this.writeln("ERROR DE FORMATO! "
 				+ "Introduzca un valor con formato " + formato + ".");
 	}
 }
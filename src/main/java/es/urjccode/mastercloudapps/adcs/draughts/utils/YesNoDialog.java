@@ -9,8 +9,9 @@ public class YesNoDialog  {
 			+ YesNoDialog.NEGATIVE + "'";
     private Console console;
 
-    public YesNoDialog(){
-        this.console = new Console();
+    public YesNoDialog(Console console){
+        assert console != null;
+        this.console = console;
     }
     
 	public boolean read(String title) {
@@ -3,9 +3,14 @@ package es.urjccode.mastercloudapps.adcs.draughts.views;
 import es.urjccode.mastercloudapps.adcs.draughts.controllers.InteractorController;
 import es.urjccode.mastercloudapps.adcs.draughts.models.Coordinate;
 import es.urjccode.mastercloudapps.adcs.draughts.models.Piece;
+import es.urjccode.mastercloudapps.adcs.draughts.utils.Console;
 
 class GameView extends SubView {
 
+    GameView(Console console) {
+        super(console);
+    }
+
     void write(InteractorController controller) {
         assert controller != null;
         final int DIMENSION = controller.getDimension();
@@ -0,0 +1,41 @@
+package es.urjccode.mastercloudapps.adcs.draughts.views;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.regex.Pattern;
+
+import es.urjccode.mastercloudapps.adcs.draughts.models.Coordinate;
+
+public class MoveFormat {
+
+    private static final String CANCEL_FORMAT = "-1";
+    private static final Pattern MOVEMENT_FORMAT = Pattern.compile("[1-8]{2}(\\.[1-8]{2}){1,2}");
+
+    private MoveFormat() {
+    }
+
+    public static boolean isCanceledFormat(String string) {
+        return string.equals(MoveFormat.CANCEL_FORMAT);
+    }
+
+    public static boolean isMoveFormat(String string) {
+        return MoveFormat.MOVEMENT_FORMAT.matcher(string).matches();
+    }
+
+    public static Coordinate[] getCoordinates(String string) {
+        assert MoveFormat.isMoveFormat(string);
+        List<Coordinate> coordinateList = new ArrayList<Coordinate>();
+        while (string.length() > 0){
+            coordinateList.add(Coordinate.getInstance(string.substring(0, 2)));
+            string = string.substring(2, string.length());
+            if (string.length() > 0 && string.charAt(0) == '.')
+                string = string.substring(1, string.length());
+        }
+        Coordinate[] coordinates = new Coordinate[coordinateList.size()];
+        for(int i=0; i< coordinates.length; i++){
+            coordinates[i] = coordinateList.get(i);
+        }
+        return coordinates;
+    }
+
+}
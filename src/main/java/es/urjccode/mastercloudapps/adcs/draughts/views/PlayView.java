@@ -1,27 +1,21 @@
 package es.urjccode.mastercloudapps.adcs.draughts.views;
 
-import java.util.ArrayList;
-import java.util.List;
-import java.util.regex.Pattern;
-
 import es.urjccode.mastercloudapps.adcs.draughts.controllers.PlayController;
 import es.urjccode.mastercloudapps.adcs.draughts.models.Error;
 import es.urjccode.mastercloudapps.adcs.draughts.models.Color;
-import es.urjccode.mastercloudapps.adcs.draughts.models.Coordinate;
+import es.urjccode.mastercloudapps.adcs.draughts.utils.Console;
 
 class PlayView extends SubView {
     
     private static final String COLOR_PARAM = "#color";
     private static final String[] COLOR_VALUES = { "blancas", "negras" };
     private static final String PROMPT = "Mueven las " + PlayView.COLOR_PARAM + ": ";
-    private static final String CANCEL_FORMAT = "-1";
-    private static final String MOVEMENT_FORMAT = "[1-8]{2}(\\.[1-8]{2}){1,2}";
     private static final String ERROR_MESSAGE = "Error!!! Formato incorrecto";
     private static final String LOST_MESSAGE = "Derrota!!! No puedes mover tus fichas!!!";
     private String string;
 
-    PlayView() {
-        super();
+    PlayView(Console console) {
+        super(console);
     }
 
     void interact(PlayController playController) {
@@ -30,14 +24,14 @@ class PlayView extends SubView {
         do {
             error = null;
             this.string = this.read(playController.getColor());
-            if (this.isCanceledFormat())
+            if (MoveFormat.isCanceledFormat(this.string))
                 playController.cancel();
-            else if (!this.isMoveFormat()) {
+            else if (!MoveFormat.isMoveFormat(this.string)) {
                 error = Error.BAD_FORMAT;
                 this.writeError();
             } else {
-                error = playController.move(this.getCoordinates());
-                new GameView().write(playController);
+                error = playController.move(MoveFormat.getCoordinates(this.string));
+                new GameView(this.console).write(playController);
                 if (error == null && playController.isBlocked())
                     this.writeLost();
             }
@@ -49,34 +43,10 @@ class PlayView extends SubView {
         return this.console.readString(titleColor);
     }
 
-    private boolean isCanceledFormat() {
-        return string.equals(PlayView.CANCEL_FORMAT);
-    }
-
-    private boolean isMoveFormat() {
-        return Pattern.compile(PlayView.MOVEMENT_FORMAT).matcher(string).find();
-    }
-
     private void writeError(){
         this.console.writeln(PlayView.ERROR_MESSAGE);
     }
 
-    private Coordinate[] getCoordinates() {
-        assert this.isMoveFormat();
-        List<Coordinate> coordinateList = new ArrayList<Coordinate>();
-        while (string.length() > 0){
-            coordinateList.add(Coordinate.getInstance(string.substring(0, 2)));
-            string = string.substring(2, string.length());
-            if (string.length() > 0 && string.charAt(0) == '.')
-                string = string.substring(1, string.length());
-        }
-        Coordinate[] coordinates = new Coordinate[coordinateList.size()];
-        for(int i=0; i< coordinates.length; i++){
-            coordinates[i] = coordinateList.get(i);
-        }
-        return coordinates;
-    }
-
     private void writeLost() {
         this.console.writeln(LOST_MESSAGE);
     }
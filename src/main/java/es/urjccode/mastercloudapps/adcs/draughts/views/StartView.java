@@ -1,19 +1,20 @@
 package es.urjccode.mastercloudapps.adcs.draughts.views;
 
 import es.urjccode.mastercloudapps.adcs.draughts.controllers.StartController;
+import es.urjccode.mastercloudapps.adcs.draughts.utils.Console;
 
 class StartView extends SubView {
 
     private static final String TITTLE = "Draughts";
 
-    StartView(){
-        super();
+    StartView(Console console){
+        super(console);
     }
 
     void interact(StartController startController) {
         assert startController != null;
         this.console.writeln(StartView.TITTLE);
-        new GameView().write(startController);
+        new GameView(this.console).write(startController);
         startController.start();
     }
 
@@ -6,8 +6,9 @@ class SubView {
     
     protected Console console;
 
-    public SubView(){
-        this.console = new Console();
+    public SubView(Console console){
+        assert console != null;
+        this.console = console;
     }
     
 }
\ No newline at end of file
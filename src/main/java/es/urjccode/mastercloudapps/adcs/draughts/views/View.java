@@ -5,6 +5,8 @@ import es.urjccode.mastercloudapps.adcs.draughts.controllers.InteractorControlle
 import es.urjccode.mastercloudapps.adcs.draughts.controllers.PlayController;
 import es.urjccode.mastercloudapps.adcs.draughts.controllers.ResumeController;
 import es.urjccode.mastercloudapps.adcs.draughts.controllers.StartController;
+import es.urjccode.mastercloudapps.adcs.draughts.utils.Console;
+import es.urjccode.mastercloudapps.adcs.draughts.utils.YesNoDialog;
 
 public class View implements InteractorControllersVisitor {
 
@@ -12,10 +14,15 @@ public class View implements InteractorControllersVisitor {
     private PlayView playView;
     private ResumeView resumeView;
 
+    public View(Console console){
+        assert console != null;
+        this.startView = new StartView(console);
+        this.playView = new PlayView(console);
+        this.resumeView = new ResumeView(console, new YesNoDialog(console));
+    }
+
     public View(){
-        this.startView = new StartView();
-        this.playView = new PlayView();
-        this.resumeView = new ResumeView();
+        this(new Console());
     }
 
     public void interact(InteractorController controller) {
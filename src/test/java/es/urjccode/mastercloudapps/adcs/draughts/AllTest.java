@@ -4,13 +4,22 @@ import org.junit.runner.RunWith;
 import org.junit.runners.Suite;
 
 import es.urjccode.mastercloudapps.adcs.draughts.controllers.AllControllerTest;
+import es.urjccode.mastercloudapps.adcs.draughts.engine.AllEngineTest;
+import es.urjccode.mastercloudapps.adcs.draughts.journal.AllJournalTest;
 import es.urjccode.mastercloudapps.adcs.draughts.models.AllModelTest;
+import es.urjccode.mastercloudapps.adcs.draughts.server.AllServerTest;
+import es.urjccode.mastercloudapps.adcs.draughts.tournament.AllTournamentTest;
 import es.urjccode.mastercloudapps.adcs.draughts.views.AllViewTest;
 
 @RunWith(Suite.class)
 @Suite.SuiteClasses({ 
     AllModelTest.class, 
     AllControllerTest.class, 
-    AllViewTest.class } )
+    AllViewTest.class,
+    AllEngineTest.class,
+    AllTournamentTest.class,
+    AllServerTest.class,
+    AllJournalTest.class,
+    DraughtsTest.class } )
 public final class AllTest {
 }
\ No newline at end of file
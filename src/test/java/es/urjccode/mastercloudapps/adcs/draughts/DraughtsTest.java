@@ -0,0 +1,46 @@
+package es.urjccode.mastercloudapps.adcs.draughts;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
+
+import java.io.BufferedReader;
+import java.io.PrintWriter;
+import java.io.StringReader;
+import java.io.StringWriter;
+import java.io.UncheckedIOException;
+
+import org.junit.Test;
+
+import es.urjccode.mastercloudapps.adcs.draughts.utils.Console;
+
+public class DraughtsTest {
+
+    private StringWriter output = new StringWriter();
+
+    private Console getConsole(String input) {
+        return new Console(new BufferedReader(new StringReader(input)), new PrintWriter(this.output));
+    }
+
+    @Test
+    public void testGivenInjectedConsoleWhenPlayThenWholeGameOnThatConsole() {
+        new Draughts(this.getConsole("61.52\n-1\nn\n")).play();
+        final String string = this.output.toString();
+        assertTrue(string.startsWith("Draughts"));
+        assertTrue(string.contains("Mueven las blancas: "));
+        assertTrue(string.contains("Mueven las negras: "));
+        assertTrue(string.endsWith("¿Queréis jugar otra? (y/n): "));
+    }
+
+    @Test
+    public void testGivenTwoGamesWhenPlayThenBothReadFromTheSameConsole() {
+        new Draughts(this.getConsole("-1\ny\n-1\nn\n")).play();
+        final String[] games = this.output.toString().split("Draughts");
+        assertEquals(3, games.length);
+    }
+
+    @Test(expected = UncheckedIOException.class)
+    public void testGivenEndedInputWhenPlayThenException() {
+        new Draughts(this.getConsole("61.52\n")).play();
+    }
+
+}
@@ -1,17 +1,29 @@
 package es.urjccode.mastercloudapps.adcs.draughts.controllers;
 
+import java.io.File;
+import java.io.IOException;
+
+import org.junit.Rule;
 import org.junit.Test;
+import org.junit.rules.TemporaryFolder;
+
+import es.urjccode.mastercloudapps.adcs.draughts.engine.OpeningBook;
+import es.urjccode.mastercloudapps.adcs.draughts.engine.OpeningBookBuilder;
 
 import es.urjccode.mastercloudapps.adcs.draughts.models.Coordinate;
 import es.urjccode.mastercloudapps.adcs.draughts.models.Game;
 import es.urjccode.mastercloudapps.adcs.draughts.models.State;
 import es.urjccode.mastercloudapps.adcs.draughts.models.Color;
 import es.urjccode.mastercloudapps.adcs.draughts.models.GameBuilder;
+import es.urjccode.mastercloudapps.adcs.draughts.models.Move;
 
 import static org.junit.Assert.*;
 
 public class PlayControllerTest {
 
+    @Rule
+    public TemporaryFolder folder = new TemporaryFolder();
+
     private PlayController playController;
 
     @Test
@@ -156,4 +168,72 @@ public class PlayControllerTest {
         assertFalse(game.isBlocked());
     }
 
+    @Test
+    public void testGivenPlayControllerWhenGetComputerMoveThenMoveAccepted() {
+        Game game = new GameBuilder().build();
+        playController = new PlayController(game, new State());
+        Coordinate[] coordinates = playController.getComputerMove();
+        assertNull(playController.move(coordinates));
+        assertEquals(Color.BLACK, playController.getColor());
+    }
+
+    @Test
+    public void testGivenPlayControllerWithThreadsWhenGetComputerMoveThenMoveAccepted() {
+        Game game = new GameBuilder().build();
+        playController = new PlayController(game, new State());
+        playController.setComputerThreads(2);
+        assertNull(playController.move(playController.getComputerMove()));
+        assertEquals(Color.BLACK, playController.getColor());
+    }
+
+    @Test
+    public void testGivenClosedPlayControllerWithThreadsWhenGetComputerMoveThenMoveAccepted() {
+        Game game = new GameBuilder().build();
+        playController = new PlayController(game, new State());
+        playController.setComputerThreads(2);
+        assertNull(playController.move(playController.getComputerMove()));
+        playController.close();
+        assertNull(playController.move(playController.getComputerMove()));
+        assertEquals(Color.WHITE, playController.getColor());
+        playController.close();
+    }
+
+    @Test
+    public void testGivenPlayControllerWithMonteCarloWhenGetComputerMoveThenMoveAccepted() {
+        Game game = new GameBuilder().build();
+        playController = new PlayController(game, new State());
+        playController.setComputerMonteCarlo(true);
+        playController.setComputerThreads(2);
+        assertNull(playController.move(playController.getComputerMove()));
+        assertEquals(Color.BLACK, playController.getColor());
+    }
+
+    @Test
+    public void testGivenPlayControllerWhenGetComputerMoveOfBlockedGameThenNull() {
+        Game game = new GameBuilder().rows(
+            " b      ",
+            "        ",
+            "        ",
+            "        ",
+            "        ",
+            "        ",
+            "        ",
+            "        ").build();
+        playController = new PlayController(game, new State());
+        assertNull(playController.getComputerMove());
+    }
+
+    @Test
+    public void testGivenPlayControllerWithOpeningBookWhenGetComputerMoveThenBookMove() throws IOException {
+        Game game = new GameBuilder().build();
+        final int move = Move.getInstance(new Coordinate(5, 6), new Coordinate(4, 7));
+        OpeningBookBuilder builder = new OpeningBookBuilder(1);
+        builder.add(game.positionKey(), move, 1);
+        File file = this.folder.newFile();
+        builder.write(file);
+        playController = new PlayController(game, new State());
+        playController.setComputerOpeningBook(new OpeningBook(file));
+        assertArrayEquals(Move.getCoordinates(move), playController.getComputerMove());
+    }
+
 }
@@ -0,0 +1,20 @@
+package es.urjccode.mastercloudapps.adcs.draughts.engine;
+
+import org.junit.runner.RunWith;
+import org.junit.runners.Suite;
+
+@RunWith(Suite.class)
+@Suite.SuiteClasses({ 
+    SearchTest.class,
+    TranspositionTableTest.class,
+    ParallelSearchTest.class,
+    EvaluatorTest.class,
+    WeightsTest.class,
+    TablebaseIndexTest.class,
+    TablebasePlacementsTest.class,
+    TablebaseTest.class,
+    OpeningBookTest.class,
+    PerftTest.class,
+    MonteCarloSearchTest.class } )
+public final class AllEngineTest {
+}
@@ -0,0 +1,94 @@
+package es.urjccode.mastercloudapps.adcs.draughts.engine;
+
+import static org.junit.Assert.assertEquals;
+
+import java.util.Random;
+
+import org.junit.Test;
+
+import es.urjccode.mastercloudapps.adcs.draughts.models.Game;
+import es.urjccode.mastercloudapps.adcs.draughts.models.GameBuilder;
+import es.urjccode.mastercloudapps.adcs.draughts.models.MoveBuffer;
+
+public class EvaluatorTest {
+
+    private static final Weights WEIGHTS = new Weights(100, 4, 10, 6);
+
+    private int evaluateFromScratch(Game game) {
+        Evaluator evaluator = new Evaluator(game.copy(), EvaluatorTest.WEIGHTS);
+        evaluator.attach();
+        return evaluator.evaluate();
+    }
+
+    @Test
+    public void testGivenInitialGameWhenEvaluateThenZero() {
+        Evaluator evaluator = new Evaluator(new Game(0), EvaluatorTest.WEIGHTS);
+        evaluator.attach();
+        assertEquals(0, evaluator.evaluate());
+    }
+
+    @Test
+    public void testGivenGameWhenEvaluateThenPieceSquareSumsFromSideToMove() {
+        Game game = new GameBuilder().rows(
+            "        ",
+            "        ",
+            "        ",
+            "  b     ",
+            "        ",
+            "        ",
+            "        ",
+            "      n ").build();
+        Evaluator evaluator = new Evaluator(game, EvaluatorTest.WEIGHTS);
+        evaluator.attach();
+        assertEquals((100 + 4 * 4 + 6) - (100 + 4 * 7), evaluator.evaluate());
+    }
+
+    @Test
+    public void testGivenRandomGamesWhenMakeAndUnmakeMovesThenSameAsFromScratch() {
+        Random random = new Random(0);
+        MoveBuffer moves = new MoveBuffer();
+        for (int i = 0; i < 50; i++) {
+            Game game = new Game(i);
+            Evaluator evaluator = new Evaluator(game, EvaluatorTest.WEIGHTS);
+            evaluator.attach();
+            int plies = 0;
+            game.generateMoves(moves);
+            for (int j = 1; !moves.isEmpty(); j++) {
+                game.makeMove(moves.get(random.nextInt(moves.size())));
+                plies++;
+                assertEquals(this.evaluateFromScratch(game), evaluator.evaluate());
+                if (j % 3 == 0) {
+                    game.unmakeMove();
+                    plies--;
+                    assertEquals(this.evaluateFromScratch(game), evaluator.evaluate());
+                }
+                game.generateMoves(moves);
+            }
+            while (plies-- > 0) {
+                game.unmakeMove();
+                assertEquals(this.evaluateFromScratch(game), evaluator.evaluate());
+            }
+            assertEquals(0, evaluator.evaluate());
+        }
+    }
+
+    @Test
+    public void testGivenDetachedEvaluatorWhenMoveThenNotUpdated() {
+        Game game = new Game(0);
+        Evaluator evaluator = new Evaluator(game, EvaluatorTest.WEIGHTS);
+        evaluator.attach();
+        MoveBuffer moves = new MoveBuffer();
+        game.generateMoves(moves);
+        game.makeMove(moves.get(0));
+        final int score = evaluator.evaluate();
+        assertEquals(this.evaluateFromScratch(game), score);
+        evaluator.detach();
+        game.generateMoves(moves);
+        game.makeMove(moves.get(0));
+        game.unmakeMove();
+        game.unmakeMove();
+        assertEquals(score, -evaluator.evaluate());
+        assertEquals(0, this.evaluateFromScratch(game));
+    }
+
+}
@@ -0,0 +1,98 @@
+package es.urjccode.mastercloudapps.adcs.draughts.engine;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
+
+import org.junit.Test;
+
+import es.urjccode.mastercloudapps.adcs.draughts.models.Coordinate;
+import es.urjccode.mastercloudapps.adcs.draughts.models.Game;
+import es.urjccode.mastercloudapps.adcs.draughts.models.GameBuilder;
+import es.urjccode.mastercloudapps.adcs.draughts.models.Move;
+import es.urjccode.mastercloudapps.adcs.draughts.models.MoveBuffer;
+
+public class MonteCarloSearchTest {
+
+    private static final int CAPACITY = 1 << 16;
+
+    private MonteCarloSearch search;
+
+    private void assertLegal(Game game, int move) {
+        MoveBuffer moves = new MoveBuffer();
+        game.generateMoves(moves);
+        assertTrue(moves.contains(move));
+    }
+
+    @Test
+    public void testGivenPlayoutBudgetWhenSearchThenBudgetPlayed() {
+        for (int threads = 1; threads <= 4; threads *= 2) {
+            Game game = new Game(0);
+            final long key = game.positionKey();
+            this.search = new MonteCarloSearch(game, MonteCarloSearchTest.CAPACITY, threads);
+            final MonteCarloResult result = this.search.search(Limits.nodes(2000));
+            this.search.close();
+            assertEquals(2000, result.getPlayouts());
+            assertTrue(result.getNodes() > 1);
+            assertTrue(result.getPlayoutsPerSecond() > 0);
+            assertEquals(key, game.positionKey());
+            this.assertLegal(game, result.getMove());
+        }
+    }
+
+    @Test
+    public void testGivenWinningCaptureWhenSearchThenCapture() {
+        Game game = new GameBuilder().rows(
+            "        ",
+            "        ",
+            "        ",
+            "    n   ",
+            "   b    ",
+            "        ",
+            "        ",
+            "        ").build();
+        this.search = new MonteCarloSearch(game, MonteCarloSearchTest.CAPACITY, 2);
+        this.search.setGuided(false);
+        final MonteCarloResult result = this.search.search(Limits.nodes(500));
+        this.search.close();
+        assertEquals(Move.getInstance(new Coordinate(4, 3), new Coordinate(2, 5)), result.getMove());
+        assertEquals(1.0, result.getWinRate(), 0.0);
+    }
+
+    @Test
+    public void testGivenBlockedGameWhenSearchThenNone() {
+        Game game = new GameBuilder().rows(
+            " b      ",
+            "        ",
+            "        ",
+            "        ",
+            "        ",
+            "        ",
+            "        ",
+            "        ").build();
+        this.search = new MonteCarloSearch(game, MonteCarloSearchTest.CAPACITY, 1);
+        assertEquals(Move.NONE, this.search.search(Limits.nodes(10)).getMove());
+    }
+
+    @Test
+    public void testGivenSmallPoolWhenSearchThenNodesWithinPool() {
+        Game game = new Game(0);
+        this.search = new MonteCarloSearch(game, 100, 2);
+        final MonteCarloResult result = this.search.search(Limits.nodes(1000));
+        this.search.close();
+        assertTrue(result.getNodes() <= 100);
+        assertEquals((long) result.getNodes() * MonteCarloSearch.BYTES_PER_NODE, result.getMemory());
+        this.assertLegal(game, result.getMove());
+    }
+
+    @Test
+    public void testGivenSearchWhenSearchAgainThenTreeRebuilt() {
+        Game game = new Game(0);
+        this.search = new MonteCarloSearch(game, MonteCarloSearchTest.CAPACITY, 1);
+        this.search.search(Limits.nodes(500));
+        game.makeMove(this.search.search(Limits.nodes(500)).getMove());
+        final MonteCarloResult result = this.search.search(Limits.nodes(500));
+        assertEquals(500, result.getPlayouts());
+        this.assertLegal(game, result.getMove());
+    }
+
+}
@@ -0,0 +1,93 @@
+package es.urjccode.mastercloudapps.adcs.draughts.engine;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
+
+import java.io.File;
+import java.io.IOException;
+import java.util.Random;
+import java.util.SplittableRandom;
+
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.TemporaryFolder;
+
+import es.urjccode.mastercloudapps.adcs.draughts.models.Game;
+import es.urjccode.mastercloudapps.adcs.draughts.models.Move;
+import es.urjccode.mastercloudapps.adcs.draughts.models.MoveBuffer;
+
+public class OpeningBookTest {
+
+    @Rule
+    public TemporaryFolder folder = new TemporaryFolder();
+
+    private OpeningBook write(OpeningBookBuilder builder) throws IOException {
+        File file = this.folder.newFile();
+        builder.write(file);
+        return new OpeningBook(file);
+    }
+
+    @Test
+    public void testGivenBookWhenGetMoveThenOnlyWeightedMoves() throws IOException {
+        OpeningBookBuilder builder = new OpeningBookBuilder(1);
+        builder.add(7, 100, 3);
+        builder.add(7, 200, 1);
+        builder.add(7, 300, 0);
+        builder.add(7, 100, 1);
+        builder.add(-7, 400, 1);
+        OpeningBook openingBook = this.write(builder);
+        assertEquals(3, openingBook.size());
+        assertEquals(4, openingBook.getWeight(7, 100));
+        assertEquals(1, openingBook.getWeight(7, 200));
+        assertEquals(0, openingBook.getWeight(7, 300));
+        SplittableRandom random = new SplittableRandom(0);
+        int first = 0;
+        for (int i = 0; i < 1000; i++) {
+            final int move = openingBook.getMove(7, random);
+            assertTrue(move == 100 || move == 200);
+            if (move == 100)
+                first++;
+        }
+        assertTrue(700 < first && first < 800);
+        assertEquals(400, openingBook.getMove(-7, random));
+    }
+
+    @Test
+    public void testGivenBookWhenGetMoveOfMissingKeyThenNone() throws IOException {
+        OpeningBookBuilder builder = new OpeningBookBuilder(1);
+        builder.add(7, 100, 1);
+        OpeningBook openingBook = this.write(builder);
+        assertEquals(Move.NONE, openingBook.getMove(6, new SplittableRandom(0)));
+        assertEquals(Move.NONE, openingBook.getMove(8, new SplittableRandom(0)));
+        assertEquals(Move.NONE, this.write(new OpeningBookBuilder(1)).getMove(7, new SplittableRandom(0)));
+    }
+
+    @Test
+    public void testGivenManyKeysWhenGetMoveThenEveryKeyFound() throws IOException {
+        OpeningBookBuilder builder = new OpeningBookBuilder(1);
+        Random random = new Random(0);
+        long[] keys = new long[1000];
+        for (int i = 0; i < keys.length; i++) {
+            keys[i] = random.nextLong();
+            builder.add(keys[i], i, 1);
+        }
+        OpeningBook openingBook = this.write(builder);
+        for (int i = 0; i < keys.length; i++)
+            assertEquals(i, openingBook.getMove(keys[i], new SplittableRandom(i)));
+    }
+
+    @Test
+    public void testGivenSelfPlayWhenGetMoveOfInitialGameThenLegalMoveOrNone() throws IOException {
+        OpeningBookBuilder builder = new OpeningBookBuilder(4);
+        for (int i = 0; i < 8; i++)
+            builder.play(i, Limits.depth(1));
+        OpeningBook openingBook = this.write(builder);
+        assertTrue(0 < openingBook.size() && openingBook.size() <= 8 * 4);
+        Game game = new Game(0);
+        MoveBuffer moves = new MoveBuffer();
+        game.generateMoves(moves);
+        final int move = openingBook.getMove(game.positionKey(), new SplittableRandom(0));
+        assertTrue(move == Move.NONE || moves.contains(move));
+    }
+
+}
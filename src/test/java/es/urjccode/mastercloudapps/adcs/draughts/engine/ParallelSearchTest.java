@@ -0,0 +1,85 @@
+package es.urjccode.mastercloudapps.adcs.draughts.engine;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+
+import org.junit.After;
+import org.junit.Test;
+
+import es.urjccode.mastercloudapps.adcs.draughts.models.Game;
+import es.urjccode.mastercloudapps.adcs.draughts.models.GameBuilder;
+import es.urjccode.mastercloudapps.adcs.draughts.models.MoveBuffer;
+
+public class ParallelSearchTest {
+
+    private Game game;
+    private ParallelSearch parallelSearch;
+
+    @After
+    public void after() {
+        if (this.parallelSearch != null)
+            this.parallelSearch.close();
+    }
+
+    private SearchResult search(int threads, Limits limits) {
+        final long key = this.game.positionKey();
+        this.parallelSearch = new ParallelSearch(this.game, new TranspositionTable(1), threads);
+        SearchResult result = this.parallelSearch.search(limits);
+        assertEquals(key, this.game.positionKey());
+        assertFalse(this.game.isUnmakeable());
+        MoveBuffer moves = new MoveBuffer();
+        this.game.generateMoves(moves);
+        assertTrue(moves.contains(result.getMove()));
+        return result;
+    }
+
+    @Test
+    public void testGivenOneThreadWhenSearchThenSameAsSearch() {
+        this.game = new Game(0);
+        SearchResult result = this.search(1, Limits.depth(6));
+        SearchResult expected = new Search(this.game, new TranspositionTable(1)).search(Limits.depth(6));
+        assertEquals(expected.getMove(), result.getMove());
+        assertEquals(expected.getScore(), result.getScore());
+        assertEquals(expected.getNodes(), result.getNodes());
+    }
+
+    @Test
+    public void testGivenFourThreadsWhenSearchThenLegalMoveAtDepth() {
+        this.game = new GameBuilder().rows(
+            "        ",
+            "  n n   ",
+            "   n    ",
+            "  b     ",
+            "     b  ",
+            "b       ",
+            "        ",
+            "        ").build();
+        SearchResult result = this.search(4, Limits.depth(8));
+        assertEquals(8, result.getDepth());
+        assertTrue(result.getNodes() > 0);
+    }
+
+    @Test
+    public void testGivenTwoThreadsWhenSearchEveryMoveThenHelpersFollowGame() {
+        this.game = new Game(0);
+        this.parallelSearch = new ParallelSearch(this.game, new TranspositionTable(1), 2);
+        MoveBuffer moves = new MoveBuffer();
+        for (int i = 0; i < 20 && !this.game.isBlocked(); i++) {
+            final long key = this.game.positionKey();
+            SearchResult result = this.parallelSearch.search(Limits.depth(4));
+            assertEquals(key, this.game.positionKey());
+            this.game.generateMoves(moves);
+            assertTrue(moves.contains(result.getMove()));
+            this.game.makeMove(result.getMove());
+        }
+    }
+
+    @Test
+    public void testGivenFourThreadsWhenSearchWithTimeLimitThenHelpersStopped() {
+        this.game = new Game(0);
+        SearchResult result = this.search(4, Limits.millis(50));
+        assertTrue(result.getElapsedNanos() < 1000000000L);
+    }
+
+}
@@ -0,0 +1,107 @@
+package es.urjccode.mastercloudapps.adcs.draughts.engine;
+
+import static org.junit.Assert.assertEquals;
+
+import java.util.Map;
+import java.util.concurrent.ForkJoinPool;
+
+import org.junit.Test;
+
+import es.urjccode.mastercloudapps.adcs.draughts.models.Color;
+import es.urjccode.mastercloudapps.adcs.draughts.models.Game;
+import es.urjccode.mastercloudapps.adcs.draughts.models.GameBuilder;
+
+public class PerftTest {
+
+    private static final long[] INITIAL_COUNTS = { 1, 7, 49, 379, 3130, 28165, 256327 };
+
+    private Game getCaptureGame() {
+        return new GameBuilder().color(Color.BLACK).rows(
+            "        ",
+            "  n n   ",
+            "   n    ",
+            "  b b   ",
+            "     b  ",
+            "b   b   ",
+            "        ",
+            "        ").build();
+    }
+
+    @Test
+    public void testGivenInitialGameWhenPerftThenKnownCounts() {
+        Perft perft = new Perft(new Game(0));
+        for (int depth = 0; depth < PerftTest.INITIAL_COUNTS.length; depth++)
+            assertEquals(PerftTest.INITIAL_COUNTS[depth], perft.perft(depth));
+    }
+
+    @Test
+    public void testGivenGameWhenPerftThenGameUnchanged() {
+        Game game = this.getCaptureGame();
+        final long key = game.positionKey();
+        new Perft(game).perft(4);
+        assertEquals(key, game.positionKey());
+        assertEquals(Color.BLACK, game.getTurnColor());
+    }
+
+    @Test
+    public void testGivenGameWhenDivideThenSumIsPerft() {
+        Perft perft = new Perft(this.getCaptureGame());
+        long nodes = 0;
+        for (long count : perft.divide(4).values())
+            nodes += count;
+        assertEquals(perft.perft(4), nodes);
+    }
+
+    @Test
+    public void testGivenPoolWhenDivideThenSameAsSequential() {
+        ForkJoinPool pool = new ForkJoinPool(4);
+        try {
+            for (Game game : new Game[] { new Game(0), this.getCaptureGame() }) {
+                Perft perft = new Perft(game);
+                for (int depth = 1; depth <= 5; depth++) {
+                    final Map<Integer, Long> counts = perft.divide(depth);
+                    assertEquals(counts, perft.divide(depth, pool));
+                    assertEquals(perft.perft(depth), perft.perft(depth, pool));
+                }
+            }
+        } finally {
+            pool.shutdown();
+        }
+    }
+
+    @Test
+    public void testGivenHashWhenPerftThenSameAsUnhashed() {
+        ForkJoinPool pool = new ForkJoinPool(2);
+        try {
+            for (Game game : new Game[] { new Game(0), this.getCaptureGame() }) {
+                final long nodes = new Perft(game).perft(6);
+                assertEquals(nodes, new Perft(game, 1).perft(6));
+                assertEquals(nodes, new Perft(game, 1).perft(6, pool));
+            }
+        } finally {
+            pool.shutdown();
+        }
+    }
+
+    @Test
+    public void testGivenPositionWhenGetGameThenSameGame() {
+        Game game = Perft.getGame(".......b/..n.n.../...n..../..b.b.../.....b../b...b.../......../........:n");
+        Game expected = new GameBuilder().color(Color.BLACK).rows(
+            "       b",
+            "  n n   ",
+            "   n    ",
+            "  b b   ",
+            "     b  ",
+            "b   b   ",
+            "        ",
+            "        ").build();
+        assertEquals(expected, game);
+        assertEquals(expected.positionKey(), game.positionKey());
+    }
+
+    @Test(expected = IllegalArgumentException.class)
+    public void testGivenShortRowWhenGetGameThenError() {
+        Perft.getGame("......./......../......../......../......../......../......../........");
+    }
+
+}
@@ -0,0 +1,160 @@
+package es.urjccode.mastercloudapps.adcs.draughts.engine;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertTrue;
+
+import org.junit.Test;
+
+import es.urjccode.mastercloudapps.adcs.draughts.models.Game;
+import es.urjccode.mastercloudapps.adcs.draughts.models.GameBuilder;
+import es.urjccode.mastercloudapps.adcs.draughts.models.Move;
+import es.urjccode.mastercloudapps.adcs.draughts.models.MoveBuffer;
+
+public class SearchTest {
+
+    private Game game;
+
+    private SearchResult search(Limits limits) {
+        final long key = this.game.positionKey();
+        SearchResult result = new Search(this.game).search(limits);
+        assertEquals(key, this.game.positionKey());
+        assertFalse(this.game.isUnmakeable());
+        return result;
+    }
+
+    private void assertLegal(int move) {
+        MoveBuffer moves = new MoveBuffer();
+        this.game.generateMoves(moves);
+        assertTrue(moves.contains(move));
+    }
+
+    @Test
+    public void testGivenInitialGameWhenSearchThenLegalMove() {
+        this.game = new Game(0);
+        SearchResult result = this.search(Limits.depth(4));
+        this.assertLegal(result.getMove());
+        assertEquals(4, result.getDepth());
+        assertTrue(result.getNodes() > 0);
+    }
+
+    @Test
+    public void testGivenBlockedGameWhenSearchThenNoMove() {
+        this.game = new GameBuilder().rows(
+            " b      ",
+            "        ",
+            "        ",
+            "        ",
+            "        ",
+            "        ",
+            "        ",
+            "        ").build();
+        SearchResult result = this.search(Limits.depth(4));
+        assertEquals(Move.NONE, result.getMove());
+        assertTrue(Search.isLoss(result.getScore()));
+    }
+
+    @Test
+    public void testGivenLastOppositePieceWhenSearchThenCaptureAndWin() {
+        this.game = new GameBuilder().rows(
+            "        ",
+            "        ",
+            "        ",
+            "        ",
+            " n      ",
+            "b     b ",
+            "        ",
+            "        ").build();
+        SearchResult result = this.search(Limits.depth(6));
+        assertEquals("61.43", Move.toString(result.getMove()));
+        assertEquals(Search.WIN - 1, result.getScore());
+    }
+
+    @Test
+    public void testGivenNodesLimitWhenSearchThenLimitRespected() {
+        this.game = new Game(0);
+        SearchResult result = this.search(Limits.nodes(5000));
+        this.assertLegal(result.getMove());
+        assertTrue(result.getNodes() <= 5000);
+    }
+
+    @Test
+    public void testGivenTimeLimitWhenSearchThenLimitRespected() {
+        this.game = new Game(0);
+        SearchResult result = this.search(Limits.millis(50));
+        this.assertLegal(result.getMove());
+        assertTrue(result.getElapsedNanos() < 1000000000L);
+        assertTrue(result.getNodesPerSecond() > 0);
+    }
+
+    @Test
+    public void testGivenSelfPlayWhenSearchEveryMoveThenMovesAccepted() {
+        this.game = new Game(0);
+        Search search = new Search(this.game);
+        SearchResult result = search.search(Limits.depth(3));
+        while (result.getMove() != Move.NONE) {
+            assertNull(this.game.move(Move.getCoordinates(result.getMove())));
+            result = search.search(Limits.depth(3));
+        }
+        assertTrue(this.game.isBlocked());
+    }
+
+    @Test
+    public void testGivenSharedTableWhenSearchAgainThenHitsAndSameMove() {
+        this.game = new Game(0);
+        TranspositionTable table = new TranspositionTable(1);
+        SearchResult result = new Search(this.game, table).search(Limits.depth(6));
+        assertTrue(table.getStores() > 0);
+        table.resetCounters();
+        SearchResult repeated = new Search(this.game, table).search(Limits.depth(6));
+        assertTrue(table.getHitRate() > 0);
+        assertTrue(repeated.getNodes() < result.getNodes());
+        this.assertLegal(repeated.getMove());
+    }
+
+    @Test
+    public void testGivenRecaptureWhenSearchAtDepthOneThenQuiescenceSeesIt() {
+        this.game = new GameBuilder().rows(
+            "        ",
+            "n       ",
+            " n      ",
+            "        ",
+            " n      ",
+            "b       ",
+            "        ",
+            "      b ").build();
+        Search search = new Search(this.game, new TranspositionTable(1));
+        search.setQuiescence(false);
+        SearchResult horizon = search.search(Limits.depth(1));
+        assertEquals(0, horizon.getQuiescenceNodes());
+        search = new Search(this.game, new TranspositionTable(1));
+        SearchResult quiet = search.search(Limits.depth(1));
+        assertEquals("61.43", Move.toString(quiet.getMove()));
+        assertTrue(quiet.getQuiescenceNodes() > 0);
+        assertTrue(horizon.getScore() - quiet.getScore() >= Weights.getDefault().getPiece() / 2);
+    }
+
+    // After 87.78 black can capture on 54 or 52, and loses two pieces to the double recapture either way, or play
+    // quiet and lose one of its two jumpers; standing pat on the static evaluation would ignore both.
+    @Test
+    public void testGivenCaptureAvailableWhenQuiesceThenStandingPatCostsHuff() {
+        this.game = new GameBuilder().rows(
+            "        ",
+            "        ",
+            " n   n  ",
+            "  n n   ",
+            "   b    ",
+            "        ",
+            "   b    ",
+            "  b b b ").build();
+        Search search = new Search(this.game, new TranspositionTable(1));
+        search.setQuiescence(false);
+        SearchResult horizon = search.search(Limits.depth(1));
+        search = new Search(this.game, new TranspositionTable(1));
+        SearchResult quiet = search.search(Limits.depth(1));
+        assertEquals("87.78", Move.toString(quiet.getMove()));
+        assertTrue(quiet.getScore() - horizon.getScore() >= Weights.getDefault().getPiece() / 2);
+    }
+
+}
@@ -0,0 +1,66 @@
+package es.urjccode.mastercloudapps.adcs.draughts.engine;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
+
+import java.util.Random;
+
+import org.junit.Test;
+
+public class TablebaseIndexTest {
+
+    private long getRandomDarks(Random random, int count, long used) {
+        long darks = 0;
+        while (Long.bitCount(darks) < count) {
+            final long dark = 1L << random.nextInt(TablebaseIndex.SQUARES);
+            if ((used & dark) == 0)
+                darks |= dark;
+        }
+        return darks;
+    }
+
+    @Test
+    public void testGivenSignatureWhenGetSizeThenBinomials() {
+        assertEquals(32, new TablebaseIndex(1, 0).getSize());
+        assertEquals(32 * 31, new TablebaseIndex(1, 1).getSize());
+        assertEquals(4960 * 3654, new TablebaseIndex(3, 3).getSize());
+    }
+
+    @Test
+    public void testGivenCombinationsWhenRankThenConsecutive() {
+        long combination = 7;
+        for (long rank = 0; rank < TablebaseIndex.getBinomial(TablebaseIndex.SQUARES, 3); rank++) {
+            assertEquals(rank, TablebaseIndex.rank(combination));
+            assertEquals(combination, TablebaseIndex.unrank(rank, 3));
+            combination = TablebaseIndex.getNextCombination(combination);
+        }
+    }
+
+    @Test
+    public void testGivenRandomPositionsWhenGetIndexThenSamePosition() {
+        Random random = new Random(0);
+        for (int i = 0; i < 1000; i++) {
+            final int movers = 1 + random.nextInt(6);
+            final int opponents = random.nextInt(6);
+            final TablebaseIndex index = new TablebaseIndex(movers, opponents);
+            final long moverDarks = this.getRandomDarks(random, movers, 0);
+            final long moverSquares = TablebaseIndex.toSquares(moverDarks);
+            final long opponentSquares = TablebaseIndex.toSquares(this.getRandomDarks(random, opponents, moverDarks));
+            final long position = index.getIndex(moverSquares, opponentSquares);
+            assertTrue(0 <= position && position < index.getSize());
+            assertEquals(moverSquares, index.getMovers(position));
+            assertEquals(opponentSquares, index.getOpponents(position));
+        }
+    }
+
+    @Test
+    public void testGivenDarksWhenToSquaresThenBlackSquares() {
+        for (int dark = 0; dark < TablebaseIndex.SQUARES; dark++) {
+            final long square = TablebaseIndex.toSquares(1L << dark);
+            assertTrue(TablebaseIndex.isDark(Long.numberOfTrailingZeros(square)));
+            assertEquals(1L << dark, TablebaseIndex.toDarks(square));
+            assertEquals(Long.reverse(square), TablebaseIndex.toSquares(1L << TablebaseIndex.SQUARES - 1 - dark));
+        }
+    }
+
+}
@@ -0,0 +1,60 @@
+package es.urjccode.mastercloudapps.adcs.draughts.engine;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
+
+import java.util.HashMap;
+import java.util.Map;
+import java.util.Random;
+
+import org.junit.Test;
+
+public class TablebasePlacementsTest {
+
+    private static int getAdvance(long darks) {
+        int advance = 0;
+        for (; darks != 0; darks &= darks - 1)
+            advance += TablebaseIndex.getRow(Long.numberOfTrailingZeros(darks));
+        return advance;
+    }
+
+    // Every placement on the level by rank, found by going through all of them.
+    private static Map<Long, Long> getPlacements(long moverDarks, int count, int advance) {
+        Map<Long, Long> placements = new HashMap<Long, Long>();
+        final long size = TablebaseIndex.getBinomial(TablebaseIndex.SQUARES - Long.bitCount(moverDarks), count);
+        long combination = (1L << count) - 1;
+        for (long rank = 0; rank < size; rank++) {
+            final long darks = TablebaseIndex.expand(combination, moverDarks);
+            if (TablebasePlacementsTest.getAdvance(darks) == advance)
+                placements.put(rank, darks);
+            if (count > 0)
+                combination = TablebaseIndex.getNextCombination(combination);
+        }
+        return placements;
+    }
+
+    @Test
+    public void testGivenMoversWhenNextThenEveryPlacementOnTheLevelOnce() {
+        Random random = new Random(0);
+        TablebasePlacements placements = new TablebasePlacements();
+        for (int movers = 0; movers <= 3; movers++)
+            for (int count = 0; count <= 3; count++) {
+                long moverDarks = 0;
+                while (Long.bitCount(moverDarks) < movers)
+                    moverDarks |= 1L << random.nextInt(TablebaseIndex.SQUARES);
+                int total = 0;
+                for (int advance = -1; advance <= 7 * count + 1; advance++) {
+                    Map<Long, Long> expected = TablebasePlacementsTest.getPlacements(moverDarks, count, advance);
+                    Map<Long, Long> found = new HashMap<Long, Long>();
+                    placements.reset(moverDarks, count, advance);
+                    while (placements.next())
+                        assertEquals(null, found.put(placements.getRank(), placements.getDarks()));
+                    assertEquals(expected, found);
+                    total += found.size();
+                }
+                assertEquals(TablebaseIndex.getBinomial(TablebaseIndex.SQUARES - movers, count), total);
+                assertTrue(total > 0);
+            }
+    }
+
+}
@@ -0,0 +1,194 @@
+package es.urjccode.mastercloudapps.adcs.draughts.engine;
+
+import static org.junit.Assert.assertArrayEquals;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+
+import java.io.File;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.util.Random;
+
+import org.junit.BeforeClass;
+import org.junit.ClassRule;
+import org.junit.Test;
+import org.junit.rules.TemporaryFolder;
+
+import es.urjccode.mastercloudapps.adcs.draughts.models.Color;
+import es.urjccode.mastercloudapps.adcs.draughts.models.Game;
+import es.urjccode.mastercloudapps.adcs.draughts.models.GameBuilder;
+
+public class TablebaseTest {
+
+    private static final int PIECES = 3;
+    private static final int SMALL_PIECES = 2;
+    private static final int DEPTH = 7 * TablebaseTest.PIECES + 1;
+
+    @ClassRule
+    public static TemporaryFolder folder = new TemporaryFolder();
+
+    private static File directory;
+    private static Tablebase tablebase;
+
+    @BeforeClass
+    public static void generate() throws IOException {
+        TablebaseTest.directory = TablebaseTest.folder.newFolder();
+        TablebaseTest.tablebase =
+            new TablebaseGenerator(TablebaseTest.directory, TablebaseTest.PIECES, 2).generate();
+    }
+
+    private Game getRandomGame(Random random, int pieces) {
+        long whites = 0;
+        long blacks = 0;
+        while (Long.bitCount(whites | blacks) < pieces) {
+            final int square = random.nextInt(64);
+            if (TablebaseIndex.isDark(square) && ((whites | blacks) & 1L << square) == 0) {
+                if (random.nextBoolean())
+                    whites |= 1L << square;
+                else
+                    blacks |= 1L << square;
+            }
+        }
+        Game game = new Game(0);
+        game.setPosition(whites, blacks, random.nextBoolean() ? Color.WHITE : Color.BLACK);
+        return game;
+    }
+
+    // Tables of up to the given pieces, which the shared tables include, so smaller runs are checked against them.
+    private void assertSameFiles(File expected, File actual, int maxPieces) throws IOException {
+        for (int pieces = 1; pieces <= maxPieces; pieces++)
+            for (int movers = 1; movers <= pieces; movers++) {
+                assertTrue(Tablebase.getFile(actual, movers, pieces - movers).exists());
+                assertFalse(TablebaseGenerator.getPartFile(actual, movers, pieces - movers).exists());
+                assertFalse(TablebaseGenerator.getCheckpointFile(actual, movers, pieces - movers).exists());
+                assertArrayEquals(Files.readAllBytes(Tablebase.getFile(expected, movers, pieces - movers).toPath()),
+                    Files.readAllBytes(Tablebase.getFile(actual, movers, pieces - movers).toPath()));
+            }
+    }
+
+    @Test
+    public void testGivenBlockedGameWhenProbeThenLoss() {
+        Game game = new GameBuilder().rows(
+            " b      ",
+            "        ",
+            "        ",
+            "        ",
+            "        ",
+            "        ",
+            "   n    ",
+            "        ").build();
+        final int value = TablebaseTest.tablebase.probe(game);
+        assertTrue(Tablebase.isLoss(value));
+        assertEquals(0, Tablebase.getDistance(value));
+    }
+
+    @Test
+    public void testGivenRaceGameWhenProbeThenDistanceToEnd() {
+        Game game = new GameBuilder().rows(
+            "        ",
+            "        ",
+            "        ",
+            "b       ",
+            "        ",
+            "        ",
+            "       n",
+            "        ").build();
+        int value = TablebaseTest.tablebase.probe(game);
+        assertTrue(Tablebase.isWin(value));
+        assertEquals(3, Tablebase.getDistance(value));
+        game = new GameBuilder().color(Color.BLACK).rows(
+            "        ",
+            "        ",
+            " b      ",
+            "        ",
+            "        ",
+            "      n ",
+            "        ",
+            "        ").build();
+        value = TablebaseTest.tablebase.probe(game);
+        assertTrue(Tablebase.isLoss(value));
+        assertEquals(4, Tablebase.getDistance(value));
+    }
+
+    @Test
+    public void testGivenTooManyPiecesWhenProbeThenUnknown() {
+        assertEquals(Tablebase.UNKNOWN, TablebaseTest.tablebase.probe(new Game(0)));
+    }
+
+    @Test
+    public void testGivenRandomGamesWhenProbeThenSameResultAsSearch() {
+        Random random = new Random(0);
+        for (int i = 0; i < 200; i++) {
+            Game game = this.getRandomGame(random, 1 + random.nextInt(TablebaseTest.PIECES));
+            final int value = TablebaseTest.tablebase.probe(game);
+            assertTrue(value != Tablebase.UNKNOWN);
+            Search search = new Search(game, new TranspositionTable(1));
+            search.setQuiescence(false);
+            final SearchResult result = search.search(Limits.depth(TablebaseTest.DEPTH));
+            if (result.getDepth() == TablebaseTest.DEPTH || Search.isWin(result.getScore())
+                || Search.isLoss(result.getScore())) {
+                assertEquals(game.toString(), Tablebase.isWin(value), Search.isWin(result.getScore()));
+                assertEquals(game.toString(), Tablebase.isLoss(value), Search.isLoss(result.getScore()));
+            }
+        }
+    }
+
+    @Test
+    public void testGivenTablebaseWhenSearchThenExactWinScore() {
+        Game game = new GameBuilder().rows(
+            "        ",
+            "        ",
+            "        ",
+            "b       ",
+            "        ",
+            "        ",
+            "       n",
+            "        ").build();
+        Search search = new Search(game, new TranspositionTable(1));
+        search.setTablebase(TablebaseTest.tablebase);
+        final SearchResult result = search.search(Limits.depth(1));
+        assertEquals(Search.WIN - 3, result.getScore());
+    }
+
+    @Test
+    public void testGivenDirectoryWhenOpenThenSameProbes() throws IOException {
+        Tablebase tablebase = new Tablebase(TablebaseTest.directory, TablebaseTest.PIECES);
+        Random random = new Random(1);
+        for (int i = 0; i < 200; i++) {
+            Game game = this.getRandomGame(random, 1 + random.nextInt(TablebaseTest.PIECES));
+            assertEquals(TablebaseTest.tablebase.probe(game), tablebase.probe(game));
+        }
+    }
+
+    @Test
+    public void testGivenOneThreadWhenGenerateThenSameFiles() throws IOException {
+        File directory = TablebaseTest.folder.newFolder();
+        new TablebaseGenerator(directory, TablebaseTest.SMALL_PIECES, 1).generate();
+        this.assertSameFiles(TablebaseTest.directory, directory, TablebaseTest.SMALL_PIECES);
+    }
+
+    @Test
+    public void testGivenCheckpointWhenGenerateThenResumesBelowCheckpointLevel() throws IOException {
+        final int level = 7;
+        File directory = TablebaseTest.folder.newFolder();
+        new TablebaseGenerator(directory, TablebaseTest.SMALL_PIECES - 1, 1).generate();
+        final TablebaseIndex index = new TablebaseIndex(1, 1);
+        final File part = TablebaseGenerator.getPartFile(directory, 1, 1);
+        Files.copy(Tablebase.getFile(TablebaseTest.directory, 1, 1).toPath(), part.toPath());
+        TablebaseFile file = new TablebaseFile(part, index.getSize(), true);
+        for (long position = 0; position < index.getSize(); position++) {
+            final int advance = 7 - Long.numberOfTrailingZeros(index.getMovers(position)) / 8
+                + Long.numberOfTrailingZeros(index.getOpponents(position)) / 8;
+            if (advance < level)
+                file.put(position, Tablebase.UNSOLVED);
+        }
+        file.force();
+        Files.write(TablebaseGenerator.getCheckpointFile(directory, 1, 1).toPath(),
+            Integer.toString(level).getBytes(StandardCharsets.US_ASCII));
+        new TablebaseGenerator(directory, TablebaseTest.SMALL_PIECES, 1).generate();
+        this.assertSameFiles(TablebaseTest.directory, directory, TablebaseTest.SMALL_PIECES);
+    }
+
+}
@@ -0,0 +1,120 @@
+package es.urjccode.mastercloudapps.adcs.draughts.engine;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
+
+import java.util.SplittableRandom;
+import java.util.concurrent.atomic.AtomicLong;
+
+import org.junit.Test;
+
+import es.urjccode.mastercloudapps.adcs.draughts.models.Coordinate;
+import es.urjccode.mastercloudapps.adcs.draughts.models.Move;
+
+public class TranspositionTableTest {
+
+    private static final int MOVE = Move.getInstance(new Coordinate(5, 0), new Coordinate(3, 2), new Coordinate(1, 4),
+        new Coordinate(3, 6));
+
+    private TranspositionTable table;
+
+    // Keys sharing their low bits fall into the same bucket of a one megabyte table.
+    private long getCollidingKey(int i) {
+        return ((long) (i + 1) << 40) ^ ((long) (i + 1) << 8);
+    }
+
+    @Test
+    public void testGivenTableWhenStoreAndProbeThenSameEntry() {
+        this.table = new TranspositionTable(1);
+        this.table.store(42, TranspositionTableTest.MOVE, -Search.WIN, Limits.MAX_DEPTH, Bound.UPPER);
+        final long data = this.table.probe(42);
+        assertEquals(TranspositionTableTest.MOVE, TranspositionTable.getMove(data));
+        assertEquals(-Search.WIN, TranspositionTable.getScore(data));
+        assertEquals(Limits.MAX_DEPTH, TranspositionTable.getDepth(data));
+        assertEquals(Bound.UPPER, TranspositionTable.getBound(data));
+        this.table.store(42, Move.NONE, Search.WIN, 0, Bound.EXACT);
+        final long replaced = this.table.probe(42);
+        assertEquals(Move.NONE, TranspositionTable.getMove(replaced));
+        assertEquals(Search.WIN, TranspositionTable.getScore(replaced));
+        assertEquals(0, TranspositionTable.getDepth(replaced));
+        assertEquals(Bound.EXACT, TranspositionTable.getBound(replaced));
+    }
+
+    @Test
+    public void testGivenTableWhenProbeOtherKeyThenMissCounted() {
+        this.table = new TranspositionTable(1);
+        this.table.store(42, TranspositionTableTest.MOVE, 7, 3, Bound.LOWER);
+        assertEquals(TranspositionTable.MISS, this.table.probe(43));
+        assertEquals(0, this.table.getHits());
+        assertTrue(this.table.probe(42) != TranspositionTable.MISS);
+        assertEquals(2, this.table.getProbes());
+        assertEquals(1, this.table.getHits());
+        assertEquals(0.5, this.table.getHitRate(), 0);
+    }
+
+    @Test
+    public void testGivenDepthPolicyWhenStoreShallowerInFullBucketThenDeeperKept() {
+        this.table = new TranspositionTable(1, ReplacementPolicy.DEPTH);
+        for (int i = 0; i < 4; i++)
+            this.table.store(this.getCollidingKey(i), Move.NONE, 0, 10, Bound.EXACT);
+        this.table.store(this.getCollidingKey(4), Move.NONE, 0, 5, Bound.EXACT);
+        assertEquals(TranspositionTable.MISS, this.table.probe(this.getCollidingKey(4)));
+        for (int i = 0; i < 4; i++)
+            assertTrue(this.table.probe(this.getCollidingKey(i)) != TranspositionTable.MISS);
+        this.table.newSearch();
+        this.table.store(this.getCollidingKey(4), Move.NONE, 0, 5, Bound.EXACT);
+        assertTrue(this.table.probe(this.getCollidingKey(4)) != TranspositionTable.MISS);
+    }
+
+    @Test
+    public void testGivenAlwaysPolicyWhenStoreInFullBucketThenNewKept() {
+        this.table = new TranspositionTable(1, ReplacementPolicy.ALWAYS);
+        for (int i = 0; i < 4; i++)
+            this.table.store(this.getCollidingKey(i), Move.NONE, 0, 10, Bound.EXACT);
+        this.table.store(this.getCollidingKey(4), Move.NONE, 0, 5, Bound.EXACT);
+        assertTrue(this.table.probe(this.getCollidingKey(4)) != TranspositionTable.MISS);
+    }
+
+    @Test
+    public void testGivenAgeAndDepthPolicyWhenStoreInFullBucketThenShallowestReplaced() {
+        this.table = new TranspositionTable(1);
+        for (int i = 0; i < 4; i++)
+            this.table.store(this.getCollidingKey(i), Move.NONE, 0, 10 + i, Bound.EXACT);
+        this.table.store(this.getCollidingKey(4), Move.NONE, 0, 1, Bound.EXACT);
+        assertEquals(TranspositionTable.MISS, this.table.probe(this.getCollidingKey(0)));
+        assertTrue(this.table.probe(this.getCollidingKey(4)) != TranspositionTable.MISS);
+    }
+
+    @Test
+    public void testGivenManyThreadsWhenStoreAndProbeThenNoCorruptEntries() throws InterruptedException {
+        this.table = new TranspositionTable(1);
+        final AtomicLong corrupted = new AtomicLong();
+        Thread[] threads = new Thread[4];
+        for (int t = 0; t < threads.length; t++) {
+            final SplittableRandom random = new SplittableRandom(t);
+            threads[t] = new Thread(new Runnable() {
+                @Override
+                public void run() {
+                    for (int i = 0; i < 200000; i++) {
+                        final long key = random.nextLong(1 << 16);
+                        final int score = (int) (key % Search.WIN);
+                        if (random.nextBoolean())
+                            TranspositionTableTest.this.table.store(key, Move.NONE, score, (int) (key % 32), Bound.EXACT);
+                        else {
+                            final long data = TranspositionTableTest.this.table.probe(key);
+                            if (data != TranspositionTable.MISS && (TranspositionTable.getScore(data) != score
+                                || TranspositionTable.getDepth(data) != key % 32))
+                                corrupted.incrementAndGet();
+                        }
+                    }
+                }
+            });
+            threads[t].start();
+        }
+        for (Thread thread : threads)
+            thread.join();
+        assertEquals(0, corrupted.get());
+        assertTrue(this.table.getHits() > 0);
+    }
+
+}
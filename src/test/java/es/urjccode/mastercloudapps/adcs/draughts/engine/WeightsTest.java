@@ -0,0 +1,47 @@
+package es.urjccode.mastercloudapps.adcs.draughts.engine;
+
+import static org.junit.Assert.assertEquals;
+
+import java.io.ByteArrayInputStream;
+import java.io.File;
+import java.io.FileWriter;
+import java.io.IOException;
+
+import org.junit.Test;
+
+public class WeightsTest {
+
+    @Test
+    public void testGivenDefaultWhenGetThenBundledWeights() {
+        Weights weights = Weights.getDefault();
+        assertEquals(100, weights.getPiece());
+        assertEquals(4, weights.getAdvance());
+        assertEquals(10, weights.getBackRank());
+        assertEquals(6, weights.getCentre());
+    }
+
+    @Test
+    public void testGivenFileWhenLoadThenFileWeights() throws IOException {
+        File file = File.createTempFile("weights", ".properties");
+        file.deleteOnExit();
+        FileWriter writer = new FileWriter(file);
+        writer.write("piece=300\nadvance = 7\nbackRank=0\ncentre=-2\n");
+        writer.close();
+        Weights weights = Weights.load(file.getPath());
+        assertEquals(300, weights.getPiece());
+        assertEquals(7, weights.getAdvance());
+        assertEquals(0, weights.getBackRank());
+        assertEquals(-2, weights.getCentre());
+    }
+
+    @Test(expected = IllegalArgumentException.class)
+    public void testGivenMissingWeightWhenLoadThenError() throws IOException {
+        Weights.load(new ByteArrayInputStream("piece=100\nadvance=4\ncentre=6\n".getBytes("ISO-8859-1")));
+    }
+
+    @Test(expected = IllegalArgumentException.class)
+    public void testGivenBadWeightWhenLoadThenError() throws IOException {
+        Weights.load(new ByteArrayInputStream("piece=x\nadvance=4\nbackRank=10\ncentre=6\n".getBytes("ISO-8859-1")));
+    }
+
+}
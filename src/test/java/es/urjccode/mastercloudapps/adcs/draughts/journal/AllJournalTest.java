@@ -0,0 +1,10 @@
+package es.urjccode.mastercloudapps.adcs.draughts.journal;
+
+import org.junit.runner.RunWith;
+import org.junit.runners.Suite;
+
+@RunWith(Suite.class)
+@Suite.SuiteClasses({ 
+    JournalTest.class } )
+public final class AllJournalTest {
+}
@@ -0,0 +1,272 @@
+package es.urjccode.mastercloudapps.adcs.draughts.journal;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertNotNull;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertTrue;
+
+import java.io.File;
+import java.io.IOException;
+import java.io.RandomAccessFile;
+import java.util.Map;
+import java.util.SplittableRandom;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.junit.Before;
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.TemporaryFolder;
+
+import es.urjccode.mastercloudapps.adcs.draughts.models.Coordinate;
+import es.urjccode.mastercloudapps.adcs.draughts.models.Game;
+import es.urjccode.mastercloudapps.adcs.draughts.models.Move;
+import es.urjccode.mastercloudapps.adcs.draughts.models.MoveBuffer;
+
+public class JournalTest {
+
+    @Rule
+    public TemporaryFolder folder = new TemporaryFolder();
+
+    private File directory;
+
+    @Before
+    public void before() throws IOException {
+        this.directory = this.folder.newFolder();
+    }
+
+    // Plays like a player would, starting a new game whenever one ends; returns the number of records written.
+    private int play(Game game, SplittableRandom random, int moves) {
+        MoveBuffer buffer = new MoveBuffer();
+        int records = 0;
+        for (int i = 0; i < moves; i++) {
+            game.generateMoves(buffer);
+            assertNull(game.move(Move.getCoordinates(buffer.get(random.nextInt(buffer.size())))));
+            records++;
+            if (game.isBlocked()) {
+                game.reset();
+                records++;
+            }
+        }
+        return records;
+    }
+
+    @Test
+    public void testGivenPlayedGamesWhenRecoverThenSameGames() throws IOException {
+        Journal journal = new Journal(this.directory);
+        Game[] games = new Game[3];
+        for (int i = 0; i < games.length; i++) {
+            games[i] = new Game(i);
+            assertEquals(i, journal.attach(games[i]));
+        }
+        SplittableRandom random = new SplittableRandom(0);
+        int records = 0;
+        for (int i = 0; i < 20; i++)
+            for (Game game : games)
+                records += this.play(game, random, 1);
+        journal.close();
+        journal = new Journal(this.directory);
+        assertEquals(games.length + records, journal.getSequence());
+        Map<Integer, Game> recovered = journal.recover();
+        assertEquals(games.length, recovered.size());
+        for (int i = 0; i < games.length; i++) {
+            assertEquals(games[i], recovered.get(i));
+            assertEquals(games[i].getPosition().getTurnColor(), recovered.get(i).getPosition().getTurnColor());
+        }
+        assertEquals(games.length, journal.attach(new Game()));
+    }
+
+    // Goes on jumping from every step that gets a piece huffed; returns the number of moves tried, none of which may
+    // change the game or be journaled.
+    private int tryJumpsAfterHuffingSteps(Game game, Journal journal) {
+        if (!game.isCaptureAvailable())
+            return 0;
+        MoveBuffer buffer = new MoveBuffer();
+        game.generateMoves(buffer);
+        int tried = 0;
+        for (int i = 0; i < buffer.size(); i++) {
+            if (Move.isCapture(buffer.get(i)))
+                continue;
+            final Coordinate[] step = Move.getCoordinates(buffer.get(i));
+            final Game copy = game.copy();
+            final long sequence = journal.getSequence();
+            for (int row = 0; row < Coordinate.getDimension(); row++)
+                for (int column = 0; column < Coordinate.getDimension(); column++) {
+                    assertNotNull(game.move(step[0], step[1], new Coordinate(row, column)));
+                    tried++;
+                }
+            assertEquals(copy, game);
+            assertEquals(sequence, journal.getSequence());
+        }
+        return tried;
+    }
+
+    @Test
+    public void testGivenJumpsAfterHuffingStepsWhenRecoverThenSameGame() throws IOException {
+        Journal journal = new Journal(this.directory);
+        Game game = new Game(0);
+        final int id = journal.attach(game);
+        SplittableRandom random = new SplittableRandom(0);
+        int tried = 0;
+        for (int i = 0; i < 40; i++) {
+            tried += this.tryJumpsAfterHuffingSteps(game, journal);
+            this.play(game, random, 1);
+        }
+        assertTrue(tried > 0);
+        journal.close();
+        assertEquals(game, new Journal(this.directory).recover().get(id));
+    }
+
+    @Test
+    public void testGivenAsynchronousGameWhenMoveThenDurableOnlyAfterSync() throws IOException {
+        Journal journal = new Journal(this.directory);
+        Game game = new Game(0);
+        final int id = journal.attach(game, false);
+        this.play(game, new SplittableRandom(0), 3);
+        final long sequence = journal.getSequence();
+        assertEquals(4, sequence);
+        assertFalse(journal.isDurable(sequence));
+        journal.sync(sequence);
+        assertTrue(journal.isDurable(sequence));
+        assertEquals(game, new Journal(this.directory).recover(false).get(id));
+    }
+
+    @Test
+    public void testGivenCanceledGameWhenRecoverThenNotRecovered() throws IOException {
+        Journal journal = new Journal(this.directory);
+        Game canceled = new Game(0);
+        Game restarted = new Game(1);
+        final int canceledId = journal.attach(canceled);
+        final int restartedId = journal.attach(restarted);
+        this.play(canceled, new SplittableRandom(0), 3);
+        this.play(restarted, new SplittableRandom(1), 3);
+        canceled.cancel();
+        restarted.cancel();
+        restarted.reset();
+        journal.close();
+        Map<Integer, Game> recovered = new Journal(this.directory).recover();
+        assertFalse(recovered.containsKey(canceledId));
+        assertEquals(new Game(), recovered.get(restartedId));
+    }
+
+    @Test
+    public void testGivenRecoveredGameWhenMoveThenJournaled() throws IOException {
+        Journal journal = new Journal(this.directory);
+        Game game = new Game(0);
+        final int id = journal.attach(game);
+        this.play(game, new SplittableRandom(0), 4);
+        journal.close();
+        journal = new Journal(this.directory);
+        Game recovered = journal.recover().get(id);
+        this.play(recovered, new SplittableRandom(1), 4);
+        journal.close();
+        assertEquals(recovered, new Journal(this.directory).recover().get(id));
+    }
+
+    @Test
+    public void testGivenTornRecordWhenOpenThenLaterRecordsDropped() throws IOException {
+        Journal journal = new Journal(this.directory);
+        Game game = new Game(0);
+        final int id = journal.attach(game);
+        this.play(game, new SplittableRandom(0), 5);
+        journal.close();
+        RandomAccessFile file = new RandomAccessFile(Journal.getSegmentFile(this.directory, 0), "rw");
+        try {
+            final long offset = 3 * JournalSegment.RECORD_BYTES - 1;
+            file.seek(offset);
+            final int check = file.read();
+            file.seek(offset);
+            file.write(check ^ 1);
+        } finally {
+            file.close();
+        }
+        journal = new Journal(this.directory);
+        assertEquals(2, journal.getSequence());
+        Game recovered = journal.recover().get(id);
+        this.play(recovered, new SplittableRandom(1), 1);
+        journal.close();
+        journal = new Journal(this.directory);
+        assertEquals(3, journal.getSequence());
+        assertEquals(recovered, journal.recover().get(id));
+    }
+
+    @Test
+    public void testGivenFullSegmentsWhenAppendThenNextSegments() throws IOException {
+        Journal journal = new Journal(this.directory, 4);
+        Game game = new Game(0);
+        final int id = journal.attach(game);
+        final int records = 1 + this.play(game, new SplittableRandom(0), 10);
+        journal.close();
+        assertTrue(Journal.getSegmentFile(this.directory, 0).exists());
+        assertTrue(Journal.getSegmentFile(this.directory, (records - 1) / 4).exists());
+        assertFalse(Journal.getSegmentFile(this.directory, (records - 1) / 4 + 1).exists());
+        journal = new Journal(this.directory, 4);
+        assertEquals(records, journal.getSequence());
+        assertEquals(game, journal.recover().get(id));
+    }
+
+    @Test
+    public void testGivenDetachedGamesWhenRollThenTheirSegmentsRetired() throws IOException {
+        Journal journal = new Journal(this.directory, 4);
+        Game detached = new Game(0);
+        final int detachedId = journal.attach(detached);
+        this.play(detached, new SplittableRandom(0), 10);
+        journal.detach(detachedId);
+        Game game = new Game(1);
+        final int id = journal.attach(game);
+        this.play(game, new SplittableRandom(1), 10);
+        journal.close();
+        assertFalse(Journal.getSegmentFile(this.directory, 0).exists());
+        assertFalse(Journal.getSegmentFile(this.directory, 1).exists());
+        journal = new Journal(this.directory, 4);
+        Map<Integer, Game> recovered = journal.recover();
+        assertEquals(1, recovered.size());
+        assertEquals(game, recovered.get(id));
+        this.play(recovered.get(id), new SplittableRandom(2), 10);
+        journal.detach(id);
+        final int nextId = journal.attach(new Game());
+        journal.close();
+        recovered = new Journal(this.directory, 4).recover();
+        assertEquals(1, recovered.size());
+        assertEquals(new Game(), recovered.get(nextId));
+    }
+
+    @Test
+    public void testGivenTokenWhenRecoverThenSameToken() throws IOException {
+        Journal journal = new Journal(this.directory);
+        final int id = journal.attach(new Game(0), 0x9e3779b9, true);
+        journal.close();
+        journal = new Journal(this.directory);
+        assertTrue(journal.recover().containsKey(id));
+        assertEquals(0x9e3779b9, journal.getToken(id));
+    }
+
+    @Test
+    public void testGivenConcurrentPlayersWhenSyncThenAllJournaled() throws Exception {
+        final Journal journal = new Journal(this.directory, 64);
+        final Game[] games = new Game[8];
+        final AtomicInteger records = new AtomicInteger();
+        Thread[] threads = new Thread[games.length];
+        for (int i = 0; i < games.length; i++) {
+            games[i] = new Game(i);
+            journal.attach(games[i]);
+            final Game game = games[i];
+            final SplittableRandom random = new SplittableRandom(i);
+            threads[i] = new Thread(new Runnable() {
+                @Override
+                public void run() {
+                    records.addAndGet(JournalTest.this.play(game, random, 50));
+                }
+            });
+        }
+        for (Thread thread : threads)
+            thread.start();
+        for (Thread thread : threads)
+            thread.join();
+        assertEquals(games.length + records.get(), journal.getSequence());
+        Map<Integer, Game> recovered = new Journal(this.directory, 64).recover();
+        for (int i = 0; i < games.length; i++)
+            assertEquals(games[i], recovered.get(i));
+    }
+
+}
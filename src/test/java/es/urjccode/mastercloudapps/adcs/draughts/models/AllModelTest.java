@@ -7,11 +7,22 @@ import org.junit.runners.Suite;
 @Suite.SuiteClasses({
     DirectionTest.class,
     CoordinateTest.class,
+    GeometryTest.class,
     PieceTest.class,
     GameBuilderTest.class,
     InitialGameTest.class,
     IncorrectMovesPawnGameTest.class,
     CorrectMovesPawnGameTest.class,
-    IsBlockedGameTest.class } )
+    IsBlockedGameTest.class,
+    GenerateMovesGameTest.class,
+    MakeUnmakeMoveGameTest.class,
+    ZobristTest.class,
+    AllocationFreeMoveGameTest.class,
+    HuffingGameTest.class,
+    IsCaptureAvailableGameTest.class,
+    CopyGameTest.class,
+    SetPositionGameTest.class,
+    PositionGameTest.class,
+    PositionCodecGameTest.class } )
 public final class AllModelTest {
 }
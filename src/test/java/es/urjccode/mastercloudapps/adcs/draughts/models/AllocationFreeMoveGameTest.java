@@ -0,0 +1,89 @@
+package es.urjccode.mastercloudapps.adcs.draughts.models;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assume.assumeTrue;
+
+import java.lang.management.ManagementFactory;
+
+import org.junit.Before;
+import org.junit.Test;
+
+public class AllocationFreeMoveGameTest extends GameTest {
+
+    private static final int WARMUP_MOVES = 50000;
+    private static final int MEASURED_MOVES = 200000;
+    private static final String MESSAGE = "Bytes allocated by the moves";
+
+    private com.sun.management.ThreadMXBean threadMXBean;
+
+    @Before
+    public void before() {
+        assumeTrue(ManagementFactory.getThreadMXBean() instanceof com.sun.management.ThreadMXBean);
+        this.threadMXBean = (com.sun.management.ThreadMXBean) ManagementFactory.getThreadMXBean();
+        assumeTrue(this.threadMXBean.isThreadAllocatedMemorySupported());
+        this.threadMXBean.setThreadAllocatedMemoryEnabled(true);
+    }
+
+    private long getAllocatedBytes() {
+        return this.threadMXBean.getThreadAllocatedBytes(Thread.currentThread().getId());
+    }
+
+    // Returns the bytes allocated by all the measured moves, so a single allocation among them fails the test.
+    private long getAllocatedBytesByMoves(boolean undo, Coordinate... coordinates) {
+        for (int i = 0; i < AllocationFreeMoveGameTest.WARMUP_MOVES; i++)
+            this.move(undo, coordinates);
+        final long before = this.getAllocatedBytes();
+        for (int i = 0; i < AllocationFreeMoveGameTest.MEASURED_MOVES; i++)
+            this.move(undo, coordinates);
+        final long after = this.getAllocatedBytes();
+        return after - before;
+    }
+
+    private void move(boolean undo, Coordinate... coordinates) {
+        this.game.move(coordinates);
+        if (undo)
+            this.game.unmakeMove();
+    }
+
+    @Test
+    public void testGivenGameWhenMoveSimpleThenZeroBytesAllocated() {
+        this.game = new Game();
+        assertEquals(AllocationFreeMoveGameTest.MESSAGE, 0, this.getAllocatedBytesByMoves(true, new Coordinate(5, 0), new Coordinate(4, 1)));
+    }
+
+    @Test
+    public void testGivenGameWhenMoveRejectedThenZeroBytesAllocated() {
+        this.game = new Game();
+        assertEquals(AllocationFreeMoveGameTest.MESSAGE, 0, this.getAllocatedBytesByMoves(false, new Coordinate(5, 0), new Coordinate(3, 2)));
+    }
+
+    @Test
+    public void testGivenGameWhenMoveEatingTwiceThenZeroBytesAllocated() {
+        this.setGame(Color.WHITE,
+            "        ",
+            "        ",
+            "   n    ",
+            "        ",
+            " n      ",
+            "b       ",
+            "        ",
+            "        ");
+        assertEquals(AllocationFreeMoveGameTest.MESSAGE, 0, this.getAllocatedBytesByMoves(true,
+            new Coordinate(5, 0), new Coordinate(3, 2), new Coordinate(1, 4)));
+    }
+
+    @Test
+    public void testGivenGameWhenMoveWithHuffingThenZeroBytesAllocated() {
+        this.setGame(Color.WHITE,
+            "        ",
+            "        ",
+            "        ",
+            "  n n   ",
+            " b   b  ",
+            "      b ",
+            "        ",
+            "        ");
+        assertEquals(AllocationFreeMoveGameTest.MESSAGE, 0, this.getAllocatedBytesByMoves(true, new Coordinate(5, 6), new Coordinate(4, 7)));
+    }
+
+}
@@ -0,0 +1,40 @@
+package es.urjccode.mastercloudapps.adcs.draughts.models;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertNull;
+
+import org.junit.Test;
+
+public class CopyGameTest extends GameTest {
+
+    @Test
+    public void testGivenGameWhenCopyThenEqualGame() {
+        this.setGame(Color.BLACK,
+            "        ",
+            "  n n   ",
+            "   n    ",
+            "  b     ",
+            "     b  ",
+            "b       ",
+            "        ",
+            "        ");
+        Game copy = this.game.copy();
+        assertEquals(this.game, copy);
+        assertEquals(this.game.positionKey(), copy.positionKey());
+        assertEquals(this.game.isCaptureAvailable(), copy.isCaptureAvailable());
+        assertFalse(copy.isUnmakeable());
+    }
+
+    @Test
+    public void testGivenGameWhenMoveCopyThenOriginalUnchanged() {
+        this.game = new Game(0);
+        Game copy = this.game.copy();
+        assertNull(copy.move(new Coordinate(5, 0), new Coordinate(4, 1)));
+        assertEquals(Color.WHITE, this.game.getColor(new Coordinate(5, 0)));
+        assertNull(this.game.getColor(new Coordinate(4, 1)));
+        assertEquals(Color.WHITE, this.game.getTurnColor());
+        assertEquals(new Game(0), this.game);
+    }
+
+}
@@ -2,16 +2,24 @@ package es.urjccode.mastercloudapps.adcs.draughts.models;
 
 import java.util.ArrayList;
 import java.util.List;
+import java.util.SplittableRandom;
 import java.util.regex.Pattern;
 
 public class GameBuilder {
 
     private Color color;
     private List<String> strings;
+    private SplittableRandom random;
 
     public GameBuilder() {
         this.color = null;
         this.strings = new ArrayList<String>();
+        this.random = new SplittableRandom();
+    }
+
+    public GameBuilder seed(long seed) {
+        this.random = new SplittableRandom(seed);
+        return this;
     }
 
     public GameBuilder color(Color color){
@@ -29,14 +37,15 @@ public class GameBuilder {
 
     public Game build() {
         if (this.strings.size() == 0)
-            return new Game();
+            return new Game(this.random);
         Board board = new Board();
-        Game game = new Game(board);
+        Game game = new Game(board, this.random);
         assert this.strings.size() == Coordinate.getDimension();
         this.setColor(game, board);
         for (int i = 0; i < this.strings.size(); i++) {
             this.setRow(board, i, this.strings.get(i));
         }
+        game.publish();
         return game;
     }
 
@@ -0,0 +1,158 @@
+package es.urjccode.mastercloudapps.adcs.draughts.models;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertTrue;
+
+import java.util.Arrays;
+import java.util.HashSet;
+import java.util.Set;
+
+import org.junit.Test;
+
+public class GenerateMovesGameTest extends GameTest {
+
+    private MoveBuffer moves = new MoveBuffer();
+
+    private void assertMoves(String... expected) {
+        this.game.generateMoves(this.moves);
+        Set<String> generated = new HashSet<String>();
+        for (int i = 0; i < this.moves.size(); i++)
+            generated.add(Move.toString(this.moves.get(i)));
+        assertEquals(new HashSet<String>(Arrays.asList(expected)), generated);
+    }
+
+    @Test
+    public void testGivenInitialGameWhenGenerateMovesThenSevenSteps() {
+        this.game = new Game();
+        this.assertMoves("61.52", "63.52", "63.54", "65.54", "65.56", "67.56", "67.58");
+    }
+
+    @Test
+    public void testGivenGameWhenGenerateMovesThenCaptureChainAndPrefix() {
+        this.setGame(Color.WHITE,
+            "        ",
+            "        ",
+            "   n    ",
+            "        ",
+            " n      ",
+            "b       ",
+            "        ",
+            "        ");
+        this.assertMoves("61.43", "61.43.25");
+    }
+
+    @Test
+    public void testGivenGameWhenGenerateMovesThenBlackStepsAndCaptures() {
+        this.setGame(Color.BLACK,
+            "        ",
+            "        ",
+            " n      ",
+            "  b     ",
+            "        ",
+            "    b   ",
+            "        ",
+            "        ");
+        this.assertMoves("32.41", "32.54", "32.54.76");
+    }
+
+    @Test
+    public void testGivenBlockedGameWhenGenerateMovesThenEmpty() {
+        this.setGame(Color.WHITE,
+            "        ",
+            "        ",
+            "        ",
+            "        ",
+            "        ",
+            "n n n   ",
+            " n n    ",
+            "b b     ");
+        this.assertMoves();
+        assertTrue(this.game.isBlocked());
+    }
+
+    @Test
+    public void testGivenGameWhenGenerateMovesThenEveryMoveIsAccepted() {
+        String[] rows = {
+            "        ",
+            "  n n   ",
+            "   n    ",
+            "  b     ",
+            "     b  ",
+            "b       ",
+            "        ",
+            "        " };
+        this.setGame(Color.BLACK, rows);
+        this.game.generateMoves(this.moves);
+        for (int i = 0; i < this.moves.size(); i++) {
+            this.setGame(Color.BLACK, rows);
+            assertNull(this.game.move(Move.getCoordinates(this.moves.get(i))));
+        }
+    }
+
+    // Tries every path of steps and jumps, in any direction, from every piece of the player to move.
+    private void addAcceptedMoves(Color color, String[] rows, Coordinate[] path, int length, Set<String> accepted) {
+        if (length > 1) {
+            this.setGame(color, rows);
+            final Coordinate[] coordinates = Arrays.copyOf(path, length);
+            if (this.game.move(coordinates) == null)
+                accepted.add(Move.toString(Move.getInstance(coordinates)));
+        }
+        if (length == Move.MAX_LENGTH)
+            return;
+        final Coordinate last = path[length - 1];
+        for (int distance = 1; distance <= 2; distance++)
+            for (int rowShift = -distance; rowShift <= distance; rowShift += 2 * distance)
+                for (int columnShift = -distance; columnShift <= distance; columnShift += 2 * distance) {
+                    final int row = last.getRow() + rowShift;
+                    final int column = last.getColumn() + columnShift;
+                    if (0 <= row && row < Coordinate.getDimension() && 0 <= column
+                        && column < Coordinate.getDimension()) {
+                        path[length] = new Coordinate(row, column);
+                        this.addAcceptedMoves(color, rows, path, length + 1, accepted);
+                    }
+                }
+    }
+
+    private void assertGeneratedMovesAreAcceptedMoves(Color color, String... rows) {
+        Set<String> accepted = new HashSet<String>();
+        Coordinate[] path = new Coordinate[Move.MAX_LENGTH];
+        for (int i = 0; i < Coordinate.getDimension(); i++)
+            for (int j = 0; j < Coordinate.getDimension(); j++) {
+                this.setGame(color, rows);
+                if (this.game.getColor(new Coordinate(i, j)) == color) {
+                    path[0] = new Coordinate(i, j);
+                    this.addAcceptedMoves(color, rows, path, 1, accepted);
+                }
+            }
+        this.setGame(color, rows);
+        this.assertMoves(accepted.toArray(new String[accepted.size()]));
+    }
+
+    @Test
+    public void testGivenGameWithHuffingStepWhenGenerateMovesThenAcceptedMoves() {
+        this.assertGeneratedMovesAreAcceptedMoves(Color.WHITE,
+            "        ",
+            "        ",
+            "        ",
+            "  n   n ",
+            " b      ",
+            "      b ",
+            "        ",
+            "        ");
+    }
+
+    @Test
+    public void testGivenGameWithChainsWhenGenerateMovesThenAcceptedMoves() {
+        this.assertGeneratedMovesAreAcceptedMoves(Color.BLACK,
+            "        ",
+            "  n n   ",
+            "   n    ",
+            "  b b   ",
+            "     b  ",
+            "b   b   ",
+            "        ",
+            "        ");
+    }
+
+}
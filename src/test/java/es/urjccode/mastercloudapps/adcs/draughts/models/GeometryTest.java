@@ -0,0 +1,54 @@
+package es.urjccode.mastercloudapps.adcs.draughts.models;
+
+import static org.junit.Assert.assertArrayEquals;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertSame;
+
+import org.junit.Test;
+
+public class GeometryTest {
+
+    private static int square(int row, int column) {
+        return Geometry.getSquare(row, column);
+    }
+
+    @Test
+    public void testGivenCoordinatesWhenGetInstanceThenSameFlyweight() {
+        assertSame(Coordinate.getInstance(3, 4), Coordinate.getInstance(3, 4));
+        assertSame(Coordinate.getInstance(3, 4), Coordinate.getInstance("45"));
+        assertEquals(new Coordinate(3, 4), Coordinate.getInstance(3, 4));
+    }
+
+    @Test
+    public void testGivenSquareWhenGetNeighbourThenOk() {
+        assertEquals(square(4, 4), Geometry.getNeighbour(square(3, 3), Direction.NE));
+        assertEquals(square(2, 4), Geometry.getNeighbour(square(3, 3), Direction.SE));
+        assertEquals(Geometry.NONE, Geometry.getNeighbour(square(0, 1), Direction.SE));
+        assertEquals(Geometry.NONE, Geometry.getNeighbour(square(7, 0), Direction.NW));
+    }
+
+    @Test
+    public void testGivenSquareWhenGetJumpThenLandingAndJumped() {
+        assertEquals(square(5, 5), Geometry.getJump(square(3, 3), Direction.NE));
+        assertEquals(square(4, 4), Geometry.getJumped(square(3, 3), Direction.NE));
+        assertEquals(Geometry.NONE, Geometry.getJump(square(6, 1), Direction.NW));
+    }
+
+    @Test
+    public void testGivenSquareWhenGetRayThenUntilEdge() {
+        assertArrayEquals(new int[] { square(6, 4), square(5, 5), square(4, 6), square(3, 7) },
+            Geometry.getRay(Direction.SE, square(7, 3)));
+        assertArrayEquals(new int[0], Geometry.getRay(Direction.NE, square(7, 3)));
+    }
+
+    @Test
+    public void testGivenSquaresWhenGetDirectionAndBetweenMaskThenOk() {
+        assertEquals(Direction.SE, Geometry.getDirection(square(7, 3), square(3, 7)));
+        assertNull(Geometry.getDirection(square(3, 5), square(4, 5)));
+        assertEquals((1L << square(6, 4)) | (1L << square(5, 5)) | (1L << square(4, 6)),
+            Geometry.getBetweenMask(square(7, 3), square(3, 7)));
+        assertEquals(0L, Geometry.getBetweenMask(square(0, 0), square(1, 1)));
+    }
+
+}
@@ -0,0 +1,66 @@
+package es.urjccode.mastercloudapps.adcs.draughts.models;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNull;
+
+import org.junit.Test;
+
+public class HuffingGameTest extends GameTest {
+
+    private static final String[] ROWS = {
+        "        ",
+        "        ",
+        "        ",
+        "  n n   ",
+        " b   b  ",
+        "      b ",
+        "        ",
+        "        " };
+
+    private Color getHuffedColor(long seed) {
+        Game game = new GameBuilder().seed(seed).rows(HuffingGameTest.ROWS).build();
+        assertNull(game.move(new Coordinate(5, 6), new Coordinate(4, 7)));
+        if (game.getColor(new Coordinate(4, 1)) == null)
+            return game.getColor(new Coordinate(4, 5));
+        return game.getColor(new Coordinate(4, 1));
+    }
+
+    private boolean isLeftHuffed(long seed) {
+        Game game = new GameBuilder().seed(seed).rows(HuffingGameTest.ROWS).build();
+        game.move(new Coordinate(5, 6), new Coordinate(4, 7));
+        return game.getColor(new Coordinate(4, 1)) == null;
+    }
+
+    @Test
+    public void testGivenSameSeedWhenMoveWithHuffingThenSameHuffedPiece() {
+        for (long seed = 0; seed < 100; seed++) {
+            assertEquals(Color.WHITE, this.getHuffedColor(seed));
+            assertEquals(this.isLeftHuffed(seed), this.isLeftHuffed(seed));
+        }
+    }
+
+    @Test
+    public void testGivenDifferentSeedsWhenMoveWithHuffingThenEveryCandidateIsHuffed() {
+        int leftHuffs = 0;
+        for (long seed = 0; seed < 100; seed++)
+            if (this.isLeftHuffed(seed))
+                leftHuffs++;
+        assertEquals(true, 0 < leftHuffs && leftHuffs < 100);
+    }
+
+    @Test
+    public void testGivenSeededGamesWhenPlayRandomlyThenSameGames() {
+        Game game = new Game(3);
+        Game replayedGame = new Game(3);
+        MoveBuffer moves = new MoveBuffer();
+        game.generateMoves(moves);
+        while (!moves.isEmpty()) {
+            int move = moves.get(0);
+            game.makeMove(move);
+            replayedGame.makeMove(move);
+            assertEquals(game, replayedGame);
+            game.generateMoves(moves);
+        }
+    }
+
+}
@@ -511,4 +511,38 @@ public class IncorrectMovesPawnGameTest extends GameTest {
             new Coordinate(1, 2));
     }
 
-}
\ No newline at end of file
+    @Test
+    public void testGivenGameWhenMoveWHITEAfterHuffingThenTOO_MUCH_JUMPS() {
+        setGame(Color.WHITE,
+            "        ",
+            "        ",
+            "        ",
+            "  n     ",
+            " b      ",
+            "      b ",
+            "        ",
+            "        ");
+        assertErrorMove(Error.TOO_MUCH_JUMPS,
+            new Coordinate(5, 6),
+            new Coordinate(4, 5),
+            new Coordinate(3, 4));
+    }
+
+    @Test
+    public void testGivenGameWhenMoveWHITEJumpingAfterHuffingThenTOO_MUCH_JUMPS() {
+        setGame(Color.WHITE,
+            "        ",
+            "        ",
+            "        ",
+            "  n   n ",
+            " b      ",
+            "      b ",
+            "        ",
+            "        ");
+        assertErrorMove(Error.TOO_MUCH_JUMPS,
+            new Coordinate(5, 6),
+            new Coordinate(4, 5),
+            new Coordinate(2, 7));
+    }
+
+}
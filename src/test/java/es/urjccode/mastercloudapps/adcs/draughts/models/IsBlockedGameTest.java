@@ -1,7 +1,11 @@
 package es.urjccode.mastercloudapps.adcs.draughts.models;
 
+import static org.junit.Assert.assertEquals;
 import static org.junit.Assert.assertTrue;
 import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertNull;
+
+import java.util.Random;
 
 import org.junit.Test;
 
@@ -104,5 +108,39 @@ public class IsBlockedGameTest extends GameTest {
             "        ");
         assertFalse(this.game.isBlocked());
     }
-    
-}
\ No newline at end of file
+
+    // The way isBlocked used to find out: trying every step and jump of every piece of the side to move.
+    private boolean isBlockedByTrial() {
+        for (int i = 0; i < Coordinate.getDimension(); i++)
+            for (int j = 0; j < Coordinate.getDimension(); j++) {
+                final Coordinate coordinate = Coordinate.getInstance(i, j);
+                if (this.game.getColor(coordinate) == this.game.getTurnColor())
+                    for (int distance = 1; distance <= 2; distance++)
+                        for (Coordinate target : coordinate.getDiagonalCoordinates(distance))
+                            if (this.game.move(coordinate, target) == null) {
+                                this.game.unmakeMove();
+                                return false;
+                            }
+            }
+        return true;
+    }
+
+    @Test
+    public void testGivenRandomGamesWhenIsBlockedThenSameAsTryingEveryMove(){
+        Random random = new Random(0);
+        MoveBuffer moves = new MoveBuffer();
+        for (int i = 0; i < 100; i++) {
+            this.game = new Game(i);
+            this.game.generateMoves(moves);
+            while (!moves.isEmpty()) {
+                assertEquals(this.isBlockedByTrial(), this.game.isBlocked());
+                assertFalse(this.game.isBlocked());
+                assertNull(this.game.move(Move.getCoordinates(moves.get(random.nextInt(moves.size())))));
+                this.game.generateMoves(moves);
+            }
+            assertTrue(this.isBlockedByTrial());
+            assertTrue(this.game.isBlocked());
+        }
+    }
+
+}
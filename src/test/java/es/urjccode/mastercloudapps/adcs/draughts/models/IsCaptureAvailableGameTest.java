@@ -0,0 +1,99 @@
+package es.urjccode.mastercloudapps.adcs.draughts.models;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertTrue;
+
+import java.util.Random;
+
+import org.junit.Test;
+
+public class IsCaptureAvailableGameTest extends GameTest {
+
+    @Test
+    public void testGivenInitialGameWhenIsCaptureAvailableThenFalse(){
+        this.game = new Game();
+        assertFalse(this.game.isCaptureAvailable());
+    }
+
+    @Test
+    public void testGivenGameWhenIsCaptureAvailableWithWhiteJumperThenTrue(){
+        setGame(Color.WHITE,
+            "        ",
+            "        ",
+            "        ",
+            "  n     ",
+            "   b    ",
+            "        ",
+            "        ",
+            "        ");
+        assertTrue(this.game.isCaptureAvailable());
+    }
+
+    @Test
+    public void testGivenGameWhenIsCaptureAvailableWithBlockedLandingThenFalse(){
+        setGame(Color.WHITE,
+            "        ",
+            "        ",
+            " n      ",
+            "  n     ",
+            "   b    ",
+            "        ",
+            "        ",
+            "        ");
+        assertFalse(this.game.isCaptureAvailable());
+    }
+
+    @Test
+    public void testGivenGameWhenIsCaptureAvailableWithBackwardCaptureThenFalse(){
+        setGame(Color.WHITE,
+            "        ",
+            "        ",
+            "        ",
+            "        ",
+            "   b    ",
+            "  n     ",
+            "        ",
+            "        ");
+        assertFalse(this.game.isCaptureAvailable());
+    }
+
+    @Test
+    public void testGivenGameWhenMoveAndUnmakeMoveThenCaptureAvailableUpdated(){
+        setGame(Color.BLACK,
+            "        ",
+            "        ",
+            "        ",
+            "  n     ",
+            "   b    ",
+            "        ",
+            "        ",
+            "        ");
+        assertTrue(this.game.isCaptureAvailable());
+        assertNull(this.game.move(new Coordinate(3, 2), new Coordinate(4, 1)));
+        assertFalse(this.game.isCaptureAvailable());
+        this.game.unmakeMove();
+        assertTrue(this.game.isCaptureAvailable());
+    }
+
+    @Test
+    public void testGivenRandomGamesWhenIsCaptureAvailableThenSameAsGeneratedCaptures(){
+        Random random = new Random(0);
+        MoveBuffer moves = new MoveBuffer();
+        for (int i = 0; i < 100; i++) {
+            this.game = new Game(i);
+            this.game.generateMoves(moves);
+            while (!moves.isEmpty()) {
+                boolean capture = false;
+                for (int j = 0; j < moves.size(); j++)
+                    capture |= Move.isCapture(moves.get(j));
+                assertEquals(capture, this.game.isCaptureAvailable());
+                assertNull(this.game.move(Move.getCoordinates(moves.get(random.nextInt(moves.size())))));
+                this.game.generateMoves(moves);
+            }
+            assertFalse(this.game.isCaptureAvailable());
+        }
+    }
+
+}
@@ -0,0 +1,102 @@
+package es.urjccode.mastercloudapps.adcs.draughts.models;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertTrue;
+
+import java.util.Random;
+
+import org.junit.Test;
+
+public class MakeUnmakeMoveGameTest extends GameTest {
+
+    @Test
+    public void testGivenGameWhenMoveAndUnmakeMoveThenPreviousGame() {
+        this.setGame(Color.WHITE,
+            "        ",
+            "        ",
+            "   n    ",
+            "        ",
+            " n      ",
+            "b       ",
+            "        ",
+            "        ");
+        this.setExpectedGame(Color.WHITE,
+            "        ",
+            "        ",
+            "   n    ",
+            "        ",
+            " n      ",
+            "b       ",
+            "        ",
+            "        ");
+        assertNull(this.game.move(new Coordinate(5, 0), new Coordinate(3, 2), new Coordinate(1, 4)));
+        assertTrue(this.game.isUnmakeable());
+        this.game.unmakeMove();
+        assertEquals(this.expectedGame, this.game);
+    }
+
+    @Test
+    public void testGivenGameWhenMakeMoveWithHuffAndUnmakeMoveThenPreviousGame() {
+        this.setGame(Color.WHITE,
+            "        ",
+            "        ",
+            "        ",
+            "  n     ",
+            " b      ",
+            "      b ",
+            "        ",
+            "        ");
+        this.setExpectedGame(Color.BLACK,
+            "        ",
+            "        ",
+            "        ",
+            "  n     ",
+            "     b  ",
+            "        ",
+            "        ",
+            "        ");
+        int move = Move.getInstance(new Coordinate(5, 6), new Coordinate(4, 5));
+        int huff = new Coordinate(4, 1).getSquare();
+        assertEquals(1L << huff, this.game.getHuffs(move));
+        String before = this.game.toString();
+        this.game.makeMove(move, huff);
+        assertEquals(this.expectedGame, this.game);
+        this.game.unmakeMove();
+        assertEquals(before, this.game.toString());
+    }
+
+    @Test
+    public void testGivenRandomGamesWhenMakeAndUnmakeEveryMoveThenSameGame() {
+        Random random = new Random(1);
+        MoveBuffer moves = new MoveBuffer();
+        for (int i = 0; i < 50; i++) {
+            this.game = new Game();
+            this.game.generateMoves(moves);
+            while (!moves.isEmpty()) {
+                String before = this.game.toString();
+                for (int j = 0; j < moves.size(); j++) {
+                    int move = moves.get(j);
+                    long huffs = this.game.getHuffs(move);
+                    do {
+                        int huff = Game.NO_HUFF;
+                        if (huffs != 0)
+                            huff = Long.numberOfTrailingZeros(huffs);
+                        this.game.makeMove(move, huff);
+                        this.game.unmakeMove();
+                        assertEquals(before, this.game.toString());
+                        huffs &= huffs - 1;
+                    } while (huffs != 0);
+                }
+                this.game.makeMove(moves.get(random.nextInt(moves.size())));
+                this.game.generateMoves(moves);
+            }
+            while (this.game.isUnmakeable())
+                this.game.unmakeMove();
+            assertEquals(new Game(), this.game);
+            assertFalse(this.game.isUnmakeable());
+        }
+    }
+
+}
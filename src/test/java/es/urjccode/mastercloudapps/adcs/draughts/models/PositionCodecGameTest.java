@@ -0,0 +1,131 @@
+package es.urjccode.mastercloudapps.adcs.draughts.models;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+
+import java.nio.ByteBuffer;
+import java.util.SplittableRandom;
+
+import org.junit.Test;
+
+public class PositionCodecGameTest extends GameTest {
+
+    private void assertRoundTrip(Game game) {
+        Game decoded = new Game(0);
+        assertEquals(null, decoded.move(new Coordinate(5, 0), new Coordinate(4, 1)));
+        PositionCodec.decode(PositionCodec.encode(game), decoded);
+        assertEquals(game, decoded);
+        assertEquals(game.getTurnColor(), decoded.getTurnColor());
+        assertEquals(game.positionKey(), decoded.positionKey());
+        assertFalse(decoded.isUnmakeable());
+    }
+
+    private Game[] getRandomGames(int length) {
+        SplittableRandom random = new SplittableRandom(0);
+        MoveBuffer moves = new MoveBuffer();
+        Game[] games = new Game[length];
+        Game game = new Game(0);
+        for (int i = 0; i < games.length; i++) {
+            game.generateMoves(moves);
+            if (moves.isEmpty())
+                game.reset();
+            else
+                game.makeMove(moves.get(random.nextInt(moves.size())));
+            games[i] = game.copy();
+        }
+        return games;
+    }
+
+    @Test
+    public void testGivenInitialGameWhenEncodeAndDecodeThenEqualGame() {
+        this.assertRoundTrip(new Game(0));
+    }
+
+    @Test
+    public void testGivenBlackTurnGameWhenEncodeAndDecodeThenEqualGame() {
+        this.setGame(Color.BLACK,
+            "        ",
+            "  n n   ",
+            "   n    ",
+            "  b     ",
+            "     b  ",
+            "b       ",
+            "        ",
+            "      n ");
+        this.assertRoundTrip(this.game);
+        assertEquals(Color.BLACK, PositionCodec.getTurnColor(PositionCodec.encode(this.game)));
+    }
+
+    @Test
+    public void testGivenThirtyOnePiecesWhenEncodeAndDecodeThenEqualGame() {
+        this.setGame(Color.BLACK,
+            " n n n n",
+            "n n n n ",
+            " n n n n",
+            "n n n n ",
+            " b b b b",
+            "b b b b ",
+            " b b b b",
+            "b b b   ");
+        this.assertRoundTrip(this.game);
+        assertEquals(Color.BLACK, PositionCodec.getTurnColor(PositionCodec.encode(this.game)));
+    }
+
+    @Test(expected = AssertionError.class)
+    public void testGivenThirtyTwoPiecesWhenEncodeThenError() {
+        this.setGame(Color.WHITE,
+            " n n n n",
+            "n n n n ",
+            " n n n n",
+            "n n n n ",
+            " b b b b",
+            "b b b b ",
+            " b b b b",
+            "b b b b ");
+        PositionCodec.encode(this.game);
+    }
+
+    @Test
+    public void testGivenPlayedGamesWhenEncodeAndDecodeThenEqualGames() {
+        for (Game game : this.getRandomGames(1000))
+            this.assertRoundTrip(game);
+    }
+
+    @Test
+    public void testGivenGameWhenEncodePositionThenSameCode() {
+        for (Game game : this.getRandomGames(100))
+            assertEquals(PositionCodec.encode(game), PositionCodec.encode(game.getPosition()));
+    }
+
+    @Test
+    public void testGivenDarkSquaresWhenCompressThenConsecutiveBits() {
+        int dark = 0;
+        for (int i = 0; i < Coordinate.getDimension(); i++)
+            for (int j = 0; j < Coordinate.getDimension(); j++)
+                if (Coordinate.getInstance(i, j).isBlack()) {
+                    final long mask = 1L << Geometry.getSquare(i, j);
+                    assertEquals(1L << dark, PositionCodec.compress(mask));
+                    assertEquals(mask, PositionCodec.expand(1L << dark));
+                    dark++;
+                }
+        assertEquals(32, dark);
+    }
+
+    @Test
+    public void testGivenGamesWhenBulkEncodeAndDecodeThenEqualGames() {
+        final Game[] games = this.getRandomGames(100);
+        ByteBuffer buffer = ByteBuffer.allocate(games.length * PositionCodec.BYTES);
+        PositionCodec.encode(games, buffer);
+        assertEquals(buffer.capacity(), buffer.position());
+        buffer.flip();
+        Game[] decoded = new Game[games.length];
+        for (int i = 0; i < decoded.length; i++)
+            decoded[i] = new Game(0);
+        PositionCodec.decode(buffer, decoded);
+        for (int i = 0; i < games.length; i++) {
+            assertEquals(games[i], decoded[i]);
+            assertEquals(games[i].getTurnColor(), decoded[i].getTurnColor());
+        }
+    }
+
+}
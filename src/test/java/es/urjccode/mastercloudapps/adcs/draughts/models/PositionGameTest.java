@@ -0,0 +1,129 @@
+package es.urjccode.mastercloudapps.adcs.draughts.models;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNotNull;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertTrue;
+
+import java.util.concurrent.atomic.AtomicReference;
+
+import org.junit.Test;
+
+public class PositionGameTest extends GameTest {
+
+    private void assertPosition(Game game) {
+        final Position position = game.getPosition();
+        assertEquals(game.getOccupancy(Color.WHITE), position.getOccupancy(Color.WHITE));
+        assertEquals(game.getOccupancy(Color.BLACK), position.getOccupancy(Color.BLACK));
+        assertEquals(game.getTurnColor(), position.getTurnColor());
+    }
+
+    @Test
+    public void testGivenInitialGameWhenGetPositionThenInitialPosition() {
+        this.game = new Game(0);
+        this.assertPosition(this.game);
+        assertEquals(12, this.game.getPosition().getPieces(Color.WHITE));
+        assertEquals(Color.WHITE, this.game.getPosition().getColor(new Coordinate(5, 0)));
+        assertEquals(Color.BLACK, this.game.getPosition().getColor(new Coordinate(2, 1)));
+        assertNull(this.game.getPosition().getColor(new Coordinate(4, 1)));
+    }
+
+    @Test
+    public void testGivenGameWhenMoveThenNewPositionAndVersion() {
+        this.game = new Game(0);
+        final Position position = this.game.getPosition();
+        assertNull(this.game.move(new Coordinate(5, 0), new Coordinate(4, 1)));
+        this.assertPosition(this.game);
+        assertEquals(position.getVersion() + 1, this.game.getPosition().getVersion());
+        assertEquals(Color.WHITE, position.getTurnColor());
+        assertEquals(Color.WHITE, position.getColor(new Coordinate(5, 0)));
+    }
+
+    @Test
+    public void testGivenGameWhenWrongMoveThenSamePosition() {
+        this.game = new Game(0);
+        final Position position = this.game.getPosition();
+        assertNotNull(this.game.move(new Coordinate(5, 0), new Coordinate(3, 2)));
+        assertEquals(position, this.game.getPosition());
+    }
+
+    @Test
+    public void testGivenGameWhenMakeAndUnmakeMoveThenSamePosition() {
+        this.game = new Game(0);
+        final Position position = this.game.getPosition();
+        MoveBuffer moves = new MoveBuffer();
+        this.game.generateMoves(moves);
+        this.game.makeMove(moves.get(0));
+        assertEquals(position, this.game.getPosition());
+        this.game.unmakeMove();
+        assertEquals(position, this.game.getPosition());
+    }
+
+    @Test
+    public void testGivenGameWhenCancelResetAndSetPositionThenPublished() {
+        this.game = new Game(0);
+        long version = this.game.getPosition().getVersion();
+        this.game.cancel();
+        this.assertPosition(this.game);
+        assertEquals(0, this.game.getPosition().getPieces(Color.WHITE));
+        assertTrue(this.game.getPosition().getVersion() > version);
+        version = this.game.getPosition().getVersion();
+        this.game.reset();
+        this.assertPosition(this.game);
+        assertTrue(this.game.getPosition().getVersion() > version);
+        this.game.setPosition(1L << 1, 1L << 62, Color.BLACK);
+        this.assertPosition(this.game);
+        this.assertPosition(this.game.copy());
+    }
+
+    @Test
+    public void testGivenBuiltGameWhenGetPositionThenBuiltPosition() {
+        setGame(Color.BLACK,
+            "        ",
+            "        ",
+            "        ",
+            "  n     ",
+            "   b    ",
+            "        ",
+            "        ",
+            "        ");
+        this.assertPosition(this.game);
+    }
+
+    @Test
+    public void testGivenWriterWhenReadersReadPositionsThenWholeAndInOrder() throws InterruptedException {
+        this.game = new Game(0);
+        final AtomicReference<String> failure = new AtomicReference<String>();
+        Thread[] readers = new Thread[4];
+        final Game game = this.game;
+        for (int i = 0; i < readers.length; i++) {
+            readers[i] = new Thread(new Runnable() {
+                @Override
+                public void run() {
+                    long version = 0;
+                    for (int j = 0; j < 100000; j++) {
+                        final Position position = game.getPosition();
+                        if (position.getVersion() < version
+                            || (position.getOccupancy(Color.WHITE) & position.getOccupancy(Color.BLACK)) != 0
+                            || position.getPieces(Color.WHITE) > 12 || position.getPieces(Color.BLACK) > 12)
+                            failure.set(position.toString());
+                        version = position.getVersion();
+                    }
+                }
+            });
+            readers[i].start();
+        }
+        MoveBuffer moves = new MoveBuffer();
+        for (int i = 0; i < 2000; i++) {
+            this.game.generateMoves(moves);
+            if (moves.isEmpty())
+                this.game.reset();
+            else
+                assertNull(this.game.move(Move.getCoordinates(moves.get(i % moves.size()))));
+        }
+        for (Thread reader : readers)
+            reader.join();
+        assertNull(failure.get());
+    }
+
+}
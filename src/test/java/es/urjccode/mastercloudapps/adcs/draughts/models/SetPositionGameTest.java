@@ -0,0 +1,53 @@
+package es.urjccode.mastercloudapps.adcs.draughts.models;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertNull;
+
+import org.junit.Test;
+
+public class SetPositionGameTest extends GameTest {
+
+    @Test
+    public void testGivenGameWhenSetPositionThenEqualGame() {
+        this.setGame(Color.BLACK,
+            "        ",
+            "  n n   ",
+            "   n    ",
+            "  b     ",
+            "     b  ",
+            "b       ",
+            "        ",
+            "        ");
+        Game game = new Game(0);
+        assertNull(game.move(new Coordinate(5, 0), new Coordinate(4, 1)));
+        game.setPosition(this.game.getOccupancy(Color.WHITE), this.game.getOccupancy(Color.BLACK), Color.BLACK);
+        assertEquals(this.game, game);
+        assertEquals(this.game.positionKey(), game.positionKey());
+        assertEquals(this.game.isCaptureAvailable(), game.isCaptureAvailable());
+        assertFalse(game.isUnmakeable());
+    }
+
+    @Test
+    public void testGivenGameWhenSetPositionThenSameMoves() {
+        this.setGame(Color.WHITE,
+            "        ",
+            "        ",
+            "   n    ",
+            "  b n   ",
+            "     b  ",
+            "        ",
+            "        ",
+            "        ");
+        Game game = new Game(0);
+        game.setPosition(this.game.getOccupancy(Color.WHITE), this.game.getOccupancy(Color.BLACK), Color.WHITE);
+        MoveBuffer expected = new MoveBuffer();
+        MoveBuffer moves = new MoveBuffer();
+        this.game.generateMoves(expected);
+        game.generateMoves(moves);
+        assertEquals(expected.size(), moves.size());
+        for (int i = 0; i < expected.size(); i++)
+            assertEquals(expected.get(i), moves.get(i));
+    }
+
+}
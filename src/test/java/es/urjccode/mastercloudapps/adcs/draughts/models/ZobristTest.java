@@ -0,0 +1,113 @@
+package es.urjccode.mastercloudapps.adcs.draughts.models;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNotEquals;
+import static org.junit.Assert.assertTrue;
+
+import java.util.Random;
+
+import org.junit.Test;
+
+public class ZobristTest {
+
+    private static final int POSITIONS = Integer.getInteger("zobrist.positions", 200000);
+    private static final int CAPACITY = Integer.highestOneBit(ZobristTest.POSITIONS) * 4;
+
+    private long[] keys;
+    private long[] whites;
+    private long[] blacks;
+    private Color[] turns;
+    private int distincts;
+    private int collisions;
+
+    @Test
+    public void testGivenSamePositionByDifferentMoveOrdersThenSameKey() {
+        Game game = new Game();
+        Game transposedGame = new Game();
+        game.move(new Coordinate(5, 0), new Coordinate(4, 1));
+        game.move(new Coordinate(2, 1), new Coordinate(3, 0));
+        game.move(new Coordinate(5, 6), new Coordinate(4, 7));
+        transposedGame.move(new Coordinate(5, 6), new Coordinate(4, 7));
+        transposedGame.move(new Coordinate(2, 1), new Coordinate(3, 0));
+        transposedGame.move(new Coordinate(5, 0), new Coordinate(4, 1));
+        assertEquals(game, transposedGame);
+        assertEquals(game.positionKey(), transposedGame.positionKey());
+        assertNotEquals(new Game().positionKey(), game.positionKey());
+    }
+
+    @Test
+    public void testGivenSamePiecesWithOtherTurnThenOtherKey() {
+        Game game = new GameBuilder().rows(
+            "        ",
+            "        ",
+            "        ",
+            "        ",
+            " n      ",
+            "b       ",
+            "        ",
+            "        ").build();
+        Game otherTurnGame = new GameBuilder().color(Color.BLACK).rows(
+            "        ",
+            "        ",
+            "        ",
+            "        ",
+            " n      ",
+            "b       ",
+            "        ",
+            "        ").build();
+        assertEquals(game.positionKey() ^ Zobrist.TURN_KEY, otherTurnGame.positionKey());
+    }
+
+    @Test
+    public void testGivenRandomSelfPlayPositionsWhenPositionKeyThenIncrementalAndWithoutCollisions() {
+        this.keys = new long[ZobristTest.CAPACITY];
+        this.whites = new long[ZobristTest.CAPACITY];
+        this.blacks = new long[ZobristTest.CAPACITY];
+        this.turns = new Color[ZobristTest.CAPACITY];
+        Random random = new Random(2);
+        MoveBuffer moves = new MoveBuffer();
+        Game game = new Game();
+        int positions = 0;
+        while (positions < ZobristTest.POSITIONS) {
+            game.generateMoves(moves);
+            if (moves.isEmpty())
+                game.reset();
+            else {
+                int move = moves.get(random.nextInt(moves.size()));
+                int huff = Game.NO_HUFF;
+                long huffs = game.getHuffs(move);
+                for (int i = random.nextInt(Long.bitCount(huffs) + 1); i > 0; i--)
+                    huffs &= huffs - 1;
+                if (huffs != 0)
+                    huff = Long.numberOfTrailingZeros(huffs);
+                game.makeMove(move, huff);
+            }
+            long whites = game.getOccupancy(Color.WHITE);
+            long blacks = game.getOccupancy(Color.BLACK);
+            assertEquals(Zobrist.getKey(whites, blacks, game.getTurnColor()), game.positionKey());
+            this.add(game.positionKey(), whites, blacks, game.getTurnColor());
+            positions++;
+        }
+        assertEquals(0, this.collisions);
+        assertTrue(this.distincts > ZobristTest.POSITIONS / 10);
+    }
+
+    // Positions are the pieces and the turn, so the same pieces with the other side to move must get another key.
+    private void add(long key, long whites, long blacks, Color turn) {
+        int index = (int) (key ^ (key >>> 32)) & (ZobristTest.CAPACITY - 1);
+        while (this.turns[index] != null) {
+            if (this.keys[index] == key) {
+                if (this.whites[index] != whites || this.blacks[index] != blacks || this.turns[index] != turn)
+                    this.collisions++;
+                return;
+            }
+            index = (index + 1) & (ZobristTest.CAPACITY - 1);
+        }
+        this.turns[index] = turn;
+        this.keys[index] = key;
+        this.whites[index] = whites;
+        this.blacks[index] = blacks;
+        this.distincts++;
+    }
+
+}
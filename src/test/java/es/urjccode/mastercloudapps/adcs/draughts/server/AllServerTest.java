@@ -0,0 +1,12 @@
+package es.urjccode.mastercloudapps.adcs.draughts.server;
+
+import org.junit.runner.RunWith;
+import org.junit.runners.Suite;
+
+@RunWith(Suite.class)
+@Suite.SuiteClasses({ 
+    SessionTest.class,
+    GameServerTest.class,
+    ThreadedGameServerTest.class } )
+public final class AllServerTest {
+}
@@ -0,0 +1,173 @@
+package es.urjccode.mastercloudapps.adcs.draughts.server;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
+
+import java.io.BufferedReader;
+import java.io.File;
+import java.io.IOException;
+import java.io.InputStreamReader;
+import java.io.OutputStream;
+import java.net.InetSocketAddress;
+import java.net.Socket;
+import java.net.SocketException;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.TemporaryFolder;
+
+public class GameServerTest {
+
+    @Rule
+    public TemporaryFolder folder = new TemporaryFolder();
+
+    private GameServer server;
+    private int port;
+
+    @Before
+    public void before() throws IOException {
+        this.server = new GameServer(0);
+        this.port = this.server.start();
+    }
+
+    @After
+    public void after() throws InterruptedException {
+        this.server.close();
+    }
+
+    @Test
+    public void testGivenServerWhenConnectAndMoveThenBoards() throws IOException {
+        Socket socket = new Socket("localhost", this.port);
+        try {
+            BufferedReader reader = new BufferedReader(
+                new InputStreamReader(socket.getInputStream(), StandardCharsets.US_ASCII));
+            OutputStream writer = socket.getOutputStream();
+            assertTrue(reader.readLine().startsWith("board white "));
+            writer.write("61.52\r\n-1\nn\n".getBytes(StandardCharsets.US_ASCII));
+            writer.flush();
+            assertTrue(reader.readLine().startsWith("board black "));
+            assertEquals("end black", reader.readLine());
+            assertEquals("bye", reader.readLine());
+            assertEquals(null, reader.readLine());
+        } finally {
+            socket.close();
+        }
+    }
+
+    // Sends the lines and half-closes, then returns every line answered.
+    private List<String> talk(int port, String... lines) throws IOException {
+        Socket socket = new Socket("localhost", port);
+        try {
+            BufferedReader reader = new BufferedReader(
+                new InputStreamReader(socket.getInputStream(), StandardCharsets.US_ASCII));
+            for (String line : lines)
+                socket.getOutputStream().write((line + "\n").getBytes(StandardCharsets.US_ASCII));
+            socket.shutdownOutput();
+            List<String> answers = new ArrayList<String>();
+            for (String answer = reader.readLine(); answer != null; answer = reader.readLine())
+                answers.add(answer);
+            return answers;
+        } finally {
+            socket.close();
+        }
+    }
+
+    @Test
+    public void testGivenJournaledServerWhenRestartThenGameResumedWithItsToken()
+        throws IOException, InterruptedException {
+        final File directory = this.folder.newFolder();
+        GameServer server = new GameServer(0, directory);
+        Socket socket = new Socket("localhost", server.start());
+        String game;
+        String board;
+        try {
+            BufferedReader reader = new BufferedReader(
+                new InputStreamReader(socket.getInputStream(), StandardCharsets.US_ASCII));
+            game = reader.readLine();
+            assertTrue(game.startsWith("game "));
+            assertTrue(reader.readLine().startsWith("board white "));
+            socket.getOutputStream().write("61.52\n32.41\n".getBytes(StandardCharsets.US_ASCII));
+            assertTrue(reader.readLine().startsWith("board black "));
+            board = reader.readLine();
+            assertTrue(board.startsWith("board white "));
+            server.close();
+        } finally {
+            socket.close();
+        }
+        server = new GameServer(0, directory);
+        try {
+            final int port = server.start();
+            assertEquals(1, server.getRecoveredGames());
+            List<String> answers = this.talk(port, "resume 0");
+            assertEquals(3, answers.size());
+            assertTrue(answers.get(1).startsWith("board white "));
+            assertEquals("error UNKNOWN_GAME", answers.get(2));
+            answers = this.talk(port, "resume " + game.substring("game ".length()));
+            assertEquals(Arrays.asList(game, board), answers.subList(2, answers.size()));
+            assertEquals(0, server.getRecoveredGames());
+        } finally {
+            server.close();
+        }
+        server = new GameServer(0, directory);
+        try {
+            server.start();
+            assertEquals(0, server.getRecoveredGames());
+        } finally {
+            server.close();
+        }
+    }
+
+    @Test
+    public void testGivenPipedLinesWhenHalfCloseThenEveryLineAnswered() throws IOException {
+        Socket socket = new Socket("localhost", this.port);
+        try {
+            BufferedReader reader = new BufferedReader(
+                new InputStreamReader(socket.getInputStream(), StandardCharsets.US_ASCII));
+            StringBuilder lines = new StringBuilder();
+            for (int i = 0; i < 100; i++)
+                lines.append("x\n");
+            lines.append("-1\nn\n");
+            socket.getOutputStream().write(lines.toString().getBytes(StandardCharsets.US_ASCII));
+            socket.shutdownOutput();
+            assertTrue(reader.readLine().startsWith("board white "));
+            for (int i = 0; i < 100; i++)
+                assertEquals("error BAD_FORMAT", reader.readLine());
+            assertEquals("end white", reader.readLine());
+            assertEquals("bye", reader.readLine());
+            assertEquals(null, reader.readLine());
+        } finally {
+            socket.close();
+        }
+    }
+
+    @Test
+    public void testGivenServerWhenLineTooLongThenClosed() throws IOException {
+        Socket socket = new Socket("localhost", this.port);
+        try {
+            BufferedReader reader = new BufferedReader(
+                new InputStreamReader(socket.getInputStream(), StandardCharsets.US_ASCII));
+            reader.readLine();
+            socket.getOutputStream().write(new byte[1024]);
+            assertEquals(null, reader.readLine());
+        } catch (SocketException ex) {
+            // The server may reset the connection, since it closes it without reading the rest.
+        } finally {
+            socket.close();
+        }
+    }
+
+    @Test
+    public void testGivenServerWhenLoadClientThenEveryMoveAnswered() throws IOException {
+        LoadResult result = new LoadClient(new InetSocketAddress("localhost", this.port), 50, 40).run();
+        assertEquals(0, result.getErrors());
+        assertEquals(50 * 40, result.getMoves());
+        assertTrue(result.getLatencyNanos(50) <= result.getLatencyNanos(99));
+    }
+
+}
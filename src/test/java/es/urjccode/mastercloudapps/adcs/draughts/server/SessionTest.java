@@ -0,0 +1,77 @@
+package es.urjccode.mastercloudapps.adcs.draughts.server;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+
+import org.junit.Before;
+import org.junit.Test;
+
+public class SessionTest {
+
+    private static final String INITIAL_BOARD = "board white "
+        + "-b-b-b-b"
+        + "b-b-b-b-"
+        + "-b-b-b-b"
+        + "--------"
+        + "--------"
+        + "w-w-w-w-"
+        + "-w-w-w-w"
+        + "w-w-w-w-\n";
+
+    private Session session;
+
+    @Before
+    public void before() {
+        this.session = new Session();
+    }
+
+    @Test
+    public void testGivenSessionWhenStartThenInitialBoard() {
+        assertEquals(SessionTest.INITIAL_BOARD, this.session.start());
+        assertFalse(this.session.isClosed());
+    }
+
+    @Test
+    public void testGivenSessionWhenMoveThenBoardForOpponent() {
+        this.session.start();
+        final String answer = this.session.handle("61.52");
+        assertTrue(answer.startsWith("board black "));
+        assertEquals('-', answer.charAt("board black ".length() + 5 * 8));
+        assertEquals('w', answer.charAt("board black ".length() + 4 * 8 + 1));
+    }
+
+    @Test
+    public void testGivenSessionWhenBadFormatThenError() {
+        this.session.start();
+        assertEquals("error BAD_FORMAT\n", this.session.handle("61-52"));
+        assertEquals("error BAD_FORMAT\n", this.session.handle("61.52x"));
+        assertEquals("error BAD_FORMAT\n", this.session.handle(""));
+    }
+
+    @Test
+    public void testGivenSessionWhenWrongMoveThenError() {
+        this.session.start();
+        assertEquals("error EMPTY_ORIGIN\n", this.session.handle("52.41"));
+        assertEquals("error OPPOSITE_PIECE\n", this.session.handle("32.41"));
+    }
+
+    @Test
+    public void testGivenSessionWhenCancelThenEndAndPlayAgain() {
+        this.session.start();
+        assertEquals("end white\n", this.session.handle("-1"));
+        assertEquals("error BAD_FORMAT\n", this.session.handle("x"));
+        assertEquals(SessionTest.INITIAL_BOARD, this.session.handle("y"));
+        assertFalse(this.session.isClosed());
+    }
+
+    @Test
+    public void testGivenEndedSessionWhenNegativeThenByeAndClosed() {
+        this.session.start();
+        this.session.handle("-1");
+        assertEquals("bye\n", this.session.handle("n"));
+        assertTrue(this.session.isClosed());
+        assertEquals("", this.session.handle("61.52"));
+    }
+
+}
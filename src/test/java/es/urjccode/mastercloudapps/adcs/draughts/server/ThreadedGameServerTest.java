@@ -0,0 +1,76 @@
+package es.urjccode.mastercloudapps.adcs.draughts.server;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
+
+import java.io.IOException;
+import java.io.InputStreamReader;
+import java.io.OutputStream;
+import java.io.Reader;
+import java.net.Socket;
+import java.nio.charset.StandardCharsets;
+
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+
+public class ThreadedGameServerTest {
+
+    private ThreadedGameServer server;
+    private int port;
+
+    @Before
+    public void before() throws IOException {
+        this.server = new ThreadedGameServer(0);
+        this.port = this.server.start();
+    }
+
+    @After
+    public void after() throws IOException, InterruptedException {
+        this.server.close();
+    }
+
+    private String readUntil(Reader reader, String end) throws IOException {
+        StringBuilder string = new StringBuilder();
+        while (string.indexOf(end) < 0) {
+            final int character = reader.read();
+            if (character == -1)
+                return string.toString();
+            string.append((char) character);
+        }
+        return string.toString();
+    }
+
+    @Test
+    public void testGivenServerWhenConnectThenConsoleGameOverSocket() throws IOException {
+        Socket socket = new Socket("localhost", this.port);
+        try {
+            Reader reader = new InputStreamReader(socket.getInputStream(), StandardCharsets.UTF_8);
+            OutputStream writer = socket.getOutputStream();
+            assertTrue(this.readUntil(reader, "Mueven las blancas: ").startsWith("Draughts"));
+            writer.write("61.52\n".getBytes(StandardCharsets.UTF_8));
+            assertTrue(this.readUntil(reader, "Mueven las negras: ").endsWith("Mueven las negras: "));
+            writer.write("-1\nn\n".getBytes(StandardCharsets.UTF_8));
+            assertTrue(this.readUntil(reader, "(y/n): ").endsWith("(y/n): "));
+            assertEquals(-1, reader.read());
+        } finally {
+            socket.close();
+        }
+    }
+
+    @Test
+    public void testGivenSessionsWhenClientsLeaveThenSessionsEnd() throws IOException, InterruptedException {
+        Socket[] sockets = new Socket[10];
+        for (int i = 0; i < sockets.length; i++) {
+            sockets[i] = new Socket("localhost", this.port);
+            this.readUntil(new InputStreamReader(sockets[i].getInputStream(), StandardCharsets.UTF_8), ": ");
+        }
+        assertEquals(sockets.length, this.server.getSessions());
+        for (Socket socket : sockets)
+            socket.close();
+        for (int i = 0; i < 100 && this.server.getSessions() > 0; i++)
+            Thread.sleep(10);
+        assertEquals(0, this.server.getSessions());
+    }
+
+}
@@ -0,0 +1,11 @@
+package es.urjccode.mastercloudapps.adcs.draughts.tournament;
+
+import org.junit.runner.RunWith;
+import org.junit.runners.Suite;
+
+@RunWith(Suite.class)
+@Suite.SuiteClasses({ 
+    SprtTest.class,
+    TournamentTest.class } )
+public final class AllTournamentTest {
+}
@@ -0,0 +1,46 @@
+package es.urjccode.mastercloudapps.adcs.draughts.tournament;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
+
+import org.junit.Test;
+
+public class SprtTest {
+
+    private static final double DELTA = 1e-9;
+
+    @Test
+    public void testGivenEloWhenGetScoreThenInverseOfGetElo() {
+        for (int elo = -800; elo <= 800; elo += 50)
+            assertEquals(elo, Sprt.getElo(Sprt.getScore(elo)), 1e-6);
+        assertEquals(0.5, Sprt.getScore(0), SprtTest.DELTA);
+    }
+
+    @Test
+    public void testGivenWinsAndLossesWhenGetEloThenFromScore() {
+        assertEquals(0, Sprt.getElo(50, 50), SprtTest.DELTA);
+        assertEquals(Sprt.getElo(0.75), Sprt.getElo(75, 25), SprtTest.DELTA);
+        assertTrue(Sprt.getElo(100, 0) > 0);
+        assertTrue(Sprt.getElo(0, 100) < 0);
+        assertTrue(Sprt.getEloError(50, 50) > Sprt.getEloError(500, 500));
+    }
+
+    @Test
+    public void testGivenSprtWhenGetBoundsThenWaldBounds() {
+        Sprt sprt = new Sprt(0, 5, 0.05, 0.05);
+        assertEquals(Math.log(0.05 / 0.95), sprt.getLowerBound(), SprtTest.DELTA);
+        assertEquals(Math.log(0.95 / 0.05), sprt.getUpperBound(), SprtTest.DELTA);
+        assertEquals(0, sprt.getLlr(0, 0), SprtTest.DELTA);
+    }
+
+    @Test
+    public void testGivenSprtWhenGetDecisionThenAcceptsTheCloserHypothesis() {
+        Sprt sprt = new Sprt(0, 20, 0.05, 0.05);
+        assertEquals(Decision.UNDECIDED, sprt.getDecision(10, 10));
+        assertEquals(Decision.ACCEPT_H1, sprt.getDecision(700, 300));
+        assertEquals(Decision.ACCEPT_H0, sprt.getDecision(300, 700));
+        assertTrue(sprt.getLlr(11, 10) > sprt.getLlr(10, 10));
+        assertTrue(sprt.getLlr(10, 11) < sprt.getLlr(10, 10));
+    }
+
+}
@@ -0,0 +1,117 @@
+package es.urjccode.mastercloudapps.adcs.draughts.tournament;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNotEquals;
+import static org.junit.Assert.assertTrue;
+
+import java.io.IOException;
+import java.io.StringWriter;
+import java.util.SplittableRandom;
+
+import org.junit.Test;
+
+import es.urjccode.mastercloudapps.adcs.draughts.models.Game;
+import es.urjccode.mastercloudapps.adcs.draughts.models.MoveBuffer;
+
+public class TournamentTest {
+
+    @Test
+    public void testGivenSpecificationsWhenParseThenNamedEngines() {
+        assertEquals("random", Engine.parse("random").getName());
+        assertEquals("search:depth=2", Engine.parse("search:depth=2").getName());
+        assertEquals("montecarlo:playouts=100", Engine.parse("montecarlo:playouts=100").getName());
+        assertEquals("search:millis=5,nodes=100", Engine.parse("search:millis=5,nodes=100").getName());
+    }
+
+    @Test(expected = IllegalArgumentException.class)
+    public void testGivenUnknownEngineWhenParseThenException() {
+        Engine.parse("oracle");
+    }
+
+    @Test(expected = IllegalArgumentException.class)
+    public void testGivenEngineWithoutLimitsWhenParseThenException() {
+        Engine.parse("search");
+    }
+
+    @Test(expected = IllegalArgumentException.class)
+    public void testGivenBadParameterWhenParseThenException() {
+        Engine.parse("montecarlo:depth=3");
+    }
+
+    @Test
+    public void testGivenSeedWhenGetRandomOpeningThenSamePositionAndMovesLeft() {
+        Game game = new Game(0);
+        Game other = new Game(1);
+        MoveBuffer moves = new MoveBuffer();
+        for (int seed = 0; seed < 50; seed++) {
+            Opening opening = Opening.getRandom(new SplittableRandom(seed), 8);
+            opening.play(game);
+            Opening.getRandom(new SplittableRandom(seed), 8).play(other);
+            assertEquals(game.positionKey(), other.positionKey());
+            assertEquals(game.getTurnColor(), other.getTurnColor());
+            game.generateMoves(moves);
+            assertTrue(!moves.isEmpty());
+        }
+    }
+
+    @Test
+    public void testGivenGamesWhenPlayThenEveryGameWrittenInPairs() throws IOException {
+        Tournament tournament = new Tournament(Engine.parse("random"), Engine.parse("random"), 2);
+        tournament.setGames(21);
+        StringWriter output = new StringWriter();
+        tournament.setOutput(output);
+        TournamentResult result = tournament.play();
+        assertEquals(21, result.getGames());
+        assertEquals(21, result.getWins() + result.getLosses());
+        assertEquals(Decision.UNDECIDED, result.getDecision());
+        final String[] lines = output.toString().split("\n");
+        assertEquals(22, lines.length);
+        int firstWhites = 0;
+        for (int i = 1; i < lines.length; i++)
+            if (lines[i].split("\t")[1].equals("random"))
+                firstWhites++;
+        assertEquals(21, firstWhites);
+    }
+
+    private String play(String first, String second, int games, long seed) throws IOException {
+        Tournament tournament = new Tournament(Engine.parse(first), Engine.parse(second), 1);
+        tournament.setGames(games);
+        tournament.setSeed(seed);
+        StringWriter output = new StringWriter();
+        tournament.setOutput(output);
+        tournament.play();
+        return output.toString();
+    }
+
+    private String play(long seed) throws IOException {
+        return this.play("random", "random", 10, seed);
+    }
+
+    @Test
+    public void testGivenSeedWhenPlayRandomEnginesThenSameGames() throws IOException {
+        assertEquals(this.play(7), this.play(7));
+        assertNotEquals(this.play(7), this.play(8));
+    }
+
+    @Test
+    public void testGivenSeedWhenPlayMonteCarloEngineThenSameGames() throws IOException {
+        assertEquals(this.play("montecarlo:playouts=50", "random", 4, 7),
+            this.play("montecarlo:playouts=50", "random", 4, 7));
+    }
+
+    @Test
+    public void testGivenStrongerFirstEngineWhenPlayWithSprtThenStopsEarlyAcceptingH1() throws IOException {
+        Tournament tournament = new Tournament(Engine.parse("search:depth=2"), Engine.parse("random"), 2);
+        tournament.setGames(1000);
+        tournament.setSprt(new Sprt(0, 100, 0.05, 0.05));
+        StringWriter output = new StringWriter();
+        tournament.setOutput(output);
+        TournamentResult result = tournament.play();
+        assertEquals(Decision.ACCEPT_H1, result.getDecision());
+        assertTrue(result.getGames() < 1000);
+        assertTrue(result.getElo() > 100);
+        assertTrue(result.getLlr() >= new Sprt(0, 100, 0.05, 0.05).getUpperBound());
+        assertEquals(result.getGames() + 1, output.toString().split("\n").length);
+    }
+
+}
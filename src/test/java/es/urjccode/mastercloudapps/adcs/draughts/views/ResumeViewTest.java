@@ -13,6 +13,7 @@ import org.mockito.MockitoAnnotations;
 import org.mockito.junit.MockitoJUnitRunner;
 
 import es.urjccode.mastercloudapps.adcs.draughts.controllers.ResumeController;
+import es.urjccode.mastercloudapps.adcs.draughts.utils.Console;
 import es.urjccode.mastercloudapps.adcs.draughts.utils.YesNoDialog;
 
 @RunWith(MockitoJUnitRunner.class)
@@ -21,6 +22,8 @@ public class ResumeViewTest {
     @Mock
     ResumeController resumeController;
     @Mock
+    Console console;
+    @Mock
     YesNoDialog yesNoDialog;
     @InjectMocks
     ResumeView resumeView;